@@ -0,0 +1,330 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints.maven;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.cactoos.map.MapEntry;
+import org.eolang.lints.Defect;
+import org.eolang.lints.DefectCache;
+import org.eolang.lints.Program;
+import org.eolang.lints.Programs;
+import org.eolang.lints.Severity;
+
+/**
+ * Lint all XMIR files of the project.
+ *
+ * <p>All {@code .xmir} files in the directory, which is {@code target/}
+ * by default, are linted by mono lints on a pool of threads, one per core,
+ * and then together, by WPA lints.</p>
+ *
+ * <p>The EO compiler keeps one XMIR of each program per stage, for example
+ * in {@code target/eo/1-parse/org/foo.xmir} and
+ * {@code target/eo/2-shake/org/foo.xmir}. That's why, when a few files
+ * have the same path after the directory of the stage, only the first
+ * of them, in the order of their paths, is linted, which is the earliest
+ * stage. Otherwise, every program would be linted a few times, and WPA
+ * would find every its object not unique. Programs with the same name in
+ * different packages are in different paths, and all of them are linted.</p>
+ *
+ * <p>Defects
+ * of each file, together with the hash of its content and the version of
+ * lints, are kept in a state directory in {@code target/}, and files which
+ * didn't change since the previous build are neither parsed nor linted
+ * again. The same is true for WPA, where only changed files are parsed.</p>
+ *
+ * @since 0.1.0
+ */
+@Mojo(name = "lint", defaultPhase = LifecyclePhase.VERIFY, threadSafe = true)
+public final class LintMojo extends AbstractMojo {
+
+    /**
+     * The first directory of a compiler stage in a key, like {@code 1-parse/}.
+     */
+    private static final Pattern STAGE = Pattern.compile("(^|/)[0-9]+-[^/]+/");
+
+    /**
+     * Directory with XMIR files to lint, recursively.
+     */
+    @Parameter(property = "lints.directory", defaultValue = "${project.build.directory}")
+    private File directory;
+
+    /**
+     * Directory to keep the state of lints in, between builds.
+     */
+    @Parameter(property = "lints.state", defaultValue = "${project.build.directory}/lints")
+    private File state;
+
+    /**
+     * Number of threads, or zero, to use one thread per core.
+     */
+    @Parameter(property = "lints.threads", defaultValue = "0")
+    private int threads;
+
+    /**
+     * The lowest severity, which fails the build: "critical",
+     * "error", or "warning".
+     */
+    @Parameter(property = "lints.failOn", defaultValue = "error")
+    private String failOn;
+
+    /**
+     * Run WPA lints too.
+     */
+    @Parameter(property = "lints.wpa", defaultValue = "true")
+    private boolean wpa;
+
+    /**
+     * Skip linting.
+     */
+    @Parameter(property = "lints.skip", defaultValue = "false")
+    private boolean skip;
+
+    @Override
+    public void execute() throws MojoExecutionException, MojoFailureException {
+        if (this.skip) {
+            this.getLog().info("Linting is skipped");
+        } else {
+            final Severity threshold = Severity.parsed(this.failOn);
+            final long start = System.currentTimeMillis();
+            final Map<String, Path> files;
+            int failures;
+            try {
+                files = this.files();
+                failures = this.mono(files.values(), threshold);
+                if (this.wpa && !files.isEmpty()) {
+                    failures += this.reported(
+                        new Programs(files, this.state.toPath()).defects(),
+                        threshold
+                    );
+                }
+            } catch (final IOException ex) {
+                throw new MojoExecutionException("Failed to lint XMIR files", ex);
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new MojoExecutionException("Linting was interrupted", ex);
+            }
+            this.getLog().info(
+                String.format(
+                    "%d XMIR file(s) linted in %d ms, %d defect(s) at or above '%s'",
+                    files.size(), System.currentTimeMillis() - start,
+                    failures, threshold.mnemo()
+                )
+            );
+            if (failures > 0) {
+                throw new MojoFailureException(
+                    String.format(
+                        "%d defect(s) at or above '%s' found, see the log above",
+                        failures, threshold.mnemo()
+                    )
+                );
+            }
+        }
+    }
+
+    /**
+     * Lint files by mono lints, in parallel, reporting defects of each file
+     * as soon as it's done.
+     * @param files Files
+     * @param threshold The lowest severity, which fails the build
+     * @return Number of defects, which fail the build
+     * @throws InterruptedException If interrupted
+     */
+    private int mono(final Collection<Path> files, final Severity threshold)
+        throws InterruptedException {
+        int failures = 0;
+        final DefectCache cache = new DefectCache(this.state.toPath());
+        final ExecutorService pool = Executors.newFixedThreadPool(this.pool());
+        try {
+            final CompletionService<Map.Entry<Path, Collection<Defect>>> done =
+                new ExecutorCompletionService<>(pool);
+            for (final Path file : files) {
+                done.submit(() -> new MapEntry<>(file, new Program(file).with(cache).defects()));
+            }
+            for (int idx = 0; idx < files.size(); ++idx) {
+                final Future<Map.Entry<Path, Collection<Defect>>> future = done.take();
+                try {
+                    final Map.Entry<Path, Collection<Defect>> ent = future.get();
+                    failures += this.reported(ent.getKey(), ent.getValue(), threshold);
+                } catch (final ExecutionException ex) {
+                    this.getLog().error(
+                        String.format("Failed to lint: %s", ex.getCause().getMessage())
+                    );
+                    failures += 1;
+                }
+            }
+            try {
+                final int dead = cache.compact();
+                if (dead > 0) {
+                    this.getLog().info(
+                        String.format("Removed %d stale records from the cache of defects", dead)
+                    );
+                }
+            } catch (final IOException ex) {
+                this.getLog().warn(
+                    String.format("Failed to compact the cache of defects: %s", ex.getMessage())
+                );
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        return failures;
+    }
+
+    /**
+     * Log defects of WPA.
+     * @param defects Defects
+     * @param threshold The lowest severity, which fails the build
+     * @return Number of defects, which fail the build
+     */
+    private int reported(final Collection<Defect> defects, final Severity threshold) {
+        int failures = 0;
+        for (final Defect defect : defects) {
+            failures += this.reported(defect.program(), defect, threshold);
+        }
+        return failures;
+    }
+
+    /**
+     * Log defects of a single file.
+     * @param file The file
+     * @param defects Defects
+     * @param threshold The lowest severity, which fails the build
+     * @return Number of defects, which fail the build
+     */
+    private int reported(final Path file, final Collection<Defect> defects,
+        final Severity threshold) {
+        int failures = 0;
+        for (final Defect defect : defects) {
+            failures += this.reported(file.toString(), defect, threshold);
+        }
+        return failures;
+    }
+
+    /**
+     * Log a defect.
+     * @param where File or program
+     * @param defect The defect
+     * @param threshold The lowest severity, which fails the build
+     * @return One, if the defect fails the build, zero otherwise
+     */
+    private int reported(final String where, final Defect defect, final Severity threshold) {
+        final String line = String.format(
+            "%s:%d: [%s] %s: %s",
+            where, defect.line(), defect.severity().mnemo(), defect.rule(), defect.text()
+        );
+        final int failure;
+        if (defect.severity().compareTo(threshold) <= 0) {
+            this.getLog().error(line);
+            failure = 1;
+        } else {
+            this.getLog().warn(line);
+            failure = 0;
+        }
+        return failure;
+    }
+
+    /**
+     * XMIR files in the directory, one per program.
+     * @return Files, by their keys, which are paths relative to the directory
+     * @throws IOException If fails
+     */
+    private Map<String, Path> files() throws IOException {
+        final List<Path> all;
+        final Path dir = this.directory.toPath();
+        if (Files.isDirectory(dir)) {
+            try (Stream<Path> walk = Files.walk(dir)) {
+                all = walk
+                    .filter(Files::isRegularFile)
+                    .filter(path -> path.getFileName().toString().endsWith(".xmir"))
+                    .sorted()
+                    .collect(Collectors.toList());
+            }
+        } else {
+            all = Collections.emptyList();
+        }
+        final Set<String> programs = new HashSet<>(all.size());
+        final Map<String, Path> files = new TreeMap<>();
+        for (final Path file : all) {
+            final String key = dir.relativize(file).toString()
+                .replace(File.separatorChar, '/')
+                .replaceAll("\\.xmir$", "");
+            final String program = LintMojo.STAGE.matcher(key).replaceFirst("$1*/");
+            if (programs.add(program)) {
+                files.put(key, file);
+            } else {
+                this.getLog().info(
+                    String.format("The program '%s' is linted already, skipping %s", program, file)
+                );
+            }
+        }
+        if (files.size() < all.size()) {
+            this.getLog().info(
+                String.format(
+                    "%d XMIR file(s) skipped, since their programs are in earlier stages",
+                    all.size() - files.size()
+                )
+            );
+        }
+        return files;
+    }
+
+    /**
+     * Number of threads to lint in.
+     * @return Threads
+     */
+    private int pool() {
+        final int size;
+        if (this.threads > 0) {
+            size = this.threads;
+        } else {
+            size = Runtime.getRuntime().availableProcessors();
+        }
+        return size;
+    }
+}
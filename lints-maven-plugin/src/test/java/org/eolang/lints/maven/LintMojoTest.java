@@ -0,0 +1,204 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints.maven;
+
+import com.yegor256.Mktmp;
+import com.yegor256.MktmpResolver;
+import com.yegor256.farea.Farea;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.cactoos.io.InputOf;
+import org.eolang.parser.EoSyntax;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * Test for {@link LintMojo}.
+ *
+ * @since 0.1.0
+ */
+@ExtendWith(MktmpResolver.class)
+final class LintMojoTest {
+
+    @Test
+    void failsOnCriticalDefects(@Mktmp final Path temp) throws IOException {
+        new Farea(temp).together(
+            f -> {
+                f.clean();
+                f.files().file("target/eo/foo.xmir").write(
+                    LintMojoTest.xmir("# First.\n[] > foo\n# Second.\n[] > foo\n")
+                );
+                f.build().plugins().appendItself().execution()
+                    .phase("verify").goals("lint");
+                MatcherAssert.assertThat(
+                    "build must fail",
+                    f.execQuiet("verify"),
+                    Matchers.not(Matchers.equalTo(0))
+                );
+                MatcherAssert.assertThat(
+                    "critical defect must be reported",
+                    f.log().content(),
+                    Matchers.containsString("[critical] duplicate-names")
+                );
+            }
+        );
+    }
+
+    @Test
+    void skipsUnchangedFiles(@Mktmp final Path temp) throws IOException {
+        new Farea(temp).together(
+            f -> {
+                f.clean();
+                f.files().file("target/eo/bar.xmir").write(
+                    LintMojoTest.xmir("# Bar.\n[] > bar\n")
+                );
+                f.build().plugins().appendItself().execution()
+                    .phase("verify").goals("lint")
+                    .configuration().set("failOn", "critical");
+                f.exec("verify");
+                final Path state = temp.resolve("target/lints/defects.txt");
+                final long size = Files.size(state);
+                f.exec("verify");
+                MatcherAssert.assertThat(
+                    "defects of unchanged files must not be stored again",
+                    Files.size(state),
+                    Matchers.equalTo(size)
+                );
+                MatcherAssert.assertThat(
+                    "defects of unchanged files must be reported again",
+                    f.log().content(),
+                    Matchers.containsString("bar.xmir:0: [warning] mandatory-package")
+                );
+            }
+        );
+    }
+
+    @Test
+    void lintsOnlyConfiguredDirectory(@Mktmp final Path temp) throws IOException {
+        new Farea(temp).together(
+            f -> {
+                f.clean();
+                f.files().file("target/other/baz.xmir").write(
+                    LintMojoTest.xmir("# First.\n[] > baz\n# Second.\n[] > baz\n")
+                );
+                f.build().plugins().appendItself().execution()
+                    .phase("verify").goals("lint");
+                MatcherAssert.assertThat(
+                    "files anywhere in target/ must be linted by default",
+                    f.execQuiet("verify"),
+                    Matchers.not(Matchers.equalTo(0))
+                );
+                f.build().plugins().appendItself().execution()
+                    .phase("verify").goals("lint")
+                    .configuration().set("directory", "${project.build.directory}/eo");
+                MatcherAssert.assertThat(
+                    "files outside of the configured directory must not be linted",
+                    f.execQuiet("verify"),
+                    Matchers.equalTo(0)
+                );
+            }
+        );
+    }
+
+    @Test
+    void lintsProgramOfManyStagesOnce(@Mktmp final Path temp) throws IOException {
+        new Farea(temp).together(
+            f -> {
+                f.clean();
+                for (final String stage : new String[] {"1-parse", "2-shake"}) {
+                    f.files().file(String.format("target/eo/%s/org/eolang/qux.xmir", stage))
+                        .write(LintMojoTest.xmir("qux", "# Qux.\n[] > qux\n"));
+                }
+                f.build().plugins().appendItself().execution()
+                    .phase("verify").goals("lint")
+                    .configuration().set("failOn", "critical");
+                f.exec("verify");
+                MatcherAssert.assertThat(
+                    "the program must be linted only once, from the earliest stage",
+                    f.log().content(),
+                    Matchers.allOf(
+                        Matchers.containsString("1 XMIR file(s) linted"),
+                        Matchers.containsString("1-parse"),
+                        Matchers.containsString("skipping"),
+                        Matchers.not(Matchers.containsString("2-shake/org/eolang/qux.xmir:")),
+                        Matchers.not(Matchers.containsString("object-is-not-unique"))
+                    )
+                );
+            }
+        );
+    }
+
+    @Test
+    void lintsProgramsOfSameNameInDifferentPackages(@Mktmp final Path temp)
+        throws IOException {
+        new Farea(temp).together(
+            f -> {
+                f.clean();
+                for (final String pkg : new String[] {"a", "b"}) {
+                    f.files().file(String.format("target/eo/1-parse/org/%s/main.xmir", pkg))
+                        .write(LintMojoTest.xmir("main", "# Main.\n[] > main\n"));
+                }
+                f.build().plugins().appendItself().execution()
+                    .phase("verify").goals("lint")
+                    .configuration().set("failOn", "critical");
+                f.exec("verify");
+                MatcherAssert.assertThat(
+                    "both programs must be linted, since their packages differ",
+                    f.log().content(),
+                    Matchers.allOf(
+                        Matchers.containsString("2 XMIR file(s) linted"),
+                        Matchers.not(Matchers.containsString("skipping"))
+                    )
+                );
+            }
+        );
+    }
+
+    /**
+     * XMIR of EO program.
+     * @param source EO source
+     * @return XMIR bytes
+     * @throws IOException If fails
+     */
+    private static byte[] xmir(final String source) throws IOException {
+        return new EoSyntax(new InputOf(source)).parsed().toString()
+            .getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * XMIR of EO program with the name.
+     * @param name Name of the program
+     * @param source EO source
+     * @return XMIR bytes
+     * @throws IOException If fails
+     */
+    private static byte[] xmir(final String name, final String source) throws IOException {
+        return new EoSyntax(name, new InputOf(source)).parsed().toString()
+            .getBytes(StandardCharsets.UTF_8);
+    }
+}
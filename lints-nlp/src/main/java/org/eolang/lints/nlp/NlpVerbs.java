@@ -0,0 +1,137 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints.nlp;
+
+import edu.stanford.nlp.pipeline.StanfordCoreNLP;
+import java.nio.file.Paths;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+import org.eolang.lints.misc.Verbs;
+
+/**
+ * Verbs in singular, by the Stanford CoreNLP part-of-speech tagger.
+ *
+ * <p>The tagger and its models (~452mb) are shipped only with this
+ * module, not with the core {@code lints} artifact. The engine is
+ * registered as a service of {@link Verbs}, so that
+ * {@link org.eolang.lints.misc.LtTestNotVerb} finds it through the
+ * {@link java.util.ServiceLoader}, when this module is on the classpath,
+ * and uses the {@link org.eolang.lints.misc.VerbLexicon} otherwise.</p>
+ *
+ * @since 0.1.0
+ */
+public final class NlpVerbs implements Verbs {
+
+    /**
+     * Tags of words, shared by all engines with the default pipeline.
+     */
+    private static final Map<String, String> SHARED = PosTags.lru(PosTags.CAPACITY);
+
+    /**
+     * Part-of-speech tags.
+     */
+    private final PosTags tags;
+
+    /**
+     * Start loading the pipeline, if it is not loaded yet.
+     */
+    private final Runnable start;
+
+    /**
+     * Ctor.
+     *
+     * <p>The pipeline is shared by the entire JVM and loaded in the
+     * background, as soon as a program with tests is met, see
+     * {@link SharedPipeline}. Tags of words are cached in memory, for the
+     * entire JVM too. If the {@code org.eolang.lints.pos-cache} system
+     * property is set, they are also kept in the file it points to, for
+     * the next runs.</p>
+     */
+    public NlpVerbs() {
+        this(new SharedPipeline());
+    }
+
+    /**
+     * Ctor.
+     * @param props Pipeline properties
+     */
+    public NlpVerbs(final Properties props) {
+        this(new StanfordCoreNLP(props));
+    }
+
+    /**
+     * Ctor.
+     * @param pipe NLP pipeline
+     */
+    public NlpVerbs(final StanfordCoreNLP pipe) {
+        this(new PosTags(pipe));
+    }
+
+    /**
+     * Ctor.
+     * @param pos Part-of-speech tags
+     */
+    NlpVerbs(final PosTags pos) {
+        this(pos, () -> { });
+    }
+
+    /**
+     * Ctor.
+     * @param pipe The pipeline, shared by the entire JVM
+     */
+    private NlpVerbs(final SharedPipeline pipe) {
+        this(
+            new PosTags(
+                pipe,
+                NlpVerbs.SHARED,
+                Optional.ofNullable(System.getProperty("org.eolang.lints.pos-cache"))
+                    .map(Paths::get)
+            ),
+            pipe::start
+        );
+    }
+
+    /**
+     * Primary ctor.
+     * @param pos Part-of-speech tags
+     * @param loading Start loading the pipeline
+     */
+    NlpVerbs(final PosTags pos, final Runnable loading) {
+        this.tags = pos;
+        this.start = loading;
+    }
+
+    @Override
+    public Set<String> singular(final Collection<String> words) {
+        return this.tags.singular(words);
+    }
+
+    @Override
+    public void prepare() {
+        this.start.run();
+    }
+}
@@ -0,0 +1,302 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints.nlp;
+
+import edu.stanford.nlp.ling.CoreAnnotations;
+import edu.stanford.nlp.ling.CoreLabel;
+import edu.stanford.nlp.pipeline.Annotation;
+import edu.stanford.nlp.pipeline.StanfordCoreNLP;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.cactoos.Scalar;
+import org.cactoos.scalar.Sticky;
+import org.cactoos.scalar.Synced;
+import org.cactoos.scalar.Unchecked;
+import org.eolang.lints.misc.Verbs;
+
+/**
+ * Part-of-speech tags of words, which start test names.
+ *
+ * <p>Each word is tagged as the second token of the "It &lt;word&gt;"
+ * sentence, only once: tags are kept in a bounded cache, which may be
+ * shared by many objects. Words missing in the cache are tagged in one
+ * batch, by one call to the pipeline. Optionally, tags are also kept in
+ * a file, which lets warm runs skip tagging at all. The file is locked
+ * while being read or appended, since it may be shared by many JVMs.</p>
+ *
+ * <p>The class is thread-safe.</p>
+ *
+ * @since 0.1.0
+ */
+final class PosTags implements Verbs {
+
+    /**
+     * Max number of words in the cache.
+     */
+    static final int CAPACITY = 10_000;
+
+    /**
+     * Tag of a word, which is not a separate token in the sentence.
+     */
+    static final String NONE = "-NONE-";
+
+    /**
+     * NLP pipeline, asked for only when there are words to tag.
+     */
+    private final Unchecked<StanfordCoreNLP> pipeline;
+
+    /**
+     * Tags by words.
+     */
+    private final Map<String, String> cache;
+
+    /**
+     * The file with tags, if any.
+     */
+    private final Optional<Path> disk;
+
+    /**
+     * Tags loaded from the file.
+     */
+    private final Unchecked<Map<String, String>> stored;
+
+    /**
+     * Ctor.
+     * @param pipe NLP pipeline
+     */
+    PosTags(final StanfordCoreNLP pipe) {
+        this(pipe, PosTags.lru(PosTags.CAPACITY), Optional.empty());
+    }
+
+    /**
+     * Ctor.
+     * @param pipe NLP pipeline
+     * @param tags Tags by words, thread-safe
+     * @param file The file with tags, if any
+     */
+    PosTags(final StanfordCoreNLP pipe, final Map<String, String> tags,
+        final Optional<Path> file) {
+        this(() -> pipe, tags, file);
+    }
+
+    /**
+     * Ctor.
+     * @param pipe NLP pipeline, which may be still loading
+     * @param tags Tags by words, thread-safe
+     * @param file The file with tags, if any
+     */
+    PosTags(final Scalar<StanfordCoreNLP> pipe, final Map<String, String> tags,
+        final Optional<Path> file) {
+        this.pipeline = new Unchecked<>(pipe);
+        this.cache = tags;
+        this.disk = file;
+        this.stored = new Unchecked<>(
+            new Synced<>(new Sticky<>(() -> PosTags.load(file)))
+        );
+    }
+
+    /**
+     * Bounded thread-safe cache, which evicts the least recently used words.
+     * @param capacity Max number of words
+     * @return Cache
+     */
+    static Map<String, String> lru(final int capacity) {
+        return Collections.synchronizedMap(
+            new LinkedHashMap<String, String>(16, 0.75f, true) {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(final Map.Entry<String, String> eldest) {
+                    return this.size() > capacity;
+                }
+            }
+        );
+    }
+
+    @Override
+    public Set<String> singular(final Collection<String> words) {
+        final Set<String> singular = new HashSet<>(words.size());
+        for (final Map.Entry<String, String> tag : this.tags(words).entrySet()) {
+            if ("VBZ".equals(tag.getValue())) {
+                singular.add(tag.getKey());
+            }
+        }
+        return singular;
+    }
+
+    /**
+     * Tags of words.
+     * @param words Words, in lower case
+     * @return Tags by words
+     */
+    Map<String, String> tags(final Collection<String> words) {
+        final Map<String, String> tags = new HashMap<>(words.size());
+        final Collection<String> missing = new LinkedHashSet<>(0);
+        for (final String word : words) {
+            String tag = this.cache.get(word);
+            if (tag == null) {
+                tag = this.stored.value().get(word);
+                if (tag != null) {
+                    this.cache.put(word, tag);
+                }
+            }
+            if (tag == null) {
+                missing.add(word);
+            } else {
+                tags.put(word, tag);
+            }
+        }
+        if (!missing.isEmpty()) {
+            final Map<String, String> fresh = this.tagged(missing);
+            this.cache.putAll(fresh);
+            tags.putAll(fresh);
+            this.save(fresh);
+        }
+        return tags;
+    }
+
+    /**
+     * Tag words in one batch.
+     * @param words Words
+     * @return Tags by words
+     */
+    private Map<String, String> tagged(final Collection<String> words) {
+        final List<Annotation> docs = new ArrayList<>(words.size());
+        for (final String word : words) {
+            docs.add(new Annotation(String.format("It %s", word)));
+        }
+        this.pipeline.value().annotate(docs);
+        final Map<String, String> tags = new LinkedHashMap<>(words.size());
+        int idx = 0;
+        for (final String word : words) {
+            final List<CoreLabel> tokens = docs.get(idx).get(
+                CoreAnnotations.TokensAnnotation.class
+            );
+            final String tag;
+            if (tokens.size() < 2) {
+                tag = PosTags.NONE;
+            } else {
+                tag = tokens.get(1).get(CoreAnnotations.PartOfSpeechAnnotation.class);
+            }
+            tags.put(word, tag);
+            ++idx;
+        }
+        return tags;
+    }
+
+    /**
+     * Append new tags to the file, if there is one.
+     *
+     * <p>The file is locked while being written, because it may be
+     * shared by many JVMs, for example by parallel builds.</p>
+     *
+     * @param tags Tags by words
+     */
+    private void save(final Map<String, String> tags) {
+        if (this.disk.isPresent()) {
+            final StringBuilder lines = new StringBuilder(0);
+            for (final Map.Entry<String, String> tag : tags.entrySet()) {
+                lines.append(tag.getKey()).append('\t').append(tag.getValue()).append('\n');
+            }
+            synchronized (PosTags.class) {
+                try {
+                    if (this.disk.get().getParent() != null) {
+                        Files.createDirectories(this.disk.get().getParent());
+                    }
+                    try (FileChannel channel = FileChannel.open(
+                        this.disk.get(), StandardOpenOption.CREATE,
+                        StandardOpenOption.WRITE, StandardOpenOption.APPEND
+                    )) {
+                        final FileLock lock = channel.lock();
+                        try {
+                            final ByteBuffer buf = ByteBuffer.wrap(
+                                lines.toString().getBytes(StandardCharsets.UTF_8)
+                            );
+                            while (buf.hasRemaining()) {
+                                channel.write(buf);
+                            }
+                        } finally {
+                            lock.release();
+                        }
+                    }
+                } catch (final IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            }
+        }
+    }
+
+    /**
+     * Load tags from the file.
+     * @param file The file, if any
+     * @return Tags by words, empty if there is no file
+     * @throws IOException If fails
+     */
+    private static Map<String, String> load(final Optional<Path> file) throws IOException {
+        final Map<String, String> tags = new HashMap<>(0);
+        if (file.isPresent() && Files.exists(file.get())) {
+            final String text;
+            synchronized (PosTags.class) {
+                try (FileChannel channel = FileChannel.open(file.get(), StandardOpenOption.READ)) {
+                    final FileLock lock = channel.lock(0L, Long.MAX_VALUE, true);
+                    try {
+                        final ByteBuffer buf = ByteBuffer.allocate((int) channel.size());
+                        int read = 0;
+                        while (buf.hasRemaining() && read >= 0) {
+                            read = channel.read(buf);
+                        }
+                        text = new String(buf.array(), 0, buf.position(), StandardCharsets.UTF_8);
+                    } finally {
+                        lock.release();
+                    }
+                }
+            }
+            for (final String line : text.split("\n")) {
+                final String[] parts = line.split("\t");
+                if (parts.length == 2) {
+                    tags.put(parts[0], parts[1]);
+                }
+            }
+        }
+        return tags;
+    }
+}
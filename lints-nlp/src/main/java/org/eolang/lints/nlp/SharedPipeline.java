@@ -0,0 +1,120 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints.nlp;
+
+import edu.stanford.nlp.pipeline.StanfordCoreNLP;
+import java.util.Properties;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.cactoos.Scalar;
+
+/**
+ * NLP pipeline with default properties, shared by the entire JVM.
+ *
+ * <p>The pipeline is loaded only once, by a daemon thread, which is started
+ * by {@link #start()}, as soon as {@link NlpVerbs} is asked to get ready
+ * for a program with tests. While it's loading, the lint collects the
+ * names of tests and other lints run. {@link #value()} only waits for
+ * the loading to finish; it happens only when there is a word, which is
+ * not in the cache of tags. This way, the model, which takes about a
+ * second of CPU and hundreds of megabytes of heap, is never loaded by
+ * the JVMs, which never see tests.</p>
+ *
+ * @since 0.1.0
+ */
+final class SharedPipeline implements Scalar<StanfordCoreNLP> {
+
+    /**
+     * The pipeline, loaded on first request.
+     */
+    private static final FutureTask<StanfordCoreNLP> SHARED = new FutureTask<>(
+        () -> {
+            final Properties props = new Properties();
+            props.setProperty("annotators", "tokenize,pos");
+            return new StanfordCoreNLP(props);
+        }
+    );
+
+    /**
+     * The shared pipeline is being loaded already.
+     */
+    private static final AtomicBoolean STARTED = new AtomicBoolean();
+
+    /**
+     * The pipeline to load.
+     */
+    private final FutureTask<StanfordCoreNLP> loading;
+
+    /**
+     * The pipeline is being loaded already.
+     */
+    private final AtomicBoolean started;
+
+    /**
+     * Ctor.
+     */
+    SharedPipeline() {
+        this(SharedPipeline.SHARED, SharedPipeline.STARTED);
+    }
+
+    /**
+     * Ctor.
+     * @param task The pipeline to load
+     */
+    SharedPipeline(final FutureTask<StanfordCoreNLP> task) {
+        this(task, new AtomicBoolean());
+    }
+
+    /**
+     * Primary ctor.
+     * @param task The pipeline to load
+     * @param flag The pipeline is being loaded already
+     */
+    SharedPipeline(final FutureTask<StanfordCoreNLP> task, final AtomicBoolean flag) {
+        this.loading = task;
+        this.started = flag;
+    }
+
+    @Override
+    public StanfordCoreNLP value() throws InterruptedException {
+        this.start();
+        try {
+            return this.loading.get();
+        } catch (final ExecutionException ex) {
+            throw new IllegalStateException("Failed to load NLP pipeline", ex.getCause());
+        }
+    }
+
+    /**
+     * Start loading the pipeline in the background, only the first time.
+     */
+    void start() {
+        if (this.started.compareAndSet(false, true)) {
+            final Thread thread = new Thread(this.loading, "lints-nlp-pipeline");
+            thread.setDaemon(true);
+            thread.start();
+        }
+    }
+}
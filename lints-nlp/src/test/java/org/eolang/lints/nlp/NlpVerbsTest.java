@@ -0,0 +1,105 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints.nlp;
+
+import com.jcabi.xml.XML;
+import com.yegor256.MayBeSlow;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.ServiceLoader;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+import org.cactoos.io.ResourceOf;
+import org.eolang.lints.misc.LtTestNotVerb;
+import org.eolang.lints.misc.VerbLexicon;
+import org.eolang.lints.misc.Verbs;
+import org.eolang.parser.EoSyntax;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Test for {@link NlpVerbs}.
+ *
+ * @since 0.1.0
+ */
+final class NlpVerbsTest {
+
+    @Test
+    @ExtendWith(MayBeSlow.class)
+    void findsVerbsInSingular() {
+        MatcherAssert.assertThat(
+            "verbs in singular must be found",
+            new NlpVerbs().singular(Arrays.asList("returns", "regex", "checks", "nothing")),
+            Matchers.containsInAnyOrder("returns", "checks")
+        );
+    }
+
+    @Test
+    @ExtendWith(MayBeSlow.class)
+    void isRegisteredAsService() {
+        MatcherAssert.assertThat(
+            "engine must be found by the service loader",
+            StreamSupport.stream(ServiceLoader.load(Verbs.class).spliterator(), false)
+                .map(Object::getClass)
+                .collect(Collectors.toList()),
+            Matchers.contains(NlpVerbs.class)
+        );
+    }
+
+    @Test
+    @ExtendWith(MayBeSlow.class)
+    void isUsedByLintByDefault() {
+        MatcherAssert.assertThat(
+            "the tagger must be used, when it is on the classpath",
+            new LtTestNotVerb().engine(),
+            Matchers.equalTo(NlpVerbs.class.getName())
+        );
+    }
+
+    @ParameterizedTest
+    @ExtendWith(MayBeSlow.class)
+    @ValueSource(strings = {"bad-tests.eo", "good-tests.eo", "regex-tests.eo"})
+    void givesSameDefectsAsLexicon(final String eo) throws IOException {
+        final XML xmir = new EoSyntax(
+            new ResourceOf(
+                String.format("org/eolang/lints/misc/test-object-is-not-verb-in-singular/%s", eo)
+            )
+        ).parsed();
+        MatcherAssert.assertThat(
+            "tagger must find the same defects as the lexicon",
+            new LtTestNotVerb(new NlpVerbs()).defects(xmir).stream()
+                .map(Object::toString)
+                .collect(Collectors.toList()),
+            Matchers.equalTo(
+                new LtTestNotVerb(new VerbLexicon()).defects(xmir).stream()
+                    .map(Object::toString)
+                    .collect(Collectors.toList())
+            )
+        );
+    }
+}
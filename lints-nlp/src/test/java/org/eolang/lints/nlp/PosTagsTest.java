@@ -0,0 +1,145 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints.nlp;
+
+import com.yegor256.MayBeSlow;
+import com.yegor256.Mktmp;
+import com.yegor256.MktmpResolver;
+import edu.stanford.nlp.pipeline.StanfordCoreNLP;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import org.cactoos.Scalar;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * Test for {@link PosTags}.
+ *
+ * @since 0.1.0
+ */
+@ExtendWith(MktmpResolver.class)
+final class PosTagsTest {
+
+    @Test
+    @ExtendWith(MayBeSlow.class)
+    void tagsWordsInBatchAndSavesThem(@Mktmp final Path dir) throws IOException {
+        final Properties props = new Properties();
+        props.setProperty("annotators", "tokenize,pos");
+        final Path file = dir.resolve("pos.txt");
+        final Map<String, String> cache = PosTags.lru(PosTags.CAPACITY);
+        MatcherAssert.assertThat(
+            "words must be tagged",
+            new PosTags(new StanfordCoreNLP(props), cache, Optional.of(file))
+                .tags(Arrays.asList("returns", "regex", "returns")),
+            Matchers.allOf(
+                Matchers.hasEntry("returns", "VBZ"),
+                Matchers.hasEntry(Matchers.equalTo("regex"), Matchers.not("VBZ"))
+            )
+        );
+        MatcherAssert.assertThat(
+            "tags must be cached",
+            cache.keySet(),
+            Matchers.containsInAnyOrder("returns", "regex")
+        );
+        MatcherAssert.assertThat(
+            "tags must be saved to the file",
+            Files.readAllLines(file, StandardCharsets.UTF_8),
+            Matchers.hasItem("returns\tVBZ")
+        );
+    }
+
+    @Test
+    @ExtendWith(MayBeSlow.class)
+    void tagsWordWhichIsNotSeparateToken() {
+        final Properties props = new Properties();
+        props.setProperty("annotators", "tokenize,pos");
+        MatcherAssert.assertThat(
+            "a word, which is not a separate token, must not break tagging",
+            new PosTags(new StanfordCoreNLP(props), PosTags.lru(2), Optional.empty())
+                .tags(Arrays.asList("", "returns")),
+            Matchers.allOf(
+                Matchers.hasEntry("", PosTags.NONE),
+                Matchers.hasEntry("returns", "VBZ")
+            )
+        );
+    }
+
+    @Test
+    void takesTagsFromFileWithoutPipeline(@Mktmp final Path dir) throws IOException {
+        final Path file = dir.resolve("pos.txt");
+        Files.write(file, "checks\tVBZ\nfoo\tNN\n".getBytes(StandardCharsets.UTF_8));
+        MatcherAssert.assertThat(
+            "tags must be taken from the file",
+            new PosTags(PosTagsTest.untouched(), PosTags.lru(2), Optional.of(file))
+                .tags(Arrays.asList("checks", "foo")),
+            Matchers.allOf(
+                Matchers.hasEntry("checks", "VBZ"),
+                Matchers.hasEntry("foo", "NN")
+            )
+        );
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedWords() {
+        final Map<String, String> cache = PosTags.lru(2);
+        cache.put("a", "VBZ");
+        cache.put("b", "VBZ");
+        cache.get("a");
+        cache.put("c", "NN");
+        MatcherAssert.assertThat(
+            "the least recently used word must be evicted",
+            cache.keySet(),
+            Matchers.containsInAnyOrder("a", "c")
+        );
+    }
+
+    @Test
+    void returnsNothingForNoWords() {
+        MatcherAssert.assertThat(
+            "nothing must be tagged",
+            new PosTags(PosTagsTest.untouched(), PosTags.lru(2), Optional.empty())
+                .tags(Collections.emptyList()),
+            Matchers.anEmptyMap()
+        );
+    }
+
+    /**
+     * Pipeline, which must not be asked for.
+     * @return Pipeline
+     */
+    private static Scalar<StanfordCoreNLP> untouched() {
+        return () -> {
+            throw new IllegalStateException("pipeline must not be asked for");
+        };
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints.nlp;
+
+import com.jcabi.xml.XMLDocument;
+import com.yegor256.MayBeSlow;
+import edu.stanford.nlp.pipeline.StanfordCoreNLP;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.eolang.lints.misc.LtTestNotVerb;
+import org.eolang.lints.misc.Verbs;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * Test for {@link SharedPipeline}.
+ *
+ * @since 0.1.0
+ */
+final class SharedPipelineTest {
+
+    @Test
+    @ExtendWith(MayBeSlow.class)
+    void loadsPipelineOnlyOnce() throws Exception {
+        MatcherAssert.assertThat(
+            "the same pipeline must be returned",
+            new SharedPipeline().value(),
+            Matchers.sameInstance(new SharedPipeline().value())
+        );
+    }
+
+    @Test
+    void doesNotLoadPipelineUntilWordsAreTagged() throws Exception {
+        final AtomicInteger loads = new AtomicInteger();
+        final FutureTask<StanfordCoreNLP> task = new FutureTask<>(
+            () -> {
+                loads.incrementAndGet();
+                throw new IllegalStateException("the pipeline is not needed here");
+            }
+        );
+        final Verbs verbs = new NlpVerbs(
+            new PosTags(new SharedPipeline(task), PosTags.lru(2), Optional.empty())
+        );
+        new LtTestNotVerb(verbs).defects(
+            new XMLDocument(
+                "<program name='app'><objects><o name='foo' line='1'/></objects></program>"
+            )
+        );
+        verbs.singular(Collections.emptyList());
+        MatcherAssert.assertThat(
+            "the pipeline must not be loaded, when there is nothing to tag",
+            loads.get(),
+            Matchers.equalTo(0)
+        );
+    }
+
+    @Test
+    void loadsPipelineInBackground() throws Exception {
+        final AtomicReference<Thread> loader = new AtomicReference<>();
+        new SharedPipeline(
+            new FutureTask<>(
+                () -> {
+                    loader.set(Thread.currentThread());
+                    return null;
+                }
+            )
+        ).value();
+        MatcherAssert.assertThat(
+            "the pipeline must not be loaded by the thread, which asks for it",
+            loader.get(),
+            Matchers.allOf(
+                Matchers.notNullValue(),
+                Matchers.not(Matchers.sameInstance(Thread.currentThread()))
+            )
+        );
+    }
+
+    @Test
+    void startsLoadingWhenTestsAreMet() throws Exception {
+        final CountDownLatch loaded = new CountDownLatch(1);
+        final SharedPipeline pipe = new SharedPipeline(
+            new FutureTask<>(
+                () -> {
+                    loaded.countDown();
+                    return null;
+                }
+            )
+        );
+        final Map<String, String> cache = PosTags.lru(2);
+        cache.put("checks", "VBZ");
+        new LtTestNotVerb(
+            new NlpVerbs(new PosTags(pipe, cache, Optional.empty()), pipe::start)
+        ).defects(
+            new XMLDocument(
+                String.join(
+                    "",
+                    "<program name='foo'><metas><meta><head>tests</head></meta></metas>",
+                    "<objects><o name='checks-bar' line='3'/></objects></program>"
+                )
+            )
+        );
+        MatcherAssert.assertThat(
+            "the pipeline must start loading, as soon as tests are met",
+            loaded.await(1L, TimeUnit.MINUTES),
+            Matchers.is(true)
+        );
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+/**
+ * Generates the index of all XSL lints, which is packaged into the JAR
+ * and then read by PkByXsl, instead of scanning the classpath at runtime.
+ *
+ * Every line of the index is a lint, with four tab-separated columns:
+ * the ID of the rule, the path of its XSL, the path of its motive (empty,
+ * if the motive is absent), and a comma-separated list of severities
+ * the XSL may report.
+ */
+
+import java.nio.charset.StandardCharsets
+import java.nio.file.Files
+import java.nio.file.Path
+import java.nio.file.Paths
+import javax.xml.parsers.DocumentBuilderFactory
+import javax.xml.xpath.XPathConstants
+import javax.xml.xpath.XPathFactory
+
+Path classes = Paths.get(project.build.outputDirectory)
+Path home = classes.resolve('org/eolang/lints')
+List<String> levels = ['critical', 'error', 'warning']
+List<String> lines = []
+Files.walk(home)
+  .filter { it.toString().endsWith('.xsl') }
+  .sorted()
+  .forEach { xsl ->
+    String rel = classes.relativize(xsl).toString().replace(File.separatorChar, '/' as char)
+    String motive = rel.replaceFirst('^org/eolang/lints/', 'org/eolang/motives/')
+      .replaceFirst('\\.xsl$', '.md')
+    if (!Files.exists(classes.resolve(motive))) {
+      log.debug("The motive '${motive}' of '${rel}' is absent")
+      motive = ''
+    }
+    def factory = DocumentBuilderFactory.newInstance()
+    factory.setNamespaceAware(false)
+    def doc = factory.newDocumentBuilder().parse(xsl.toFile())
+    def xpath = XPathFactory.newInstance().newXPath()
+    String id = xpath.evaluate('/*/@id', doc)
+    if (id.isEmpty()) {
+      throw new IllegalStateException("The @id of '${rel}' is absent")
+    }
+    def nodes = xpath.evaluate(
+      "//*[name()='xsl:attribute' and @name='severity']//text() | //@severity",
+      doc,
+      XPathConstants.NODESET
+    )
+    Set<String> found = new TreeSet<>()
+    for (int idx = 0; idx < nodes.length; ++idx) {
+      String text = nodes.item(idx).nodeValue.trim()
+      if (levels.contains(text)) {
+        found.add(text)
+      }
+    }
+    if (found.isEmpty()) {
+      throw new IllegalStateException("The severity of '${rel}' is not declared")
+    }
+    lines.add([id, rel, motive, found.join(',')].join('\t'))
+  }
+Path index = home.resolve('index.txt')
+Files.write(index, lines, StandardCharsets.UTF_8)
+log.info("Index of ${lines.size()} XSL lints saved to ${index}")
@@ -0,0 +1,105 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Launcher of JMH benchmarks of all lints.
+ *
+ * <p>Benchmarks are parameterized by the names of lints, which are
+ * taken from {@link PkMono} and {@link PkWpa} right here, so that new lints
+ * are benchmarked without any changes in benchmarks. All JMH command line
+ * options are accepted, and if {@code -p mono=...} or {@code -p wpa=...}
+ * is given, only these lints are benchmarked. The GC profiler is always
+ * on, to report the allocation rate, while results are saved to
+ * {@code target/jmh.json}, unless other file is given.</p>
+ *
+ * @since 0.1.0
+ */
+public final class Benchmarks {
+
+    /**
+     * Ctor.
+     */
+    private Benchmarks() {
+        // entry point only
+    }
+
+    /**
+     * Entry point.
+     * @param args JMH command line options
+     * @throws RunnerException If fails
+     * @throws CommandLineOptionException If options are wrong
+     */
+    public static void main(final String... args)
+        throws RunnerException, CommandLineOptionException {
+        final CommandLineOptions cmd = new CommandLineOptions(args);
+        final ChainedOptionsBuilder opts = new OptionsBuilder()
+            .parent(cmd)
+            .addProfiler(GCProfiler.class);
+        if (cmd.getIncludes().isEmpty()) {
+            opts.include(
+                String.format(
+                    "%s|%s|%s",
+                    MonoBench.class.getName(), WpaBench.class.getName(),
+                    EditBench.class.getName()
+                )
+            );
+        }
+        if (!cmd.getParameter("mono").hasValue()) {
+            opts.param("mono", Benchmarks.names(new PkMono()));
+        }
+        if (!cmd.getParameter("wpa").hasValue()) {
+            opts.param("wpa", Benchmarks.names(new PkWpa()));
+        }
+        if (!cmd.getResult().hasValue()) {
+            opts.resultFormat(ResultFormatType.JSON).result("target/jmh.json");
+        }
+        new Runner(opts.build()).run();
+    }
+
+    /**
+     * Names of lints.
+     * @param lints Lints
+     * @param <T> Type of entity
+     * @return Names
+     */
+    private static <T> String[] names(final Iterable<Lint<T>> lints) {
+        final Collection<String> names = new ArrayList<>(0);
+        for (final Lint<T> lint : lints) {
+            names.add(lint.name());
+        }
+        return names.toArray(new String[0]);
+    }
+}
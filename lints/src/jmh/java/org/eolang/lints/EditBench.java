@@ -0,0 +1,103 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of a warm edit, linted by {@link Editor}, on EO documents
+ * of different sizes.
+ *
+ * <p>The time includes parsing of EO and all mono lints, that is, the
+ * time until the last defect, which is never shorter than the time
+ * until the first one. An editor expects defects of a document of a
+ * few hundred lines within 50ms. JMH requires this class and its fields
+ * to be public and not final.</p>
+ *
+ * @since 0.1.0
+ * @checkstyle VisibilityModifierCheck (500 lines)
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@SuppressWarnings("PMD.ClassNamingConventions")
+public class EditBench {
+
+    /**
+     * Number of objects in the document, two lines each.
+     */
+    @Param({"10", "100"})
+    public int objects;
+
+    /**
+     * The editor.
+     */
+    private Editor editor;
+
+    /**
+     * EO source of the document.
+     */
+    private String source;
+
+    /**
+     * Make the document and lint it once, to warm the editor up.
+     * @throws IOException If fails
+     */
+    @Setup
+    public void setup() throws IOException {
+        final StringBuilder eo = new StringBuilder(0);
+        for (int idx = 0; idx < this.objects; ++idx) {
+            eo.append(String.format("# Object number %d.%n[] > o%1$d%n", idx));
+        }
+        this.source = eo.toString();
+        this.editor = new Editor();
+        this.editor.lint("file:///bench.eo", this.source, found -> { });
+    }
+
+    /**
+     * Lint the document again, as if it was edited.
+     * @return TRUE if all lints ran
+     * @throws IOException If fails
+     */
+    @Benchmark
+    public boolean edit() throws IOException {
+        return this.editor.lint("file:///bench.eo", this.source, found -> { });
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints;
+
+import com.jcabi.xml.XML;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of a single mono lint, XSL or Java, on programs of
+ * different sizes, generated by {@link Corpus}.
+ *
+ * <p>The program is wrapped into {@link SaxonXmir}, the same way
+ * {@link Program} does it, so that XSL lints don't build Saxon tree
+ * on each call. JMH requires this class and its fields to be public
+ * and not final.</p>
+ *
+ * @since 0.1.0
+ * @checkstyle VisibilityModifierCheck (500 lines)
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@SuppressWarnings({"PMD.ClassNamingConventions", "PMD.AvoidFieldNameMatchingMethodName"})
+public class MonoBench {
+
+    /**
+     * Name of the lint, see {@link Benchmarks}.
+     */
+    @Param("comment-too-short")
+    public String mono;
+
+    /**
+     * Number of objects in the program.
+     */
+    @Param({"10", "100", "1000"})
+    public int objects;
+
+    /**
+     * Depth of nesting of every object.
+     */
+    @Param("4")
+    public int depth;
+
+    /**
+     * The lint.
+     */
+    private Lint<XML> lint;
+
+    /**
+     * The program.
+     */
+    private XML xmir;
+
+    /**
+     * Find the lint and make the program.
+     * @throws IOException If fails
+     */
+    @Setup
+    public void setup() throws IOException {
+        this.lint = MonoBench.found(this.mono);
+        this.xmir = new SaxonXmir(
+            new Corpus(this.depth, 16, 16, 3).program("bench", this.objects)
+        );
+    }
+
+    /**
+     * Find defects.
+     * @return Defects
+     * @throws IOException If fails
+     */
+    @Benchmark
+    public Collection<Defect> defects() throws IOException {
+        return this.lint.defects(this.xmir);
+    }
+
+    /**
+     * Find the lint by name.
+     * @param name The name
+     * @return The lint
+     */
+    private static Lint<XML> found(final String name) {
+        for (final Lint<XML> candidate : new PkMono()) {
+            if (candidate.name().equals(name)) {
+                return candidate;
+            }
+        }
+        throw new IllegalArgumentException(String.format("There is no mono lint '%s'", name));
+    }
+}
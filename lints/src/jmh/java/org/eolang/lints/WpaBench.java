@@ -0,0 +1,122 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints;
+
+import com.jcabi.xml.XML;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of a single WPA lint, on packages of different sizes,
+ * generated by {@link Corpus}.
+ *
+ * <p>Facts about programs are extracted by {@link PackageIndex} once,
+ * before measurements, since they are shared by all WPA lints, so only
+ * the lint itself is measured. JMH requires this class and its fields
+ * to be public and not final.</p>
+ *
+ * @since 0.1.0
+ * @checkstyle VisibilityModifierCheck (500 lines)
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@SuppressWarnings("PMD.ClassNamingConventions")
+public class WpaBench {
+
+    /**
+     * Name of the lint, see {@link Benchmarks}.
+     */
+    @Param("unit-test-missing")
+    public String wpa;
+
+    /**
+     * Number of programs in the package, ten objects each.
+     */
+    @Param({"10", "100"})
+    public int programs;
+
+    /**
+     * The lint.
+     */
+    private Lint<Map<String, XML>> lint;
+
+    /**
+     * The package.
+     */
+    private Map<String, XML> pkg;
+
+    /**
+     * Find the lint and make the package.
+     * @throws IOException If fails
+     */
+    @Setup
+    public void setup() throws IOException {
+        this.lint = WpaBench.found(this.wpa);
+        final PackageIndex index = new PackageIndex(new Corpus().pkg(this.programs, 10));
+        index.facts();
+        this.pkg = index;
+    }
+
+    /**
+     * Find defects.
+     * @return Defects
+     * @throws IOException If fails
+     */
+    @Benchmark
+    public Collection<Defect> defects() throws IOException {
+        return this.lint.defects(this.pkg);
+    }
+
+    /**
+     * Find the lint by name.
+     * @param name The name
+     * @return The lint
+     */
+    private static Lint<Map<String, XML>> found(final String name) {
+        for (final Lint<Map<String, XML>> candidate : new PkWpa()) {
+            if (candidate.name().equals(name)) {
+                return candidate;
+            }
+        }
+        throw new IllegalArgumentException(String.format("There is no WPA lint '%s'", name));
+    }
+}
@@ -0,0 +1,528 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.cactoos.map.MapEntry;
+
+/**
+ * Command line interface.
+ *
+ * <p>Usage: {@code [--threads N] [--format text|jsonl|sarif] [--no-wpa]
+ * [--] DIR|FILE|GLOB...}. All XMIR files found are linted by mono lints, in
+ * parallel, and their defects are printed as soon as each file is done.
+ * Then, WPA lints run on all of them, through {@link Programs}. The exit
+ * code is the highest severity found: zero if there are no defects, one
+ * for warnings, two for errors, and three for critical defects, or files
+ * that can't be linted. Wrong arguments exit with 64.</p>
+ *
+ * <p>Also, {@code --daemon [--port N] [--permits N]} starts the
+ * {@link Daemon} and keeps it running until the JVM is stopped, while
+ * {@code --watch [--quiet MS] [--] DIR...} starts the {@link Watch} and
+ * prints defects that appear and disappear, prefixed by plus and minus.
+ * Arguments after {@code --} are never options, even if they look
+ * like ones.</p>
+ *
+ * @since 0.1.0
+ */
+public final class Cli {
+
+    /**
+     * Exit code for wrong arguments.
+     */
+    private static final int USAGE = 64;
+
+    /**
+     * Max number of parsed documents to keep in memory, for WPA.
+     */
+    private static final int PARSED = 64;
+
+    /**
+     * Characters, which make a path a glob.
+     */
+    private static final Pattern GLOB = Pattern.compile("[*?\\[{]");
+
+    /**
+     * Arguments.
+     */
+    private final String[] args;
+
+    /**
+     * The stream for the report.
+     */
+    private final PrintStream out;
+
+    /**
+     * The stream for errors.
+     */
+    private final PrintStream err;
+
+    /**
+     * Ctor.
+     * @param argv Arguments
+     * @param stdout The stream for the report
+     * @param stderr The stream for errors
+     */
+    public Cli(final String[] argv, final PrintStream stdout, final PrintStream stderr) {
+        this.args = argv.clone();
+        this.out = stdout;
+        this.err = stderr;
+    }
+
+    /**
+     * Entry point.
+     * @param argv Arguments
+     * @throws Exception If fails
+     */
+    public static void main(final String... argv) throws Exception {
+        System.exit(new Cli(argv, System.out, System.err).exit());
+    }
+
+    /**
+     * Run it.
+     * @return Exit code
+     * @throws Exception If fails
+     */
+    public int exit() throws Exception {
+        int code;
+        try {
+            final List<String> options = Cli.options(this.args);
+            if (options.contains("--daemon") && options.contains("--watch")) {
+                throw new IllegalArgumentException(
+                    "Options '--daemon' and '--watch' can't be used together"
+                );
+            }
+            if (options.contains("--daemon")) {
+                code = this.daemon(Cli.without(this.args, "--daemon"));
+            } else if (options.contains("--watch")) {
+                code = this.watch(Cli.without(this.args, "--watch"));
+            } else {
+                code = this.lint();
+            }
+        } catch (final IllegalArgumentException ex) {
+            this.err.println(ex.getMessage());
+            this.err.println(
+                "Usage: [--threads N] [--format text|jsonl|sarif] [--no-wpa] [--] DIR|FILE|GLOB..."
+            );
+            this.err.println("   or: --daemon [--port N] [--permits N]");
+            this.err.println("   or: --watch [--quiet MS] [--] DIR...");
+            code = Cli.USAGE;
+        }
+        return code;
+    }
+
+    /**
+     * Lint files.
+     * @return Exit code
+     * @throws Exception If fails
+     */
+    private int lint() throws Exception {
+        int threads = Runtime.getRuntime().availableProcessors();
+        String format = "text";
+        boolean wpa = true;
+        final List<String> inputs = new ArrayList<>(this.args.length);
+        final Iterator<String> argv = List.of(this.args).iterator();
+        while (argv.hasNext()) {
+            final String arg = argv.next();
+            if ("--".equals(arg)) {
+                argv.forEachRemaining(inputs::add);
+            } else if ("--threads".equals(arg)) {
+                threads = Cli.number(argv, arg);
+            } else if ("--format".equals(arg)) {
+                format = Cli.value(argv, arg);
+            } else if ("--no-wpa".equals(arg)) {
+                wpa = false;
+            } else if (arg.startsWith("--")) {
+                throw new IllegalArgumentException(String.format("Unknown option '%s'", arg));
+            } else {
+                inputs.add(arg);
+            }
+        }
+        if (inputs.isEmpty()) {
+            throw new IllegalArgumentException("No directories, files, or globs given");
+        }
+        final Report report = this.report(format);
+        final Map<String, Path> files = new TreeMap<>();
+        final Set<Path> seen = new HashSet<>(0);
+        for (final String input : inputs) {
+            for (final Map.Entry<String, Path> ent : Cli.found(input).entrySet()) {
+                if (seen.add(ent.getValue().toRealPath())) {
+                    final Path before = files.putIfAbsent(ent.getKey(), ent.getValue());
+                    if (before != null) {
+                        throw new IllegalArgumentException(
+                            String.format(
+                                "Two XMIR files have the same key '%s': '%s' and '%s'",
+                                ent.getKey(), before, ent.getValue()
+                            )
+                        );
+                    }
+                }
+            }
+        }
+        report.start();
+        Severity worst = this.mono(files.values(), threads, report);
+        if (wpa) {
+            for (final Defect defect : new Programs(new LazyPackage(files, Cli.PARSED)).defects()) {
+                report.add(defect.program(), defect);
+                worst = Cli.worse(worst, defect.severity());
+            }
+        }
+        report.finish();
+        return Cli.code(worst);
+    }
+
+    /**
+     * Lint files by mono lints, in parallel, reporting defects of each file
+     * as soon as it's done.
+     * @param files Files
+     * @param threads Number of threads
+     * @param report The report
+     * @return The highest severity found, or NULL if there are no defects
+     * @throws InterruptedException If interrupted
+     */
+    private Severity mono(final Collection<Path> files, final int threads,
+        final Report report) throws InterruptedException {
+        Severity worst = null;
+        final ExecutorService pool = Executors.newFixedThreadPool(Math.max(1, threads));
+        try {
+            final CompletionService<Map.Entry<Path, Collection<Defect>>> done =
+                new ExecutorCompletionService<>(pool);
+            for (final Path file : files) {
+                done.submit(() -> new MapEntry<>(file, new Program(file).defects()));
+            }
+            for (int idx = 0; idx < files.size(); ++idx) {
+                final Future<Map.Entry<Path, Collection<Defect>>> future = done.take();
+                try {
+                    final Map.Entry<Path, Collection<Defect>> ent = future.get();
+                    for (final Defect defect : ent.getValue()) {
+                        report.add(ent.getKey().toString(), defect);
+                        worst = Cli.worse(worst, defect.severity());
+                    }
+                } catch (final ExecutionException ex) {
+                    this.err.printf("Failed to lint: %s%n", ex.getCause().getMessage());
+                    worst = Severity.CRITICAL;
+                }
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        return worst;
+    }
+
+    /**
+     * Start the daemon and wait forever.
+     * @param options Arguments, without the one, which starts the daemon
+     * @return Exit code
+     * @throws Exception If fails
+     */
+    private int daemon(final List<String> options) throws Exception {
+        int port = 0;
+        int permits = Runtime.getRuntime().availableProcessors();
+        final Iterator<String> argv = options.iterator();
+        while (argv.hasNext()) {
+            final String arg = argv.next();
+            if ("--port".equals(arg)) {
+                port = Cli.number(argv, arg);
+            } else if ("--permits".equals(arg)) {
+                permits = Cli.number(argv, arg);
+            } else {
+                throw new IllegalArgumentException(String.format("Unknown option '%s'", arg));
+            }
+        }
+        final Daemon.Started daemon = new Daemon(port, permits).start();
+        this.err.printf("Lint daemon is listening to port %d%n", daemon.port());
+        final CountDownLatch stop = new CountDownLatch(1);
+        Runtime.getRuntime().addShutdownHook(
+            new Thread(
+                () -> {
+                    daemon.close();
+                    stop.countDown();
+                }
+            )
+        );
+        stop.await();
+        return 0;
+    }
+
+    /**
+     * Watch directories and wait forever.
+     * @param options Arguments, without the one, which starts watching
+     * @return Exit code
+     * @throws Exception If fails
+     */
+    private int watch(final List<String> options) throws Exception {
+        int quiet = 300;
+        final List<String> names = new ArrayList<>(options.size());
+        final Iterator<String> argv = options.iterator();
+        while (argv.hasNext()) {
+            final String arg = argv.next();
+            if ("--".equals(arg)) {
+                argv.forEachRemaining(names::add);
+            } else if ("--quiet".equals(arg)) {
+                quiet = Cli.number(argv, arg);
+            } else if (arg.startsWith("--")) {
+                throw new IllegalArgumentException(String.format("Unknown option '%s'", arg));
+            } else {
+                names.add(arg);
+            }
+        }
+        final List<Path> dirs = new ArrayList<>(names.size());
+        for (final String name : names) {
+            if (!Files.isDirectory(Paths.get(name))) {
+                throw new IllegalArgumentException(String.format("No such directory '%s'", name));
+            }
+            dirs.add(Paths.get(name).toAbsolutePath());
+        }
+        if (dirs.isEmpty()) {
+            throw new IllegalArgumentException("No directories given");
+        }
+        final Report report = new Report.Plain(this.out);
+        final Watch.Started watch = new Watch(
+            dirs,
+            (plus, minus) -> {
+                synchronized (this.out) {
+                    for (final Defect defect : minus) {
+                        this.out.print('-');
+                        report.add(defect.program(), defect);
+                    }
+                    for (final Defect defect : plus) {
+                        this.out.print('+');
+                        report.add(defect.program(), defect);
+                    }
+                    report.finish();
+                }
+            },
+            quiet
+        ).start();
+        this.err.printf("Watching %s%n", dirs);
+        final CountDownLatch stop = new CountDownLatch(1);
+        Runtime.getRuntime().addShutdownHook(
+            new Thread(
+                () -> {
+                    try {
+                        watch.close();
+                    } catch (final IOException ex) {
+                        this.err.println(ex.getMessage());
+                    }
+                    stop.countDown();
+                }
+            )
+        );
+        stop.await();
+        return 0;
+    }
+
+    /**
+     * Make the report.
+     * @param format The format
+     * @return Report
+     */
+    private Report report(final String format) {
+        final Report report;
+        if ("text".equals(format)) {
+            report = new Report.Plain(this.out);
+        } else if ("jsonl".equals(format)) {
+            report = new Report.Jsonl(this.out);
+        } else if ("sarif".equals(format)) {
+            report = new Report.Sarif(this.out);
+        } else {
+            throw new IllegalArgumentException(
+                String.format("Unknown format '%s', use text, jsonl, or sarif", format)
+            );
+        }
+        return report;
+    }
+
+    /**
+     * XMIR files, which match the input.
+     *
+     * <p>The input is either a directory, which is searched recursively,
+     * a single file, or a glob, like {@code src/**}{@code /*.xmir}, which is
+     * matched against the files in the directory before the first
+     * wildcard.</p>
+     *
+     * @param input Directory, file, or glob
+     * @return Files, by their keys, relative to the directory
+     * @throws IOException If fails
+     */
+    private static Map<String, Path> found(final String input) throws IOException {
+        final Map<String, Path> found;
+        final Path path = Paths.get(input);
+        if (Files.isDirectory(path)) {
+            found = new XmirFiles(List.of(path)).paths();
+        } else if (Files.isRegularFile(path)) {
+            found = new TreeMap<>();
+            found.put(new XmirKey(path.toAbsolutePath(), path.toAbsolutePath().getParent())
+                .asString(), path);
+        } else if (Cli.GLOB.matcher(input).find()) {
+            final String prefix = input.substring(0, Cli.GLOB.matcher(input).results()
+                .findFirst().get().start());
+            final int slash = prefix.lastIndexOf('/');
+            final Path base;
+            if (slash < 0) {
+                base = Paths.get("");
+            } else {
+                base = Paths.get(prefix.substring(0, slash + 1));
+            }
+            final PathMatcher matcher = FileSystems.getDefault().getPathMatcher(
+                String.format("glob:%s", input)
+            );
+            found = new TreeMap<>();
+            final Path root = base.toAbsolutePath();
+            try (Stream<Path> walk = Files.walk(root)) {
+                for (final Path file : walk.filter(Files::isRegularFile)
+                    .filter(file -> matcher.matches(base.resolve(root.relativize(file))))
+                    .collect(Collectors.toList())) {
+                    found.put(new XmirKey(file, root).asString(), file);
+                }
+            }
+        } else {
+            throw new IllegalArgumentException(
+                String.format("Neither a directory, nor a file, nor a glob: '%s'", input)
+            );
+        }
+        return found;
+    }
+
+    /**
+     * The value of the option.
+     * @param argv Arguments
+     * @param option The option
+     * @return Value
+     */
+    private static String value(final Iterator<String> argv, final String option) {
+        if (!argv.hasNext()) {
+            throw new IllegalArgumentException(
+                String.format("The '%s' option needs a value", option)
+            );
+        }
+        return argv.next();
+    }
+
+    /**
+     * Arguments, which may be options, that is, all before {@code --}.
+     * @param argv Arguments
+     * @return Arguments before {@code --}
+     */
+    private static List<String> options(final String... argv) {
+        final List<String> all = List.of(argv);
+        final int end = all.indexOf("--");
+        final List<String> options;
+        if (end < 0) {
+            options = all;
+        } else {
+            options = all.subList(0, end);
+        }
+        return options;
+    }
+
+    /**
+     * Arguments without the first occurrence of the option.
+     * @param argv Arguments
+     * @param option The option
+     * @return Other arguments
+     */
+    private static List<String> without(final String[] argv, final String option) {
+        final List<String> rest = new ArrayList<>(List.of(argv));
+        rest.remove(option);
+        return rest;
+    }
+
+    /**
+     * The numeric value of the option.
+     * @param argv Arguments
+     * @param option The option
+     * @return Value
+     */
+    private static int number(final Iterator<String> argv, final String option) {
+        final String value = Cli.value(argv, option);
+        try {
+            return Integer.parseInt(value);
+        } catch (final NumberFormatException ex) {
+            throw new IllegalArgumentException(
+                String.format("The '%s' option needs a number, not '%s'", option, value),
+                ex
+            );
+        }
+    }
+
+    /**
+     * The higher of two severities.
+     * @param first The first one, or NULL
+     * @param second The second one
+     * @return The higher one
+     */
+    private static Severity worse(final Severity first, final Severity second) {
+        final Severity worse;
+        if (first == null || Cli.code(second) > Cli.code(first)) {
+            worse = second;
+        } else {
+            worse = first;
+        }
+        return worse;
+    }
+
+    /**
+     * Exit code for the severity.
+     * @param severity The severity, or NULL if there are no defects
+     * @return Exit code
+     */
+    private static int code(final Severity severity) {
+        final int code;
+        if (severity == null) {
+            code = 0;
+        } else if (severity == Severity.WARNING) {
+            code = 1;
+        } else if (severity == Severity.ERROR) {
+            code = 2;
+        } else {
+            code = 3;
+        }
+        return code;
+    }
+}
@@ -0,0 +1,589 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints;
+
+import com.jcabi.log.Logger;
+import com.jcabi.xml.XML;
+import com.jcabi.xml.XMLDocument;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import org.cactoos.scalar.Unchecked;
+
+/**
+ * Long-running lint server, which keeps lints warm between builds.
+ *
+ * <p>The daemon listens to HTTP requests on the loopback interface only.
+ * Stylesheets are compiled when it starts, and then stay compiled, together
+ * with the NLP pipeline and the JIT-compiled code. These requests are
+ * understood:</p>
+ *
+ * <ul>
+ *  <li>{@code POST /program} with XMIR bytes in the body;</li>
+ *  <li>{@code GET /program?path=...} with an absolute path of an XMIR file;</li>
+ *  <li>{@code GET /programs?dir=...} with a directory of XMIR files, for WPA;</li>
+ *  <li>{@code POST /edit?uri=...} with EO source of a document being edited,
+ *  see {@link Editor};</li>
+ *  <li>{@code DELETE /edit?uri=...} when the document is closed.</li>
+ * </ul>
+ *
+ * <p>Defects are returned one per line, as tab-separated rule, severity,
+ * program, line, and {@link Escaped} text. Parsed files are kept in memory,
+ * together with their facts for WPA, by their paths and modification times,
+ * so that unchanged files are not parsed again, neither for a single
+ * program, nor for a directory. Not more than {@code docs} of them are kept, and not more
+ * than {@code docs} edited documents are remembered. Not more than
+ * {@code permits} requests are linted at a time, while others are
+ * rejected with 503, and should be retried.</p>
+ *
+ * <p>Defects of an edited document are streamed back as soon as each lint
+ * finds them. When a newer version of the same document is posted, the
+ * response to the older one ends early, without the rest of defects.</p>
+ *
+ * @since 0.1.0
+ */
+public final class Daemon {
+
+    /**
+     * Default max number of parsed documents to keep in memory.
+     */
+    private static final int CAPACITY = 1_000;
+
+    /**
+     * Port to listen to, zero for any free one.
+     */
+    private final int port;
+
+    /**
+     * Max number of requests linted at a time.
+     */
+    private final int permits;
+
+    /**
+     * Max number of parsed and edited documents to keep in memory.
+     */
+    private final int capacity;
+
+    /**
+     * Ctor.
+     * @param prt Port to listen to, zero for any free one
+     */
+    public Daemon(final int prt) {
+        this(prt, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Ctor.
+     * @param prt Port to listen to, zero for any free one
+     * @param max Max number of requests linted at a time
+     */
+    public Daemon(final int prt, final int max) {
+        this(prt, max, Daemon.CAPACITY);
+    }
+
+    /**
+     * Ctor.
+     * @param prt Port to listen to, zero for any free one
+     * @param max Max number of requests linted at a time
+     * @param docs Max number of parsed and edited documents to keep in memory
+     */
+    public Daemon(final int prt, final int max, final int docs) {
+        this.port = prt;
+        this.permits = max;
+        this.capacity = docs;
+    }
+
+    /**
+     * Warm lints up and start listening.
+     * @return The daemon started, which must be closed to stop it
+     * @throws IOException If fails
+     */
+    public Daemon.Started start() throws IOException {
+        final Editor editor = new Editor(this.capacity);
+        editor.lint("warm.eo", "# Warm.\n[] > warm\n", found -> { });
+        editor.close("warm.eo");
+        final HttpServer server = HttpServer.create(
+            new InetSocketAddress(InetAddress.getLoopbackAddress(), this.port), 0
+        );
+        final ExecutorService pool = Executors.newFixedThreadPool(this.permits + 2);
+        final Daemon.Handler handler = new Daemon.Handler(
+            new Semaphore(this.permits), Daemon.lru(this.capacity), editor
+        );
+        server.createContext("/program", handler::program);
+        server.createContext("/programs", handler::programs);
+        server.createContext("/edit", handler::edit);
+        server.setExecutor(pool);
+        server.start();
+        Logger.info(
+            this, "Lint daemon is listening to %s", server.getAddress()
+        );
+        return new Daemon.Started(server, pool, editor);
+    }
+
+    /**
+     * Bounded thread-safe map, which evicts the least recently used paths.
+     * @param capacity Max number of paths
+     * @return Map
+     */
+    private static Map<Path, Daemon.Parsed> lru(final int capacity) {
+        return Collections.synchronizedMap(
+            new LinkedHashMap<Path, Daemon.Parsed>(16, 0.75f, true) {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(final Map.Entry<Path, Daemon.Parsed> eldest) {
+                    return this.size() > capacity;
+                }
+            }
+        );
+    }
+
+    /**
+     * The daemon, which is listening.
+     *
+     * @since 0.1.0
+     */
+    public static final class Started implements Closeable {
+
+        /**
+         * The server.
+         */
+        private final HttpServer server;
+
+        /**
+         * Threads of the server.
+         */
+        private final ExecutorService pool;
+
+        /**
+         * Lints of edited documents.
+         */
+        private final Editor editor;
+
+        /**
+         * Ctor.
+         * @param srv The server
+         * @param threads Threads of the server
+         * @param edt Lints of edited documents
+         */
+        Started(final HttpServer srv, final ExecutorService threads, final Editor edt) {
+            this.server = srv;
+            this.pool = threads;
+            this.editor = edt;
+        }
+
+        /**
+         * The port it listens to.
+         * @return Port
+         */
+        public int port() {
+            return this.server.getAddress().getPort();
+        }
+
+        /**
+         * Number of edited documents remembered now.
+         * @return Number of them
+         */
+        int documents() {
+            return this.editor.documents();
+        }
+
+        @Override
+        public void close() {
+            this.server.stop(0);
+            this.pool.shutdownNow();
+        }
+    }
+
+    /**
+     * Parsed XMIR file.
+     *
+     * @since 0.1.0
+     */
+    private static final class Parsed {
+
+        /**
+         * Modification time of the file, in milliseconds.
+         */
+        private final long time;
+
+        /**
+         * The document.
+         */
+        private final XML xmir;
+
+        /**
+         * Facts about the program, for WPA lints.
+         */
+        private final PackageIndex.Facts facts;
+
+        /**
+         * Ctor.
+         * @param millis Modification time of the file, in milliseconds
+         * @param xml The document
+         */
+        Parsed(final long millis, final XML xml) {
+            this.time = millis;
+            this.xmir = xml;
+            this.facts = new PackageIndex.Facts(xml);
+        }
+    }
+
+    /**
+     * Handler of requests.
+     *
+     * @since 0.1.0
+     */
+    private static final class Handler {
+
+        /**
+         * Permits to lint.
+         */
+        private final Semaphore permits;
+
+        /**
+         * Parsed documents, by their paths.
+         */
+        private final Map<Path, Daemon.Parsed> docs;
+
+        /**
+         * Lints of edited documents.
+         */
+        private final Editor editor;
+
+        /**
+         * Ctor.
+         * @param sem Permits to lint
+         * @param cache Parsed documents, by their paths
+         * @param edt Lints of edited documents
+         */
+        Handler(final Semaphore sem, final Map<Path, Daemon.Parsed> cache, final Editor edt) {
+            this.permits = sem;
+            this.docs = cache;
+            this.editor = edt;
+        }
+
+        /**
+         * Lint a single program.
+         * @param exchange The exchange
+         * @throws IOException If fails
+         */
+        void program(final HttpExchange exchange) throws IOException {
+            if ("POST".equals(exchange.getRequestMethod())) {
+                final byte[] body = Handler.body(exchange.getRequestBody());
+                this.respond(
+                    exchange,
+                    () -> new Program(
+                        new XMLDocument(new String(body, StandardCharsets.UTF_8))
+                    ).defects()
+                );
+            } else if ("GET".equals(exchange.getRequestMethod())) {
+                this.respond(
+                    exchange,
+                    () -> {
+                        final XML xmir = this.parsed(
+                            Paths.get(Handler.param(exchange, "path"))
+                        ).xmir;
+                        synchronized (xmir) {
+                            return new Program(xmir).defects();
+                        }
+                    }
+                );
+            } else {
+                Handler.send(exchange, 405, "Only GET and POST are allowed\n");
+            }
+        }
+
+        /**
+         * Lint a package of programs.
+         * @param exchange The exchange
+         * @throws IOException If fails
+         */
+        void programs(final HttpExchange exchange) throws IOException {
+            if ("GET".equals(exchange.getRequestMethod())) {
+                this.respond(
+                    exchange,
+                    () -> this.wpa(Paths.get(Handler.param(exchange, "dir")))
+                );
+            } else {
+                Handler.send(exchange, 405, "Only GET is allowed\n");
+            }
+        }
+
+        /**
+         * Lint a document being edited, streaming defects back.
+         * @param exchange The exchange
+         * @throws IOException If fails
+         */
+        @SuppressWarnings("PMD.AvoidCatchingGenericException")
+        void edit(final HttpExchange exchange) throws IOException {
+            if ("DELETE".equals(exchange.getRequestMethod())) {
+                this.close(exchange);
+            } else if (!"POST".equals(exchange.getRequestMethod())) {
+                Handler.send(exchange, 405, "Only POST and DELETE are allowed\n");
+            } else if (this.permits.tryAcquire()) {
+                try {
+                    final String uri = Handler.param(exchange, "uri");
+                    final String source = new String(
+                        Handler.body(exchange.getRequestBody()), StandardCharsets.UTF_8
+                    );
+                    exchange.getResponseHeaders().set(
+                        "Content-Type", "text/tab-separated-values; charset=UTF-8"
+                    );
+                    exchange.sendResponseHeaders(200, 0L);
+                    try (OutputStream out = exchange.getResponseBody()) {
+                        this.editor.lint(
+                            uri, source,
+                            found -> {
+                                out.write(Handler.lines(found).getBytes(StandardCharsets.UTF_8));
+                                out.flush();
+                            }
+                        );
+                    }
+                } catch (final IllegalArgumentException ex) {
+                    Handler.failed(exchange, 400, ex);
+                } catch (final IOException | RuntimeException ex) {
+                    Logger.warn(this, "Failed to lint: %[exception]s", ex);
+                    Handler.failed(exchange, 500, ex);
+                } finally {
+                    this.permits.release();
+                }
+            } else {
+                exchange.getResponseHeaders().set("Retry-After", "1");
+                Handler.send(exchange, 503, "Too many requests, try again later\n");
+            }
+        }
+
+        /**
+         * Forget the document, which is closed.
+         * @param exchange The exchange
+         * @throws IOException If fails
+         */
+        private void close(final HttpExchange exchange) throws IOException {
+            try {
+                this.editor.close(Handler.param(exchange, "uri"));
+                Handler.send(exchange, 200, "");
+            } catch (final IllegalArgumentException ex) {
+                Handler.send(exchange, 400, String.format("%s\n", ex.getMessage()));
+            }
+        }
+
+        /**
+         * Find defects, if there is a permit, and send them back.
+         * @param exchange The exchange
+         * @param found Defects to find
+         * @throws IOException If fails
+         */
+        @SuppressWarnings("PMD.AvoidCatchingGenericException")
+        private void respond(final HttpExchange exchange, final Daemon.Defects found)
+            throws IOException {
+            if (this.permits.tryAcquire()) {
+                try {
+                    Handler.send(exchange, 200, Handler.lines(found.value()));
+                } catch (final FileNotFoundException | IllegalArgumentException ex) {
+                    Handler.send(exchange, 400, String.format("%s\n", ex.getMessage()));
+                } catch (final IOException | RuntimeException ex) {
+                    Logger.warn(this, "Failed to lint: %[exception]s", ex);
+                    Handler.send(exchange, 500, String.format("%s\n", ex.getMessage()));
+                } finally {
+                    this.permits.release();
+                }
+            } else {
+                exchange.getResponseHeaders().set("Retry-After", "1");
+                Handler.send(exchange, 503, "Too many requests, try again later\n");
+            }
+        }
+
+        /**
+         * Find defects of WPA lints in the directory.
+         *
+         * <p>Files are taken from the same cache as single programs, together
+         * with their facts, so that only files, which changed since the
+         * previous request, are parsed again.</p>
+         *
+         * @param dir The directory
+         * @return Defects
+         * @throws IOException If fails
+         */
+        private Collection<Defect> wpa(final Path dir) throws IOException {
+            final Map<String, XML> docs = new TreeMap<>();
+            final Map<String, PackageIndex.Facts> facts = new TreeMap<>();
+            for (final Map.Entry<String, Path> ent
+                : new XmirFiles(Collections.singleton(dir)).paths().entrySet()) {
+                final Daemon.Parsed parsed = this.parsed(ent.getValue());
+                docs.put(ent.getKey(), parsed.xmir);
+                facts.put(ent.getKey(), parsed.facts);
+            }
+            return new Programs(
+                new PackageIndex(
+                    Collections.unmodifiableMap(docs), new Unchecked<>(() -> facts)
+                )
+            ).defects();
+        }
+
+        /**
+         * Parse the file, or take it from the cache, if it didn't change.
+         * @param path The file
+         * @return The document with its facts
+         * @throws IOException If fails
+         */
+        private Daemon.Parsed parsed(final Path path) throws IOException {
+            if (!Files.isRegularFile(path)) {
+                throw new FileNotFoundException(String.format("File not found: %s", path));
+            }
+            final long time = Files.getLastModifiedTime(path).toMillis();
+            Daemon.Parsed parsed = this.docs.get(path);
+            if (parsed == null || parsed.time != time) {
+                parsed = new Daemon.Parsed(time, new SaxonXmir(new XMLDocument(path)));
+                this.docs.put(path, parsed);
+            }
+            return parsed;
+        }
+
+        /**
+         * Report the failure, unless the response has already started,
+         * in which case it is just cut short.
+         * @param exchange The exchange
+         * @param code HTTP status
+         * @param error The failure
+         * @throws IOException If fails
+         */
+        private static void failed(final HttpExchange exchange, final int code,
+            final Exception error) throws IOException {
+            if (exchange.getResponseCode() < 0) {
+                Handler.send(exchange, code, String.format("%s\n", error.getMessage()));
+            } else {
+                exchange.close();
+            }
+        }
+
+        /**
+         * Defects, one per line, tab-separated.
+         * @param defects Defects
+         * @return Lines
+         */
+        private static String lines(final Collection<Defect> defects) {
+            final StringBuilder out = new StringBuilder(0);
+            for (final Defect defect : defects) {
+                out.append(defect.rule()).append('\t')
+                    .append(defect.severity().mnemo()).append('\t')
+                    .append(new Escaped(defect.program()).asString()).append('\t')
+                    .append(defect.line()).append('\t')
+                    .append(new Escaped(defect.text()).asString()).append('\n');
+            }
+            return out.toString();
+        }
+
+        /**
+         * The value of the query parameter.
+         * @param exchange The exchange
+         * @param name Name of the parameter
+         * @return Value
+         */
+        private static String param(final HttpExchange exchange, final String name) {
+            String value = null;
+            final String query = exchange.getRequestURI().getRawQuery();
+            if (query != null) {
+                for (final String pair : query.split("&")) {
+                    final String[] parts = pair.split("=", 2);
+                    if (parts.length == 2 && name.equals(parts[0])) {
+                        value = URLDecoder.decode(parts[1], StandardCharsets.UTF_8);
+                    }
+                }
+            }
+            if (value == null) {
+                throw new IllegalArgumentException(
+                    String.format("The '%s' query parameter is required", name)
+                );
+            }
+            return value;
+        }
+
+        /**
+         * Read the body.
+         * @param input The body
+         * @return Bytes
+         * @throws IOException If fails
+         */
+        private static byte[] body(final InputStream input) throws IOException {
+            final ByteArrayOutputStream out = new ByteArrayOutputStream();
+            input.transferTo(out);
+            return out.toByteArray();
+        }
+
+        /**
+         * Send the response.
+         * @param exchange The exchange
+         * @param code HTTP status
+         * @param text The body
+         * @throws IOException If fails
+         */
+        private static void send(final HttpExchange exchange, final int code,
+            final String text) throws IOException {
+            final byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set(
+                "Content-Type", "text/tab-separated-values; charset=UTF-8"
+            );
+            exchange.sendResponseHeaders(code, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        }
+    }
+
+    /**
+     * Defects to find.
+     *
+     * @since 0.1.0
+     */
+    private interface Defects {
+
+        /**
+         * Find them.
+         * @return Defects
+         * @throws IOException If fails
+         */
+        Collection<Defect> value() throws IOException;
+    }
+}
@@ -0,0 +1,565 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints;
+
+import com.jcabi.manifests.Manifests;
+import com.jcabi.xml.XML;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.cactoos.Scalar;
+import org.eolang.lints.misc.LtTestNotVerb;
+
+/**
+ * Cache of defects, found in XMIR programs, addressed by their content.
+ *
+ * <p>The key of a program is the SHA-256 hash of its XMIR bytes, the
+ * version of the lints (from the manifest), the names of the lints
+ * enabled, and the engines they use, such as the engine of verbs of
+ * {@link LtTestNotVerb}. Thus, when any of them changes, the defects are
+ * found again.</p>
+ *
+ * <p>There are two tiers. The first one is in memory: a bounded map,
+ * which evicts the least recently used programs. The second one is on
+ * disk: an append-only file in the given directory, which survives between
+ * runs. Its index, the offsets of records by their keys, is built by
+ * reading the file once, on first use. A torn record at the end of the
+ * file, if any, is ignored.</p>
+ *
+ * <p>The file may be shared by many JVMs, for example by parallel
+ * builds: records are appended while the lock file next to it is locked,
+ * and the index is read again if the file was changed by someone else.
+ * Records which were not used through this cache are dead: when there
+ * are too many of them, {@link #compact()} rewrites the file atomically,
+ * without them.</p>
+ *
+ * <p>The class is thread-safe.</p>
+ *
+ * @see Program#with(DefectCache)
+ * @since 0.1.0
+ */
+public final class DefectCache {
+
+    /**
+     * Default max number of programs in memory.
+     */
+    private static final int CAPACITY = 1_000;
+
+    /**
+     * Default number of dead records, which makes the file compacted.
+     */
+    private static final int THRESHOLD = 10_000;
+
+    /**
+     * The file with defects.
+     */
+    private final Path file;
+
+    /**
+     * The file to lock, while the file with defects is changed.
+     */
+    private final Path lock;
+
+    /**
+     * Defects by keys, most recently used.
+     */
+    private final Map<String, List<Defect>> memory;
+
+    /**
+     * Offsets of records in the file, by keys.
+     */
+    private final Map<String, Long> offsets;
+
+    /**
+     * Size of the file, covered by the index, or -1 if it is not built yet.
+     */
+    private final AtomicLong covered;
+
+    /**
+     * Keys used through this cache.
+     */
+    private final Set<String> used;
+
+    /**
+     * Number of dead records, which makes the file compacted.
+     */
+    private final int threshold;
+
+    /**
+     * Ctor.
+     * @param dir The directory to keep the file in
+     */
+    public DefectCache(final Path dir) {
+        this(dir, DefectCache.CAPACITY);
+    }
+
+    /**
+     * Ctor.
+     * @param dir The directory to keep the file in
+     * @param capacity Max number of programs kept in memory
+     */
+    public DefectCache(final Path dir, final int capacity) {
+        this(dir, capacity, DefectCache.THRESHOLD);
+    }
+
+    /**
+     * Ctor.
+     * @param dir The directory to keep the file in
+     * @param capacity Max number of programs kept in memory
+     * @param dead Number of dead records, which makes the file compacted
+     */
+    DefectCache(final Path dir, final int capacity, final int dead) {
+        this.file = dir.resolve("defects.txt");
+        this.lock = dir.resolve("defects.lock");
+        this.memory = DefectCache.lru(capacity);
+        this.offsets = new ConcurrentHashMap<>(0);
+        this.covered = new AtomicLong(-1L);
+        this.used = ConcurrentHashMap.newKeySet();
+        this.threshold = dead;
+    }
+
+    /**
+     * Remove dead records from the file, if there are too many of them.
+     *
+     * <p>Records, which were neither read nor written through this cache,
+     * are dead. If there are more of them than the threshold, the file is
+     * rewritten with live records only, and atomically replaced. It's
+     * supposed to be called at the end of a build, when all programs
+     * are linted.</p>
+     *
+     * @return Number of records removed
+     * @throws IOException If fails
+     */
+    public int compact() throws IOException {
+        return this.locked(
+            () -> {
+                this.refresh();
+                final Map<String, Long> live = new LinkedHashMap<>(0);
+                for (final Map.Entry<String, Long> ent : this.offsets.entrySet()) {
+                    if (this.used.contains(ent.getKey())) {
+                        live.put(ent.getKey(), ent.getValue());
+                    }
+                }
+                int dead = this.offsets.size() - live.size();
+                if (dead > this.threshold) {
+                    final StringBuilder text = new StringBuilder(0);
+                    for (final Map.Entry<String, Long> ent : live.entrySet()) {
+                        text.append(
+                            DefectCache.record(ent.getKey(), this.read(ent.getValue()))
+                        );
+                    }
+                    final Path temp = this.file.resolveSibling(
+                        String.format("%s.tmp", this.file.getFileName())
+                    );
+                    Files.write(temp, text.toString().getBytes(StandardCharsets.UTF_8));
+                    Files.move(
+                        temp, this.file,
+                        StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE
+                    );
+                    this.covered.set(-1L);
+                    this.refresh();
+                } else {
+                    dead = 0;
+                }
+                return dead;
+            }
+        );
+    }
+
+    /**
+     * Defects of the program, either from the cache or freshly found.
+     * @param xmir The bytes of XMIR
+     * @param lints The lints enabled
+     * @param fresh Defects found by the lints, when there are none in the cache
+     * @return Defects
+     * @throws Exception If fails
+     */
+    Collection<Defect> defects(final byte[] xmir, final Iterable<Lint<XML>> lints,
+        final Scalar<Collection<Defect>> fresh) throws Exception {
+        final String key = DefectCache.key(xmir, lints);
+        this.used.add(key);
+        List<Defect> defects = this.memory.get(key);
+        if (defects == null) {
+            defects = this.stored(key);
+            if (defects == null) {
+                defects = new ArrayList<>(fresh.value());
+                this.append(key, defects);
+            }
+            this.memory.put(key, defects);
+        }
+        return Collections.unmodifiableList(defects);
+    }
+
+    /**
+     * Defects of the program from the file.
+     *
+     * <p>If there is no record in the index, or the record at the offset is
+     * not the one expected, because the file was compacted, the index is
+     * validated again, while the file is locked, since the record may be
+     * appended by another JVM.</p>
+     *
+     * @param key The key
+     * @return Defects, or NULL if there are none in the file
+     * @throws IOException If fails
+     */
+    private List<Defect> stored(final String key) throws IOException {
+        List<Defect> defects = null;
+        if (this.covered.get() >= 0L) {
+            defects = this.found(key);
+        }
+        if (defects == null) {
+            defects = this.locked(
+                () -> {
+                    if (this.offsets.containsKey(key)) {
+                        this.covered.set(-1L);
+                    }
+                    this.refresh();
+                    return this.found(key);
+                }
+            );
+        }
+        return defects;
+    }
+
+    /**
+     * Defects of the program from the file, by the index.
+     * @param key The key
+     * @return Defects, or NULL if there is no such record at the offset
+     * @throws IOException If fails
+     */
+    private List<Defect> found(final String key) throws IOException {
+        final Long offset = this.offsets.get(key);
+        List<Defect> defects = null;
+        if (offset != null && key.equals(this.header(offset))) {
+            defects = this.read(offset);
+        }
+        return defects;
+    }
+
+    /**
+     * Append a record to the file and to the index, unless another
+     * JVM has already appended it.
+     * @param key The key
+     * @param defects Defects of the program
+     * @throws IOException If fails
+     */
+    private void append(final String key, final Collection<Defect> defects)
+        throws IOException {
+        final byte[] record = DefectCache.record(key, defects).getBytes(StandardCharsets.UTF_8);
+        this.locked(
+            () -> {
+                this.refresh();
+                if (!this.offsets.containsKey(key)) {
+                    final long offset = this.covered.get();
+                    try (FileChannel channel = FileChannel.open(
+                        this.file, StandardOpenOption.CREATE,
+                        StandardOpenOption.WRITE, StandardOpenOption.APPEND
+                    )) {
+                        final ByteBuffer buf = ByteBuffer.wrap(record);
+                        while (buf.hasRemaining()) {
+                            channel.write(buf);
+                        }
+                    }
+                    this.offsets.put(key, offset);
+                    this.covered.set(offset + record.length);
+                }
+                return 0;
+            }
+        );
+    }
+
+    /**
+     * Make the index match the file, if it was changed by someone else.
+     *
+     * <p>Must be called only while the lock is held.</p>
+     *
+     * @throws IOException If fails
+     */
+    private void refresh() throws IOException {
+        long size = 0L;
+        if (Files.exists(this.file)) {
+            size = Files.size(this.file);
+        }
+        if (size != this.covered.get()) {
+            final Map<String, Long> fresh = DefectCache.scanned(this.file);
+            this.offsets.keySet().retainAll(fresh.keySet());
+            this.offsets.putAll(fresh);
+            long now = 0L;
+            if (Files.exists(this.file)) {
+                now = Files.size(this.file);
+            }
+            this.covered.set(now);
+        }
+    }
+
+    /**
+     * Run the action, while the file is locked, for this JVM and for others.
+     * @param action The action
+     * @param <T> Type of result
+     * @return Result of the action
+     * @throws IOException If fails
+     */
+    private <T> T locked(final DefectCache.Action<T> action) throws IOException {
+        if (this.lock.getParent() != null) {
+            Files.createDirectories(this.lock.getParent());
+        }
+        synchronized (DefectCache.class) {
+            try (FileChannel channel = FileChannel.open(
+                this.lock, StandardOpenOption.CREATE, StandardOpenOption.WRITE
+            )) {
+                final FileLock held = channel.lock();
+                try {
+                    return action.run();
+                } finally {
+                    held.release();
+                }
+            }
+        }
+    }
+
+    /**
+     * Key of the record at the offset.
+     * @param offset Offset of the record
+     * @return The key, or empty string if there is no record there
+     * @throws IOException If fails
+     */
+    private String header(final long offset) throws IOException {
+        String key = "";
+        if (Files.exists(this.file)) {
+            try (SeekableByteChannel channel = Files.newByteChannel(this.file)) {
+                if (offset < channel.size()) {
+                    channel.position(offset);
+                    final String line = new BufferedReader(
+                        new InputStreamReader(
+                            Channels.newInputStream(channel), StandardCharsets.UTF_8
+                        )
+                    ).readLine();
+                    if (line != null) {
+                        key = line.split("\t")[0];
+                    }
+                }
+            }
+        }
+        return key;
+    }
+
+    /**
+     * Record of the program, as it is kept in the file.
+     * @param key The key
+     * @param defects Defects of the program
+     * @return Lines of the record
+     */
+    private static String record(final String key, final Collection<Defect> defects) {
+        final StringBuilder record = new StringBuilder(0)
+            .append(key).append('\t').append(defects.size()).append('\n');
+        for (final Defect defect : defects) {
+            record.append(defect.rule()).append('\t')
+                .append(defect.severity().mnemo()).append('\t')
+                .append(defect.line()).append('\t')
+                .append(new Escaped(defect.program()).asString()).append('\t')
+                .append(new Escaped(defect.text()).asString()).append('\n');
+        }
+        return record.toString();
+    }
+
+    /**
+     * Read a record from the file.
+     * @param offset Offset of the record
+     * @return Defects of the program
+     * @throws IOException If fails
+     */
+    private List<Defect> read(final long offset) throws IOException {
+        try (SeekableByteChannel channel = Files.newByteChannel(this.file)) {
+            channel.position(offset);
+            final BufferedReader reader = new BufferedReader(
+                new InputStreamReader(Channels.newInputStream(channel), StandardCharsets.UTF_8)
+            );
+            final int total = Integer.parseInt(reader.readLine().split("\t")[1]);
+            final List<Defect> defects = new ArrayList<>(total);
+            for (int idx = 0; idx < total; ++idx) {
+                final String[] parts = reader.readLine().split("\t", 5);
+                defects.add(
+                    new Defect.Default(
+                        parts[0],
+                        Severity.parsed(parts[1]),
+                        new Unescaped(parts[3]).asString(),
+                        Integer.parseInt(parts[2]),
+                        new Unescaped(parts[4]).asString()
+                    )
+                );
+            }
+            return defects;
+        }
+    }
+
+    /**
+     * Build the index, reading the file.
+     *
+     * <p>If the last record is torn, for example, because the previous run
+     * was killed while writing it, the file is truncated right before it,
+     * so that new records can be appended safely.</p>
+     *
+     * @param file The file
+     * @return Offsets of records by keys
+     * @throws IOException If fails
+     */
+    private static Map<String, Long> scanned(final Path file) throws IOException {
+        final Map<String, Long> offsets = new ConcurrentHashMap<>(0);
+        if (Files.exists(file)) {
+            final long size = Files.size(file);
+            long valid = 0L;
+            try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                long offset = 0L;
+                while (true) {
+                    final String head = reader.readLine();
+                    if (head == null) {
+                        break;
+                    }
+                    final String[] parts = head.split("\t");
+                    if (parts.length != 2 || !parts[1].matches("[0-9]+")) {
+                        break;
+                    }
+                    offset += DefectCache.length(head);
+                    int left = Integer.parseInt(parts[1]);
+                    while (left > 0) {
+                        final String line = reader.readLine();
+                        if (line == null) {
+                            break;
+                        }
+                        offset += DefectCache.length(line);
+                        --left;
+                    }
+                    if (left > 0 || offset > size) {
+                        break;
+                    }
+                    offsets.put(parts[0], valid);
+                    valid = offset;
+                }
+            }
+            if (valid < size) {
+                try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                    channel.truncate(valid);
+                }
+            }
+        }
+        return offsets;
+    }
+
+    /**
+     * The key of the program.
+     * @param xmir The bytes of XMIR
+     * @param lints The lints enabled
+     * @return Hex of SHA-256
+     * @throws NoSuchAlgorithmException If fails
+     */
+    private static String key(final byte[] xmir, final Iterable<Lint<XML>> lints)
+        throws NoSuchAlgorithmException {
+        final Set<String> names = new TreeSet<>();
+        for (final Lint<XML> lint : lints) {
+            names.add(lint.name());
+            if (lint instanceof LtTestNotVerb) {
+                names.add(
+                    String.format("%s:%s", lint.name(), ((LtTestNotVerb) lint).engine())
+                );
+            }
+        }
+        final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        digest.update(
+            String.format("%s\n%s\n", Manifests.read("Lints-Version"), names)
+                .getBytes(StandardCharsets.UTF_8)
+        );
+        digest.update(xmir);
+        final StringBuilder hex = new StringBuilder(64);
+        for (final byte part : digest.digest()) {
+            hex.append(String.format("%02x", part));
+        }
+        return hex.toString();
+    }
+
+    /**
+     * Length of the line in the file, in bytes.
+     * @param line The line, without the line break
+     * @return Number of bytes
+     */
+    private static long length(final String line) {
+        return line.getBytes(StandardCharsets.UTF_8).length + 1L;
+    }
+
+    /**
+     * Bounded thread-safe map, which evicts the least recently used keys.
+     * @param capacity Max number of keys
+     * @return Map
+     */
+    private static Map<String, List<Defect>> lru(final int capacity) {
+        return Collections.synchronizedMap(
+            new LinkedHashMap<String, List<Defect>>(16, 0.75f, true) {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(
+                    final Map.Entry<String, List<Defect>> eldest
+                ) {
+                    return this.size() > capacity;
+                }
+            }
+        );
+    }
+
+    /**
+     * Action to run while the file is locked.
+     *
+     * @param <T> Type of result
+     * @since 0.1.0
+     */
+    private interface Action<T> {
+        /**
+         * Run it.
+         * @return Result
+         * @throws IOException If fails
+         */
+        T run() throws IOException;
+    }
+}
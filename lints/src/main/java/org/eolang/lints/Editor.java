@@ -0,0 +1,336 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints;
+
+import com.jcabi.xml.XML;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.cactoos.io.InputOf;
+import org.cactoos.list.ListOf;
+import org.eolang.parser.EoSyntax;
+
+/**
+ * Lints of documents being edited, re-linted on each change.
+ *
+ * <p>Each call to {@link #lint(String, String, Editor.Listener)} parses
+ * the EO source and runs mono lints, one by one, in the calling thread,
+ * giving their defects to the listener as soon as each lint is done. When
+ * a newer version of the same document arrives, the older run stops before
+ * its next lint, so that the editor doesn't wait for results nobody
+ * needs anymore.</p>
+ *
+ * <p>Lints run in the order of their worst severity seen so far, and then
+ * of their average time, so that cheap lints that find critical defects
+ * report first, while slow ones, like the part-of-speech check of test
+ * names, report last. Lints never seen before run as if they found
+ * the worst severity they may report, if it is known without running
+ * them, like for XSL lints, or errors otherwise.</p>
+ *
+ * <p>Not more than {@code documents} documents are remembered at a time:
+ * the least recently linted ones are forgotten, as if they were closed,
+ * so that a long-running process doesn't grow with every document it
+ * ever saw.</p>
+ *
+ * <p>This class is thread-safe.</p>
+ *
+ * <p>The time of a warm edit is measured by {@code EditBench}, in
+ * JMH benchmarks.</p>
+ *
+ * @since 0.1.0
+ */
+public final class Editor {
+
+    /**
+     * Default max number of documents to remember.
+     */
+    private static final int DOCUMENTS = 1_000;
+
+    /**
+     * The lints.
+     */
+    private final Iterable<Lint<XML>> lints;
+
+    /**
+     * Latest versions of documents, by their URIs.
+     */
+    private final Map<String, AtomicLong> versions;
+
+    /**
+     * Ranks of lints seen so far, by their names.
+     */
+    private final Map<String, Editor.Rank> ranks;
+
+    /**
+     * Ctor.
+     */
+    public Editor() {
+        this(Editor.DOCUMENTS);
+    }
+
+    /**
+     * Ctor.
+     * @param documents Max number of documents to remember
+     */
+    public Editor(final int documents) {
+        this(Program.MONO, documents);
+    }
+
+    /**
+     * Ctor.
+     * @param list The lints
+     */
+    Editor(final Iterable<Lint<XML>> list) {
+        this(list, Editor.DOCUMENTS);
+    }
+
+    /**
+     * Ctor.
+     * @param list The lints
+     * @param documents Max number of documents to remember
+     */
+    Editor(final Iterable<Lint<XML>> list, final int documents) {
+        this.lints = list;
+        this.versions = Editor.lru(documents);
+        this.ranks = new ConcurrentHashMap<>(0);
+    }
+
+    /**
+     * Lint the latest version of the document.
+     * @param uri URI of the document
+     * @param source EO source of it
+     * @param listener Listener of defects found
+     * @return TRUE if all lints ran, FALSE if a newer version arrived
+     * @throws IOException If fails
+     */
+    public boolean lint(final String uri, final String source,
+        final Editor.Listener listener) throws IOException {
+        final AtomicLong latest = this.versions.computeIfAbsent(uri, key -> new AtomicLong());
+        final long version = latest.incrementAndGet();
+        final XML xmir = new SaxonXmir(
+            new EoSyntax(Editor.name(uri), new InputOf(source)).parsed()
+        );
+        final Iterator<Lint<XML>> ranked = this.ranked().iterator();
+        while (ranked.hasNext() && latest.get() == version) {
+            final Lint<XML> lint = ranked.next();
+            final long start = System.nanoTime();
+            final Collection<Defect> found = lint.defects(xmir);
+            this.ranks.merge(
+                lint.name(), new Editor.Rank(found, System.nanoTime() - start), Editor.Rank::next
+            );
+            if (!found.isEmpty()) {
+                listener.found(found);
+            }
+        }
+        return latest.get() == version;
+    }
+
+    /**
+     * Stop linting the document and forget it, when it's closed.
+     * @param uri URI of the document
+     */
+    public void close(final String uri) {
+        final AtomicLong latest = this.versions.remove(uri);
+        if (latest != null) {
+            latest.incrementAndGet();
+        }
+    }
+
+    /**
+     * Number of documents remembered now.
+     * @return Number of them
+     */
+    int documents() {
+        return this.versions.size();
+    }
+
+    /**
+     * Lints, in the order they must run.
+     * @return Lints
+     */
+    private List<Lint<XML>> ranked() {
+        final Map<String, Editor.Rank> seen = new HashMap<>(this.ranks);
+        final List<Lint<XML>> list = new ArrayList<>(new ListOf<>(this.lints));
+        list.sort(
+            Comparator.comparing(
+                (Lint<XML> lint) -> seen.getOrDefault(lint.name(), Editor.Rank.unseen(lint))
+            )
+        );
+        return list;
+    }
+
+    /**
+     * Bounded thread-safe map, which evicts the least recently linted documents.
+     * @param capacity Max number of documents
+     * @return Map
+     */
+    private static Map<String, AtomicLong> lru(final int capacity) {
+        return Collections.synchronizedMap(
+            new LinkedHashMap<String, AtomicLong>(16, 0.75f, true) {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(final Map.Entry<String, AtomicLong> eldest) {
+                    return this.size() > capacity;
+                }
+            }
+        );
+    }
+
+    /**
+     * Name of the program, by the URI of its document.
+     * @param uri The URI
+     * @return Name
+     */
+    private static String name(final String uri) {
+        String name = uri.substring(uri.lastIndexOf('/') + 1);
+        if (name.endsWith(".eo")) {
+            name = name.substring(0, name.length() - 3);
+        }
+        return name;
+    }
+
+    /**
+     * Listener of defects.
+     *
+     * @since 0.1.0
+     */
+    public interface Listener {
+
+        /**
+         * Defects found by a single lint.
+         * @param defects Defects, never empty
+         * @throws IOException If fails
+         */
+        void found(Collection<Defect> defects) throws IOException;
+    }
+
+    /**
+     * Rank of a lint, by what it did before.
+     *
+     * @since 0.1.0
+     */
+    private static final class Rank implements Comparable<Editor.Rank> {
+
+        /**
+         * Rank of a lint never seen before.
+         */
+        private static final Editor.Rank UNKNOWN = new Editor.Rank(
+            Severity.ERROR.ordinal(), 0L
+        );
+
+        /**
+         * Worst severity found, as its ordinal, or the number of
+         * severities, if nothing was found.
+         */
+        private final int worst;
+
+        /**
+         * Average time, in nanoseconds.
+         */
+        private final long nanos;
+
+        /**
+         * Ctor.
+         * @param found Defects found
+         * @param time Time it took, in nanoseconds
+         */
+        Rank(final Collection<Defect> found, final long time) {
+            this(Editor.Rank.worst(found), time);
+        }
+
+        /**
+         * Ctor.
+         * @param sev Worst severity found, as its ordinal
+         * @param time Average time, in nanoseconds
+         */
+        Rank(final int sev, final long time) {
+            this.worst = sev;
+            this.nanos = time;
+        }
+
+        @Override
+        public int compareTo(final Editor.Rank other) {
+            int cmp = Integer.compare(this.worst, other.worst);
+            if (cmp == 0) {
+                cmp = Long.compare(this.nanos, other.nanos);
+            }
+            return cmp;
+        }
+
+        /**
+         * Rank of a lint never seen before.
+         * @param lint The lint
+         * @return Rank by the worst severity it may report, if known
+         */
+        static Editor.Rank unseen(final Lint<XML> lint) {
+            Editor.Rank rank = Editor.Rank.UNKNOWN;
+            if (lint instanceof LtByXsl) {
+                int worst = Severity.values().length;
+                for (final Severity severity : ((LtByXsl) lint).severities()) {
+                    worst = Math.min(worst, severity.ordinal());
+                }
+                rank = new Editor.Rank(worst, 0L);
+            }
+            return rank;
+        }
+
+        /**
+         * Combine with the rank of the latest run.
+         *
+         * <p>The average time is exponentially weighted, so that
+         * the lint is ranked by how fast it is now, after warm-up.</p>
+         *
+         * @param latest The rank of the latest run
+         * @return New rank
+         */
+        Editor.Rank next(final Editor.Rank latest) {
+            return new Editor.Rank(
+                Math.min(this.worst, latest.worst), (this.nanos * 3 + latest.nanos) / 4
+            );
+        }
+
+        /**
+         * Worst severity among the defects.
+         * @param found Defects
+         * @return Its ordinal, or the number of severities, if none
+         */
+        private static int worst(final Collection<Defect> found) {
+            int worst = Severity.values().length;
+            for (final Defect defect : found) {
+                worst = Math.min(worst, defect.severity().ordinal());
+            }
+            return worst;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+
+/**
+ * Elements of XMIR, found without XPath.
+ *
+ * <p>Lints, which walk the DOM on their own, like {@link Walk},
+ * {@link PackageIndex.Facts}, and visitors, use these helpers, in order
+ * to not compile XPath expressions for simple steps. The class is public,
+ * since lints live in other packages too.</p>
+ *
+ * @since 0.1.0
+ */
+public final class Elements {
+
+    /**
+     * Ctor.
+     */
+    private Elements() {
+        // helpers only
+    }
+
+    /**
+     * The root element.
+     * @param node Document or element
+     * @return Element or NULL if the document is empty
+     */
+    public static Element root(final Node node) {
+        final Element root;
+        if (node instanceof Document) {
+            root = ((Document) node).getDocumentElement();
+        } else {
+            root = (Element) node;
+        }
+        return root;
+    }
+
+    /**
+     * Child elements with the given name.
+     * @param parent The parent
+     * @param name Name of children
+     * @return Children, in document order
+     */
+    public static List<Element> kids(final Element parent, final String name) {
+        final List<Element> kids = new ArrayList<>(0);
+        for (Node kid = parent.getFirstChild(); kid != null; kid = kid.getNextSibling()) {
+            if (kid.getNodeType() == Node.ELEMENT_NODE && name.equals(kid.getNodeName())) {
+                kids.add((Element) kid);
+            }
+        }
+        return kids;
+    }
+}
@@ -0,0 +1,554 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints;
+
+import com.jcabi.xml.XML;
+import com.jcabi.xml.XMLDocument;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import org.cactoos.Scalar;
+import org.cactoos.set.SetOf;
+import org.w3c.dom.Attr;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+/**
+ * A single XSL stylesheet, made of many lint stylesheets.
+ *
+ * <p>Each lint stylesheet is moved into its own set of modes: templates
+ * without a mode get the mode equal to the ID of the lint, while
+ * all other modes, variables, parameters, keys, functions and named
+ * templates get the ID of the lint as a prefix, in order to avoid
+ * conflicts between stylesheets. Only names declared in the stylesheet
+ * of the lint are renamed, while XPath expressions are tokenized, so
+ * that string literals and names from imported stylesheets stay intact.
+ * The main template of the result applies all of them, one by one, to the
+ * same document, wrapping the defects of each lint into the {@code rule}
+ * element with the ID of the lint:</p>
+ *
+ * <pre> &lt;rules&gt;
+ *   &lt;rule id="duplicate-names"&gt;
+ *     &lt;defects&gt;...&lt;/defects&gt;
+ *   &lt;/rule&gt;
+ * &lt;/rules&gt;</pre>
+ *
+ * @since 0.1.0
+ */
+final class FusedXsl implements Scalar<XML> {
+
+    /**
+     * XSL namespace.
+     */
+    private static final String XSL = "http://www.w3.org/1999/XSL/Transform";
+
+    /**
+     * Namespace of namespace declarations.
+     */
+    private static final String XMLNS = "http://www.w3.org/2000/xmlns/";
+
+    /**
+     * XSL elements, which declare names to be made unique.
+     */
+    private static final Set<String> DECLARATIONS = new SetOf<>(
+        "variable", "param", "with-param", "key", "template", "call-template"
+    );
+
+    /**
+     * Attributes of XSL elements, which are XPath expressions, while
+     * all other attributes are attribute value templates.
+     */
+    private static final Set<String> EXPRESSIONS = new SetOf<>(
+        "select", "test", "match", "use", "group-by", "group-adjacent",
+        "group-starting-with", "group-ending-with"
+    );
+
+    /**
+     * Factory of DOM documents, aware of namespaces.
+     */
+    private static final DocumentBuilderFactory DOCS = FusedXsl.factory();
+
+    /**
+     * Lint stylesheets.
+     */
+    private final Iterable<XML> sheets;
+
+    /**
+     * Ctor.
+     * @param xsls Lint stylesheets
+     */
+    FusedXsl(final Iterable<XML> xsls) {
+        this.sheets = xsls;
+    }
+
+    @Override
+    public XML value() throws ParserConfigurationException {
+        final Document doc;
+        synchronized (FusedXsl.DOCS) {
+            doc = FusedXsl.DOCS.newDocumentBuilder().newDocument();
+        }
+        final Element root = doc.createElementNS(FusedXsl.XSL, "xsl:stylesheet");
+        root.setAttribute("id", "fused");
+        root.setAttribute("version", "2.0");
+        doc.appendChild(root);
+        final Set<String> imports = new LinkedHashSet<>(0);
+        final Map<String, String> namespaces = new TreeMap<>();
+        final Collection<String> rules = new LinkedList<>();
+        final Collection<Node> body = new LinkedList<>();
+        for (final XML sheet : this.sheets) {
+            final Element top = FusedXsl.top(sheet.inner());
+            final String rule = top.getAttribute("id");
+            rules.add(rule);
+            FusedXsl.namespaces(top, namespaces);
+            final FusedXsl.Names names = new FusedXsl.Names(top);
+            for (Node child = top.getFirstChild(); child != null; child = child.getNextSibling()) {
+                if (child.getNodeType() != Node.ELEMENT_NODE) {
+                    continue;
+                }
+                if (FusedXsl.isXsl(child, "import")) {
+                    imports.add(((Element) child).getAttribute("href"));
+                } else if (!FusedXsl.isXsl(child, "output")) {
+                    final Element copy = (Element) doc.importNode(child, true);
+                    FusedXsl.rename(copy, rule, names);
+                    body.add(copy);
+                }
+            }
+        }
+        for (final Map.Entry<String, String> ent : namespaces.entrySet()) {
+            root.setAttributeNS(
+                FusedXsl.XMLNS, String.format("xmlns:%s", ent.getKey()), ent.getValue()
+            );
+        }
+        for (final String href : imports) {
+            final Element imp = doc.createElementNS(FusedXsl.XSL, "xsl:import");
+            imp.setAttribute("href", href);
+            root.appendChild(imp);
+        }
+        final Element output = doc.createElementNS(FusedXsl.XSL, "xsl:output");
+        output.setAttribute("encoding", "UTF-8");
+        output.setAttribute("method", "xml");
+        root.appendChild(output);
+        root.appendChild(FusedXsl.main(doc, rules));
+        for (final Node node : body) {
+            root.appendChild(node);
+        }
+        return new XMLDocument(doc);
+    }
+
+    /**
+     * The main template, which applies all lints.
+     * @param doc The document
+     * @param rules IDs of lints
+     * @return Template
+     */
+    private static Element main(final Document doc, final Iterable<String> rules) {
+        final Element template = doc.createElementNS(FusedXsl.XSL, "xsl:template");
+        template.setAttribute("match", "/");
+        final Element all = doc.createElement("rules");
+        template.appendChild(all);
+        for (final String rule : rules) {
+            final Element elm = doc.createElement("rule");
+            elm.setAttribute("id", rule);
+            final Element apply = doc.createElementNS(FusedXsl.XSL, "xsl:apply-templates");
+            apply.setAttribute("select", ".");
+            apply.setAttribute("mode", rule);
+            elm.appendChild(apply);
+            all.appendChild(elm);
+        }
+        return template;
+    }
+
+    /**
+     * Rename everything in the element, to make it unique for the lint.
+     * @param elm The element
+     * @param rule ID of the lint
+     * @param names Names declared in the stylesheet of the lint
+     * @checkstyle CyclomaticComplexityCheck (50 lines)
+     */
+    private static void rename(final Element elm, final String rule, final FusedXsl.Names names) {
+        final boolean xsl = FusedXsl.XSL.equals(elm.getNamespaceURI());
+        if (xsl) {
+            final String name = elm.getLocalName();
+            if ("apply-templates".equals(name)
+                || "template".equals(name) && elm.hasAttribute("match")) {
+                elm.setAttribute("mode", FusedXsl.modes(elm.getAttribute("mode"), rule));
+            }
+            if (FusedXsl.DECLARATIONS.contains(name) && elm.hasAttribute("name")) {
+                elm.setAttribute(
+                    "name", FusedXsl.prefixed(rule, elm.getAttribute("name"))
+                );
+            }
+            if ("function".equals(name)) {
+                elm.setAttribute(
+                    "name", FusedXsl.function(rule, elm.getAttribute("name"))
+                );
+            }
+        }
+        final NamedNodeMap attrs = elm.getAttributes();
+        for (int idx = 0; idx < attrs.getLength(); ++idx) {
+            final Attr attr = (Attr) attrs.item(idx);
+            if (attr.getNamespaceURI() != null) {
+                continue;
+            }
+            if (xsl && FusedXsl.EXPRESSIONS.contains(attr.getLocalName())) {
+                attr.setValue(FusedXsl.expression(attr.getValue(), rule, names));
+            } else {
+                attr.setValue(FusedXsl.template(attr.getValue(), rule, names));
+            }
+        }
+        for (Node child = elm.getFirstChild(); child != null; child = child.getNextSibling()) {
+            if (child.getNodeType() == Node.ELEMENT_NODE) {
+                FusedXsl.rename((Element) child, rule, names);
+            }
+        }
+    }
+
+    /**
+     * Rename references in the attribute value template, where only
+     * the parts in curly braces are XPath expressions.
+     * @param avt The attribute value template
+     * @param rule ID of the lint
+     * @param names Names declared in the stylesheet of the lint
+     * @return New template
+     */
+    private static String template(final String avt, final String rule,
+        final FusedXsl.Names names) {
+        final StringBuilder out = new StringBuilder(avt.length());
+        int pos = 0;
+        while (pos < avt.length()) {
+            final char chr = avt.charAt(pos);
+            if (chr == '{' && avt.startsWith("{{", pos)
+                || chr == '}' && avt.startsWith("}}", pos)) {
+                out.append(chr).append(chr);
+                pos += 2;
+            } else if (chr == '{') {
+                int end = pos + 1;
+                while (end < avt.length() && avt.charAt(end) != '}') {
+                    end = FusedXsl.literal(avt, end);
+                }
+                out.append('{')
+                    .append(FusedXsl.expression(avt.substring(pos + 1, end), rule, names));
+                pos = end;
+            } else {
+                out.append(chr);
+                ++pos;
+            }
+        }
+        return out.toString();
+    }
+
+    /**
+     * Rename references to variables, keys and functions in the XPath
+     * expression, leaving string literals as they are.
+     * @param expr The expression
+     * @param rule ID of the lint
+     * @param names Names declared in the stylesheet of the lint
+     * @return New expression
+     * @checkstyle CyclomaticComplexityCheck (50 lines)
+     */
+    private static String expression(final String expr, final String rule,
+        final FusedXsl.Names names) {
+        final StringBuilder out = new StringBuilder(expr.length());
+        int pos = 0;
+        while (pos < expr.length()) {
+            final char chr = expr.charAt(pos);
+            if (chr == '\'' || chr == '"') {
+                final int end = FusedXsl.literal(expr, pos);
+                out.append(expr, pos, end);
+                pos = end;
+            } else if (chr == '$') {
+                final int end = FusedXsl.qname(expr, pos + 1);
+                final String name = expr.substring(pos + 1, end);
+                out.append('$');
+                if (names.vars.contains(name)) {
+                    out.append(FusedXsl.prefixed(rule, name));
+                } else {
+                    out.append(name);
+                }
+                pos = end;
+            } else if (FusedXsl.starts(chr)) {
+                final int end = FusedXsl.qname(expr, pos);
+                final String name = expr.substring(pos, end);
+                int next = end;
+                while (next < expr.length() && Character.isWhitespace(expr.charAt(next))) {
+                    ++next;
+                }
+                final boolean call = next < expr.length() && expr.charAt(next) == '(';
+                if (call && names.functions.contains(name)) {
+                    out.append(FusedXsl.function(rule, name));
+                    pos = end;
+                } else if (call && "key".equals(name)) {
+                    ++next;
+                    while (next < expr.length() && Character.isWhitespace(expr.charAt(next))) {
+                        ++next;
+                    }
+                    out.append(expr, pos, next);
+                    pos = next;
+                    final int stop = FusedXsl.literal(expr, next);
+                    if (stop > next + 1
+                        && names.keys.contains(expr.substring(next + 1, stop - 1))) {
+                        out.append(expr.charAt(next))
+                            .append(FusedXsl.prefixed(rule, expr.substring(next + 1, stop - 1)))
+                            .append(expr.charAt(next));
+                        pos = stop;
+                    }
+                } else {
+                    out.append(name);
+                    pos = end;
+                }
+            } else {
+                out.append(chr);
+                ++pos;
+            }
+        }
+        return out.toString();
+    }
+
+    /**
+     * Position right after the string literal, if it starts at the
+     * given position, or the next position otherwise.
+     * @param expr The expression
+     * @param pos Position of the opening quote
+     * @return Position after the closing quote
+     */
+    private static int literal(final String expr, final int pos) {
+        final char chr = expr.charAt(pos);
+        final int end;
+        if (chr == '\'' || chr == '"') {
+            final int close = expr.indexOf(chr, pos + 1);
+            if (close < 0) {
+                end = expr.length();
+            } else {
+                end = close + 1;
+            }
+        } else {
+            end = pos + 1;
+        }
+        return end;
+    }
+
+    /**
+     * Position right after the QName, which starts at the given position.
+     * @param expr The expression
+     * @param pos Position of the first character
+     * @return Position after the last character
+     */
+    private static int qname(final String expr, final int pos) {
+        int end = pos;
+        while (end < expr.length() && FusedXsl.continues(expr.charAt(end))) {
+            ++end;
+        }
+        if (end > pos && end + 1 < expr.length() && expr.charAt(end) == ':'
+            && FusedXsl.starts(expr.charAt(end + 1))) {
+            end = FusedXsl.qname(expr, end + 1);
+        }
+        return end;
+    }
+
+    /**
+     * Can a name start with this character?
+     * @param chr The character
+     * @return TRUE if it can
+     */
+    private static boolean starts(final char chr) {
+        return Character.isLetter(chr) || chr == '_';
+    }
+
+    /**
+     * Can a name continue with this character?
+     * @param chr The character
+     * @return TRUE if it can
+     */
+    private static boolean continues(final char chr) {
+        return FusedXsl.starts(chr) || Character.isDigit(chr) || chr == '-' || chr == '.';
+    }
+
+    /**
+     * Rename modes.
+     * @param modes Modes, separated by spaces, maybe empty
+     * @param rule ID of the lint
+     * @return New modes
+     */
+    private static String modes(final String modes, final String rule) {
+        final Collection<String> renamed = new LinkedList<>();
+        for (final String mode : modes.trim().split("\\s+")) {
+            if (mode.isEmpty() || "#default".equals(mode) || "#unnamed".equals(mode)) {
+                renamed.add(rule);
+            } else if ("#current".equals(mode)) {
+                renamed.add(mode);
+            } else if (mode.startsWith("#")) {
+                throw new IllegalStateException(
+                    String.format("Mode '%s' in %s can't be fused", mode, rule)
+                );
+            } else {
+                renamed.add(FusedXsl.prefixed(rule, mode));
+            }
+        }
+        return String.join(" ", renamed);
+    }
+
+    /**
+     * Make name unique for the lint.
+     * @param rule ID of the lint
+     * @param name The name
+     * @return Unique name
+     */
+    private static String prefixed(final String rule, final String name) {
+        return String.format("%s--%s", rule, name);
+    }
+
+    /**
+     * Make name of a function unique for the lint, keeping its prefix.
+     * @param rule ID of the lint
+     * @param name The name, with a namespace prefix
+     * @return Unique name
+     */
+    private static String function(final String rule, final String name) {
+        final int colon = name.indexOf(':');
+        return String.format(
+            "%s%s", name.substring(0, colon + 1),
+            FusedXsl.prefixed(rule, name.substring(colon + 1))
+        );
+    }
+
+    /**
+     * Collect namespaces declared at the top element.
+     * @param top Top element of the stylesheet
+     * @param namespaces Namespaces collected so far, by prefixes
+     */
+    private static void namespaces(final Element top, final Map<String, String> namespaces) {
+        final NamedNodeMap attrs = top.getAttributes();
+        for (int idx = 0; idx < attrs.getLength(); ++idx) {
+            final Attr attr = (Attr) attrs.item(idx);
+            if (!FusedXsl.XMLNS.equals(attr.getNamespaceURI())
+                || !"xmlns".equals(attr.getPrefix())) {
+                continue;
+            }
+            final String before = namespaces.putIfAbsent(attr.getLocalName(), attr.getValue());
+            if (before != null && !before.equals(attr.getValue())) {
+                throw new IllegalStateException(
+                    String.format(
+                        "Prefix '%s' is bound to both '%s' and '%s', can't fuse",
+                        attr.getLocalName(), before, attr.getValue()
+                    )
+                );
+            }
+        }
+    }
+
+    /**
+     * Top element of the stylesheet.
+     * @param node The node of the stylesheet
+     * @return Top element
+     */
+    private static Element top(final Node node) {
+        final Element top;
+        if (node.getNodeType() == Node.DOCUMENT_NODE) {
+            top = ((Document) node).getDocumentElement();
+        } else {
+            top = (Element) node;
+        }
+        return top;
+    }
+
+    /**
+     * Is it an XSL element with the given name?
+     * @param node The node
+     * @param name Local name
+     * @return TRUE if it is
+     */
+    private static boolean isXsl(final Node node, final String name) {
+        return node.getNodeType() == Node.ELEMENT_NODE
+            && FusedXsl.XSL.equals(node.getNamespaceURI())
+            && name.equals(node.getLocalName());
+    }
+
+    /**
+     * Make a factory of DOM documents, aware of namespaces.
+     * @return The factory
+     */
+    private static DocumentBuilderFactory factory() {
+        final DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+        factory.setNamespaceAware(true);
+        return factory;
+    }
+
+    /**
+     * Names declared in the stylesheet of a lint.
+     *
+     * @since 0.1.0
+     */
+    private static final class Names {
+
+        /**
+         * Names of variables and parameters, global and local.
+         */
+        private final Set<String> vars;
+
+        /**
+         * Names of keys.
+         */
+        private final Set<String> keys;
+
+        /**
+         * Names of functions, with namespace prefixes.
+         */
+        private final Set<String> functions;
+
+        /**
+         * Ctor.
+         * @param top Top element of the stylesheet
+         */
+        Names(final Element top) {
+            this.vars = FusedXsl.Names.declared(top, "variable", "param");
+            this.keys = FusedXsl.Names.declared(top, "key");
+            this.functions = FusedXsl.Names.declared(top, "function");
+        }
+
+        /**
+         * Names declared by XSL elements anywhere in the stylesheet.
+         * @param top Top element of the stylesheet
+         * @param elements Local names of declaring XSL elements
+         * @return Names
+         */
+        private static Set<String> declared(final Element top, final String... elements) {
+            final Set<String> names = new LinkedHashSet<>(0);
+            for (final String element : elements) {
+                final NodeList all = top.getElementsByTagNameNS(FusedXsl.XSL, element);
+                for (int idx = 0; idx < all.getLength(); ++idx) {
+                    names.add(((Element) all.item(idx)).getAttribute("name"));
+                }
+            }
+            return names;
+        }
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints;
+
+import com.jcabi.xml.XML;
+import java.nio.file.Path;
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Package of XMIR files, which are parsed only when touched.
+ *
+ * <p>Keys are known up front, while each document is parsed only when
+ * a lint touches it for the first time. At most {@code capacity}
+ * parsed documents are kept in memory: when there are more of them,
+ * the least recently used one is evicted and will be parsed again,
+ * if touched. Lints that only look at keys, never parse anything.</p>
+ *
+ * @since 0.1.0
+ */
+final class LazyPackage extends AbstractMap<String, XML> {
+
+    /**
+     * Lazy documents, by their keys.
+     */
+    private final Map<String, XML> docs;
+
+    /**
+     * Ctor.
+     * @param paths Paths of XMIR files, by their keys
+     * @param capacity Max number of parsed documents to keep in memory
+     */
+    LazyPackage(final Map<String, Path> paths, final int capacity) {
+        this.docs = LazyPackage.lazy(paths, LazyPackage.lru(capacity));
+    }
+
+    @Override
+    public Set<Entry<String, XML>> entrySet() {
+        return this.docs.entrySet();
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return this.docs.containsKey(key);
+    }
+
+    @Override
+    public XML get(final Object key) {
+        return this.docs.get(key);
+    }
+
+    @Override
+    public Set<String> keySet() {
+        return this.docs.keySet();
+    }
+
+    @Override
+    public int size() {
+        return this.docs.size();
+    }
+
+    /**
+     * Make lazy documents.
+     * @param paths Paths of XMIR files, by their keys
+     * @param cache Cache of parsed documents
+     * @return Lazy documents, by their keys
+     */
+    private static Map<String, XML> lazy(
+        final Map<String, Path> paths, final Map<Path, XML> cache
+    ) {
+        final Map<String, XML> map = new TreeMap<>();
+        for (final Map.Entry<String, Path> ent : paths.entrySet()) {
+            map.put(ent.getKey(), new LazyXmir(ent.getValue(), cache));
+        }
+        return Collections.unmodifiableMap(map);
+    }
+
+    /**
+     * Make a synchronized LRU cache.
+     * @param capacity Max number of documents to keep
+     * @return Cache
+     */
+    private static Map<Path, XML> lru(final int capacity) {
+        return Collections.synchronizedMap(
+            new LinkedHashMap<Path, XML>(16, 0.75f, true) {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(final Map.Entry<Path, XML> eldest) {
+                    return this.size() > capacity;
+                }
+            }
+        );
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints;
+
+import com.jcabi.xml.XML;
+import com.jcabi.xml.XMLDocument;
+import java.io.FileNotFoundException;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import javax.xml.namespace.NamespaceContext;
+import org.w3c.dom.Node;
+import org.w3c.dom.ls.LSResourceResolver;
+import org.xml.sax.SAXParseException;
+
+/**
+ * XMIR file, which is parsed only when it's touched.
+ *
+ * <p>The parsed document is not kept by this object, but by the cache,
+ * which is shared among many files. When the document is evicted from
+ * the cache, it will be parsed again on the next touch.</p>
+ *
+ * @since 0.1.0
+ */
+@SuppressWarnings("PMD.TooManyMethods")
+final class LazyXmir implements XML {
+
+    /**
+     * The file.
+     */
+    private final Path path;
+
+    /**
+     * Parsed documents, by their paths.
+     */
+    private final Map<Path, XML> cache;
+
+    /**
+     * Ctor.
+     * @param file The file
+     * @param docs Parsed documents, by their paths
+     */
+    LazyXmir(final Path file, final Map<Path, XML> docs) {
+        this.path = file;
+        this.cache = docs;
+    }
+
+    @Override
+    public String toString() {
+        return this.doc().toString();
+    }
+
+    @Override
+    public List<String> xpath(final String query) {
+        return this.doc().xpath(query);
+    }
+
+    @Override
+    public List<XML> nodes(final String query) {
+        return this.doc().nodes(query);
+    }
+
+    @Override
+    public XML registerNs(final String prefix, final Object uri) {
+        return this.doc().registerNs(prefix, uri);
+    }
+
+    @Override
+    public XML merge(final NamespaceContext context) {
+        return this.doc().merge(context);
+    }
+
+    @Override
+    @Deprecated
+    @SuppressWarnings("deprecation")
+    public Node node() {
+        return this.doc().node();
+    }
+
+    @Override
+    public Node inner() {
+        return this.doc().inner();
+    }
+
+    @Override
+    public Node deepCopy() {
+        return this.doc().deepCopy();
+    }
+
+    @Override
+    public Collection<SAXParseException> validate(final LSResourceResolver resolver) {
+        return this.doc().validate(resolver);
+    }
+
+    @Override
+    public Collection<SAXParseException> validate(final XML xsd) {
+        return this.doc().validate(xsd);
+    }
+
+    /**
+     * Get the document from the cache or parse it.
+     * @return The document
+     */
+    private XML doc() {
+        XML xml = this.cache.get(this.path);
+        if (xml == null) {
+            try {
+                xml = new XMLDocument(this.path);
+            } catch (final FileNotFoundException ex) {
+                throw new IllegalArgumentException(ex);
+            }
+            this.cache.put(this.path, xml);
+        }
+        return xml;
+    }
+}
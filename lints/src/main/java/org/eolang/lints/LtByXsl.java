@@ -0,0 +1,230 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints;
+
+import com.jcabi.xml.ClasspathSources;
+import com.jcabi.xml.XML;
+import com.jcabi.xml.XMLDocument;
+import com.jcabi.xml.XSL;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Set;
+import org.cactoos.Input;
+import org.cactoos.io.ResourceOf;
+import org.cactoos.scalar.Sticky;
+import org.cactoos.scalar.Synced;
+import org.cactoos.scalar.Unchecked;
+import org.cactoos.text.TextOf;
+
+/**
+ * Lint by XSL.
+ *
+ * <p>The stylesheet is parsed and compiled only when the defects are
+ * requested for the first time, while the motive is read on the
+ * first call to {@link #motive()}. Both are done only once, even if
+ * many threads are asking for them at the same time.</p>
+ *
+ * <p>The severities the lint may report are known without compiling
+ * the stylesheet: they are either given by the index of lints, see
+ * {@link PkByXsl}, or found in the stylesheet document.</p>
+ *
+ * @since 0.0.1
+ */
+final class LtByXsl implements Lint<XML> {
+
+    /**
+     * The name of the rule.
+     */
+    private final String rule;
+
+    /**
+     * The stylesheet.
+     */
+    private final Unchecked<XSL> sheet;
+
+    /**
+     * Motive document.
+     */
+    private final Unchecked<String> doc;
+
+    /**
+     * The stylesheet, as a document.
+     */
+    private final Unchecked<XML> source;
+
+    /**
+     * Severities the stylesheet may report.
+     */
+    private final Unchecked<Set<Severity>> levels;
+
+    /**
+     * Ctor.
+     * @param xsl Relative path of XSL
+     */
+    LtByXsl(final String xsl) {
+        this(
+            xsl.substring(xsl.lastIndexOf('/') + 1),
+            new ResourceOf(
+                String.format("org/eolang/lints/%s.xsl", xsl)
+            ),
+            new ResourceOf(
+                String.format("org/eolang/motives/%s.md", xsl)
+            )
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param name The name of the rule, equal to the "@id" of XSL
+     * @param xsl Relative path of XSL
+     * @param motive Relative path of a motive document
+     */
+    LtByXsl(final String name, final Input xsl, final Input motive) {
+        this(
+            name,
+            new Unchecked<>(
+                new Synced<>(
+                    new Sticky<>(() -> new XMLDocument(new TextOf(xsl).asString()))
+                )
+            ),
+            motive
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param name The name of the rule, equal to the "@id" of XSL
+     * @param xsl Relative path of XSL
+     * @param motive Relative path of a motive document
+     * @param severities Severities the XSL may report
+     */
+    LtByXsl(final String name, final Input xsl, final Input motive,
+        final Set<Severity> severities) {
+        this(
+            name,
+            new Unchecked<>(
+                new Synced<>(
+                    new Sticky<>(() -> new XMLDocument(new TextOf(xsl).asString()))
+                )
+            ),
+            motive,
+            new Unchecked<>(() -> severities)
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param name The name of the rule, equal to the "@id" of XSL
+     * @param xsl The stylesheet, as a document
+     * @param motive Relative path of a motive document
+     */
+    private LtByXsl(final String name, final Unchecked<XML> xsl, final Input motive) {
+        this(
+            name, xsl, motive,
+            new Unchecked<>(
+                new Synced<>(new Sticky<>(() -> LtByXsl.declared(xsl.value())))
+            )
+        );
+    }
+
+    /**
+     * Primary ctor.
+     * @param name The name of the rule, equal to the "@id" of XSL
+     * @param xsl The stylesheet, as a document
+     * @param motive Relative path of a motive document
+     * @param severities Severities the XSL may report
+     */
+    private LtByXsl(final String name, final Unchecked<XML> xsl, final Input motive,
+        final Unchecked<Set<Severity>> severities) {
+        this.rule = name;
+        this.source = xsl;
+        this.levels = severities;
+        this.sheet = new Unchecked<>(
+            new Synced<>(
+                new Sticky<>(
+                    () -> new MeasuredXsl(
+                        name,
+                        new SaxonXsl(xsl.value(), name, new ClasspathSources())
+                    )
+                )
+            )
+        );
+        this.doc = new Unchecked<>(
+            new Synced<>(new Sticky<>(() -> new TextOf(motive).asString()))
+        );
+    }
+
+    @Override
+    public String name() {
+        return this.rule;
+    }
+
+    @Override
+    public Collection<Defect> defects(final XML xmir) {
+        return new XslReport(this.rule, this.sheet.value().transform(xmir)).defects(
+            xmir.xpath("/program/@name").stream().findFirst().orElse("unknown")
+        );
+    }
+
+    @Override
+    public String motive() {
+        return this.doc.value();
+    }
+
+    /**
+     * The stylesheet of the lint, as a document.
+     * @return XSL document
+     */
+    XML stylesheet() {
+        return this.source.value();
+    }
+
+    /**
+     * Severities the lint may report, without compiling its stylesheet.
+     * @return Severities
+     */
+    Set<Severity> severities() {
+        return this.levels.value();
+    }
+
+    /**
+     * Severities declared in the stylesheet.
+     * @param xsl The stylesheet
+     * @return Severities
+     */
+    private static Set<Severity> declared(final XML xsl) {
+        final Set<Severity> found = EnumSet.noneOf(Severity.class);
+        for (final String text : xsl.xpath(
+            "//xsl:attribute[@name='severity']//text() | //@severity"
+        )) {
+            for (final Severity severity : Severity.values()) {
+                if (severity.mnemo().equals(text.trim())) {
+                    found.add(severity);
+                }
+            }
+        }
+        return found;
+    }
+
+}
@@ -0,0 +1,120 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints;
+
+import com.jcabi.xml.ClasspathSources;
+import com.jcabi.xml.XML;
+import com.jcabi.xml.XSL;
+import java.util.Collection;
+import java.util.LinkedList;
+import org.cactoos.iterable.Mapped;
+import org.cactoos.list.ListOf;
+import org.cactoos.scalar.Sticky;
+import org.cactoos.scalar.Synced;
+import org.cactoos.scalar.Unchecked;
+
+/**
+ * Many lints by XSL, fused into a single stylesheet.
+ *
+ * <p>Instead of running a separate XSL transformation for each lint,
+ * the stylesheets of all of them are merged into a single one, with
+ * the help of {@link FusedXsl}, and the XMIR is transformed only once.
+ * The defects found are exactly the same as if the lints were running
+ * one by one, and in the same order. The name of the lint is made of
+ * the names of all lints fused, so that it differs for different sets
+ * of them, for example in the key of {@link DefectCache}.</p>
+ *
+ * @since 0.1.0
+ */
+final class LtFused implements Lint<XML> {
+
+    /**
+     * Lints fused.
+     */
+    private final Collection<LtByXsl> lints;
+
+    /**
+     * The fused stylesheet.
+     */
+    private final Unchecked<XSL> sheet;
+
+    /**
+     * Ctor.
+     * @param all Lints to fuse
+     */
+    LtFused(final Iterable<LtByXsl> all) {
+        this(new ListOf<>(all));
+    }
+
+    /**
+     * Ctor.
+     * @param all Lints to fuse
+     */
+    private LtFused(final Collection<LtByXsl> all) {
+        this.lints = all;
+        this.sheet = new Unchecked<>(
+            new Synced<>(
+                new Sticky<>(
+                    () -> new MeasuredXsl(
+                        "fused",
+                        new SaxonXsl(
+                            new FusedXsl(new Mapped<>(LtByXsl::stylesheet, all)).value(),
+                            "fused",
+                            new ClasspathSources()
+                        )
+                    )
+                )
+            )
+        );
+    }
+
+    @Override
+    public String name() {
+        return String.format(
+            "fused:%s", String.join(",", new Mapped<>(LtByXsl::name, this.lints))
+        );
+    }
+
+    @Override
+    public Collection<Defect> defects(final XML xmir) {
+        final String program = xmir.xpath("/program/@name").stream()
+            .findFirst().orElse("unknown");
+        final Collection<Defect> defects = new LinkedList<>();
+        for (final XML rule : this.sheet.value().transform(xmir).nodes("/rules/rule")) {
+            defects.addAll(
+                new XslReport(rule.xpath("@id").get(0), rule).defects(program)
+            );
+        }
+        return defects;
+    }
+
+    @Override
+    public String motive() throws Exception {
+        final Collection<String> motives = new LinkedList<>();
+        for (final LtByXsl lint : this.lints) {
+            motives.add(lint.motive());
+        }
+        return String.join("\n", motives);
+    }
+}
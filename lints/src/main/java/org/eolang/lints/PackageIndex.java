@@ -0,0 +1,386 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints;
+
+import com.jcabi.xml.XML;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.cactoos.map.MapEntry;
+import org.cactoos.scalar.Sticky;
+import org.cactoos.scalar.Synced;
+import org.cactoos.scalar.Unchecked;
+import org.w3c.dom.Element;
+
+/**
+ * Package of XMIR programs, together with the facts about each of them,
+ * which are needed by WPA lints.
+ *
+ * <p>The facts are extracted from each program only once, when they are
+ * requested for the first time, in parallel, by walking through the top
+ * elements of the DOM, without XPath. Then, lints read them from here,
+ * instead of querying XMIR documents again and again.</p>
+ *
+ * <p>Give the index to lints as a {@link Map}. If a lint gets a map, which
+ * is not an index, it may build one with {@link #PackageIndex(Map)}. If
+ * the map is already an index, its facts are reused.</p>
+ *
+ * <p>The class is thread-safe.</p>
+ *
+ * @since 0.1.0
+ */
+public final class PackageIndex extends AbstractMap<String, XML> {
+
+    /**
+     * The package.
+     */
+    private final Map<String, XML> pkg;
+
+    /**
+     * Facts about programs, by their keys.
+     */
+    private final Unchecked<Map<String, PackageIndex.Facts>> all;
+
+    /**
+     * Ctor.
+     * @param map The package, or another index
+     */
+    public PackageIndex(final Map<String, XML> map) {
+        this(map, 1);
+    }
+
+    /**
+     * Ctor.
+     * @param map The package, or another index
+     * @param threads Max number of threads to extract facts in
+     */
+    public PackageIndex(final Map<String, XML> map, final int threads) {
+        this(PackageIndex.origin(map), PackageIndex.facts(map, threads));
+    }
+
+    /**
+     * Ctor.
+     * @param map The package
+     * @param facts Facts about programs, for example, restored from
+     *  {@link Summaries}
+     */
+    PackageIndex(final Map<String, XML> map,
+        final Unchecked<Map<String, PackageIndex.Facts>> facts) {
+        super();
+        this.pkg = map;
+        this.all = facts;
+    }
+
+    @Override
+    public Set<Map.Entry<String, XML>> entrySet() {
+        return Collections.unmodifiableMap(this.pkg).entrySet();
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return this.pkg.containsKey(key);
+    }
+
+    @Override
+    public XML get(final Object key) {
+        return this.pkg.get(key);
+    }
+
+    @Override
+    public Set<String> keySet() {
+        return Collections.unmodifiableSet(this.pkg.keySet());
+    }
+
+    @Override
+    public int size() {
+        return this.pkg.size();
+    }
+
+    /**
+     * Facts about all programs, in the order of the package.
+     * @return Facts by keys of programs
+     */
+    public Map<String, PackageIndex.Facts> facts() {
+        return this.all.value();
+    }
+
+    /**
+     * The package inside the map.
+     * @param map The package, or another index
+     * @return The package
+     */
+    private static Map<String, XML> origin(final Map<String, XML> map) {
+        final Map<String, XML> origin;
+        if (map instanceof PackageIndex) {
+            origin = ((PackageIndex) map).pkg;
+        } else {
+            origin = map;
+        }
+        return origin;
+    }
+
+    /**
+     * Facts about programs, extracted only once.
+     * @param map The package, or another index
+     * @param threads Max number of threads to extract facts in
+     * @return Facts
+     */
+    private static Unchecked<Map<String, PackageIndex.Facts>> facts(
+        final Map<String, XML> map, final int threads) {
+        final Unchecked<Map<String, PackageIndex.Facts>> facts;
+        if (map instanceof PackageIndex) {
+            facts = ((PackageIndex) map).all;
+        } else {
+            facts = new Unchecked<>(
+                new Synced<>(new Sticky<>(() -> PackageIndex.extracted(map, threads)))
+            );
+        }
+        return facts;
+    }
+
+    /**
+     * Extract facts about all programs.
+     *
+     * <p>Programs are processed in parallel, in a pool of a limited size,
+     * which is shut down when all of them are done, unless only one
+     * thread is allowed.</p>
+     *
+     * @param map The package
+     * @param threads Max number of threads
+     * @return Facts by keys of programs
+     */
+    private static Map<String, PackageIndex.Facts> extracted(
+        final Map<String, XML> map, final int threads) {
+        final Map<String, PackageIndex.Facts> facts = new LinkedHashMap<>(0);
+        if (threads <= 1) {
+            for (final Map.Entry<String, XML> ent : map.entrySet()) {
+                facts.put(ent.getKey(), new PackageIndex.Facts(ent.getValue()));
+            }
+        } else if (!map.isEmpty()) {
+            final ExecutorService pool = Executors.newFixedThreadPool(
+                Math.max(1, Math.min(threads, map.size()))
+            );
+            try {
+                final Map<String, Future<PackageIndex.Facts>> futures = new LinkedHashMap<>(0);
+                for (final Map.Entry<String, XML> ent : map.entrySet()) {
+                    futures.put(
+                        ent.getKey(),
+                        pool.submit(() -> new PackageIndex.Facts(ent.getValue()))
+                    );
+                }
+                for (final Map.Entry<String, Future<PackageIndex.Facts>> ent
+                    : futures.entrySet()) {
+                    facts.put(ent.getKey(), Futures.done(ent.getValue(), "indexing XMIR files"));
+                }
+            } finally {
+                pool.shutdownNow();
+            }
+        }
+        return Collections.unmodifiableMap(facts);
+    }
+
+    /**
+     * Facts about a single program.
+     *
+     * @since 0.1.0
+     */
+    public static final class Facts {
+
+        /**
+         * Name of the program.
+         */
+        private final String name;
+
+        /**
+         * Tails of package metas.
+         */
+        private final List<String> packages;
+
+        /**
+         * Tails of alias metas, with lines of their metas.
+         */
+        private final List<Map.Entry<String, Integer>> alss;
+
+        /**
+         * Tails of tests metas.
+         */
+        private final List<String> tsts;
+
+        /**
+         * Lines of top-level objects, by their names.
+         */
+        private final Map<String, Integer> objs;
+
+        /**
+         * Ctor.
+         * @param xmir The XMIR
+         */
+        @SuppressWarnings("PMD.ConstructorOnlyInitializesOrCallOtherConstructors")
+        Facts(final XML xmir) {
+            this.packages = new ArrayList<>(1);
+            this.alss = new ArrayList<>(0);
+            this.tsts = new ArrayList<>(0);
+            this.objs = new LinkedHashMap<>(0);
+            final Element root = Elements.root(xmir.inner());
+            final boolean program = root != null && "program".equals(root.getNodeName());
+            if (program && root.hasAttribute("name")) {
+                this.name = root.getAttribute("name");
+            } else {
+                this.name = "unknown";
+            }
+            if (program) {
+                for (final Element kid : Elements.kids(root, "metas")) {
+                    for (final Element meta : Elements.kids(kid, "meta")) {
+                        this.meta(meta);
+                    }
+                }
+                for (final Element kid : Elements.kids(root, "objects")) {
+                    for (final Element obj : Elements.kids(kid, "o")) {
+                        if (obj.hasAttribute("name")) {
+                            this.objs.put(obj.getAttribute("name"), Facts.line(obj));
+                        }
+                    }
+                }
+            }
+        }
+
+        /**
+         * Ctor.
+         * @param program Name of the program
+         * @param pkg Package of the program, or an empty string
+         * @param aliases Tails of alias metas, with lines of their metas
+         * @param tests Tails of tests metas
+         * @param objects Lines of top-level objects, by their names
+         * @checkstyle ParameterNumberCheck (5 lines)
+         */
+        Facts(final String program, final String pkg,
+            final List<Map.Entry<String, Integer>> aliases, final List<String> tests,
+            final Map<String, Integer> objects) {
+            this.name = program;
+            this.packages = new ArrayList<>(1);
+            if (!pkg.isEmpty()) {
+                this.packages.add(pkg);
+            }
+            this.alss = new ArrayList<>(aliases);
+            this.tsts = new ArrayList<>(tests);
+            this.objs = new LinkedHashMap<>(objects);
+        }
+
+        /**
+         * Name of the program.
+         * @return The {@code @name} of the {@code program}, or "unknown"
+         */
+        public String program() {
+            return this.name;
+        }
+
+        /**
+         * Package of the program.
+         * @return The tail of the {@code package} meta, or an empty string
+         *  if there is no such meta or there are many of them
+         */
+        public String pkg() {
+            final String pkg;
+            if (this.packages.size() == 1) {
+                pkg = this.packages.get(0);
+            } else {
+                pkg = "";
+            }
+            return pkg;
+        }
+
+        /**
+         * Aliases of the program.
+         * @return Tails of {@code alias} metas, with their lines, in the
+         *  order of metas; metas without tails are skipped
+         */
+        public List<Map.Entry<String, Integer>> aliases() {
+            return Collections.unmodifiableList(this.alss);
+        }
+
+        /**
+         * Tests of the program.
+         * @return Tails of {@code tests} metas
+         */
+        public List<String> tests() {
+            return Collections.unmodifiableList(this.tsts);
+        }
+
+        /**
+         * Top-level objects of the program.
+         * @return Lines of objects by their names, in the order of objects;
+         *  if a name is used twice, the last line wins
+         */
+        public Map<String, Integer> objects() {
+            return Collections.unmodifiableMap(this.objs);
+        }
+
+        /**
+         * Take facts from a meta.
+         * @param meta The meta
+         */
+        private void meta(final Element meta) {
+            final List<Element> heads = Elements.kids(meta, "head");
+            if (!heads.isEmpty()) {
+                final List<Element> tails = Elements.kids(meta, "tail");
+                final String tail;
+                if (tails.isEmpty()) {
+                    tail = "";
+                } else {
+                    tail = tails.get(0).getTextContent();
+                }
+                final String head = heads.get(0).getTextContent();
+                if ("package".equals(head)) {
+                    this.packages.add(tail);
+                } else if ("alias".equals(head) && !tails.isEmpty()) {
+                    this.alss.add(new MapEntry<>(tail, Facts.line(meta)));
+                } else if ("tests".equals(head)) {
+                    this.tsts.add(tail);
+                }
+            }
+        }
+
+        /**
+         * The line of the element.
+         * @param element The element
+         * @return The {@code @line}, or zero if it's absent
+         */
+        private static int line(final Element element) {
+            final int line;
+            if (element.hasAttribute("line")) {
+                line = Integer.parseInt(element.getAttribute("line"));
+            } else {
+                line = 0;
+            }
+            return line;
+        }
+    }
+}
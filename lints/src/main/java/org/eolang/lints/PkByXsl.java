@@ -0,0 +1,125 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints;
+
+import com.jcabi.xml.XML;
+import java.io.IOException;
+import java.util.EnumSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Set;
+import org.cactoos.Input;
+import org.cactoos.io.InputOf;
+import org.cactoos.io.ResourceOf;
+import org.cactoos.iterable.IterableEnvelope;
+import org.cactoos.text.IoCheckedText;
+import org.cactoos.text.TextOf;
+
+/**
+ * All lints defined by XSLs.
+ *
+ * <p>The lints are listed in the index, which is generated during the
+ * build by {@code src/build/lints-index.groovy}, so there is no need
+ * to scan the classpath at runtime. Every line of the index contains
+ * the ID of the rule, the path of its XSL, the path of its motive,
+ * and the severities it may report, separated by tabs. Thanks to the
+ * severities, lints may be ranked before their XSL is compiled, see
+ * {@link LtByXsl#severities()}.</p>
+ *
+ * @since 0.1.0
+ */
+final class PkByXsl extends IterableEnvelope<Lint<XML>> {
+
+    /**
+     * Location of the index.
+     */
+    private static final String INDEX = "org/eolang/lints/index.txt";
+
+    /**
+     * Ctor.
+     */
+    PkByXsl() {
+        super(PkByXsl.all());
+    }
+
+    /**
+     * All lints.
+     *
+     * @return List of all lints
+     */
+    private static Iterable<Lint<XML>> all() {
+        try {
+            final List<Lint<XML>> lints = new LinkedList<>();
+            for (final String line
+                : new IoCheckedText(new TextOf(new ResourceOf(PkByXsl.INDEX)))
+                    .asString().split("\n")) {
+                if (!line.isBlank()) {
+                    final String[] parts = line.split("\t", -1);
+                    lints.add(
+                        new LtByXsl(
+                            parts[0],
+                            new ResourceOf(parts[1]),
+                            PkByXsl.motive(parts[0], parts[2]),
+                            PkByXsl.severities(parts[3])
+                        )
+                    );
+                }
+            }
+            return lints;
+        } catch (final IOException ex) {
+            throw new IllegalArgumentException(ex);
+        }
+    }
+
+    /**
+     * Severities of the lint.
+     * @param list Comma-separated severities, like "error,warning"
+     * @return Severities
+     */
+    private static Set<Severity> severities(final String list) {
+        final Set<Severity> all = EnumSet.noneOf(Severity.class);
+        for (final String mnemo : list.split(",")) {
+            all.add(Severity.parsed(mnemo));
+        }
+        return all;
+    }
+
+    /**
+     * Motive of the lint.
+     * @param rule The ID of the rule
+     * @param path The path of the motive, empty if it is absent
+     * @return Motive document
+     */
+    private static Input motive(final String rule, final String path) {
+        final Input doc;
+        if (path.isEmpty()) {
+            doc = new InputOf(
+                String.format("The motive of the '%s' lint is not documented yet", rule)
+            );
+        } else {
+            doc = new ResourceOf(path);
+        }
+        return doc;
+    }
+}
@@ -0,0 +1,344 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints;
+
+import com.jcabi.xml.XML;
+import com.jcabi.xml.XMLDocument;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import org.cactoos.Scalar;
+import org.cactoos.scalar.Unchecked;
+
+/**
+ * A single XMIR program to analyze.
+ *
+ * <p>By default, all lints are executed one after another in the
+ * calling thread. In order to run them in parallel, provide an
+ * {@link Executor} via {@link #with(Executor)}. The result is exactly the
+ * same in both modes: defects are merged in the order of lints.</p>
+ *
+ * <p>Lints, which are {@link Visitor}s, don't query the document on their
+ * own: all of them are driven by a single {@link Walk} over it.</p>
+ *
+ * @see <a href="https://news.eolang.org/2022-11-25-xmir-guide.html">XMIR</a>
+ * @since 0.1.0
+ */
+public final class Program {
+
+    /**
+     * Collection of mono lints, preloaded on JVM start.
+     */
+    static final Iterable<Lint<XML>> MONO = new Registry<>(Program.mono());
+
+    /**
+     * Executor that runs lints in the calling thread.
+     */
+    private static final Executor INLINE = Runnable::run;
+
+    /**
+     * The XMIR program to analyze.
+     */
+    private final XML xmir;
+
+    /**
+     * The bytes of XMIR, to find it in the cache.
+     */
+    private final Unchecked<byte[]> bytes;
+
+    /**
+     * Lint to use.
+     */
+    private final Iterable<Lint<XML>> lints;
+
+    /**
+     * Executor to run lints in.
+     */
+    private final Executor pool;
+
+    /**
+     * Cache of defects, if any.
+     */
+    private final Optional<DefectCache> cache;
+
+    /**
+     * Ctor.
+     *
+     * <p>The file is parsed only when defects are not found in the
+     * cache, see {@link #with(DefectCache)}.</p>
+     *
+     * @param file The absolute path of the XMIR file
+     * @throws FileNotFoundException If file isn't found
+     */
+    public Program(final Path file) throws FileNotFoundException {
+        this(
+            new LazyXmir(Program.existing(file), new ConcurrentHashMap<>(1)),
+            () -> Files.readAllBytes(file),
+            Program.MONO
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param xml The XMIR
+     */
+    public Program(final XML xml) {
+        this(xml, Program.MONO);
+    }
+
+    /**
+     * Ctor.
+     *
+     * <p>This constructor is for internal use only. It is not supposed
+     * to be visible by end-users. Keep it this way!</p>
+     *
+     * @param xml The XMIR
+     * @param list The lints
+     */
+    Program(final XML xml, final Iterable<Lint<XML>> list) {
+        this(xml, () -> xml.toString().getBytes(StandardCharsets.UTF_8), list);
+    }
+
+    /**
+     * Ctor.
+     * @param xml The XMIR
+     * @param bts The bytes of XMIR
+     * @param list The lints
+     */
+    private Program(final XML xml, final Scalar<byte[]> bts, final Iterable<Lint<XML>> list) {
+        this(xml, new Unchecked<>(bts), list, Program.INLINE, Optional.empty());
+    }
+
+    /**
+     * Ctor.
+     * @param xml The XMIR
+     * @param bts The bytes of XMIR
+     * @param list The lints
+     * @param exec Executor to run lints in
+     * @param defects Cache of defects, if any
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    private Program(final XML xml, final Unchecked<byte[]> bts,
+        final Iterable<Lint<XML>> list, final Executor exec,
+        final Optional<DefectCache> defects) {
+        this.xmir = xml;
+        this.bytes = bts;
+        this.lints = list;
+        this.pool = exec;
+        this.cache = defects;
+    }
+
+    /**
+     * The same program, but with lints running in the given executor.
+     *
+     * <p>The executor may be a fixed thread pool, a
+     * {@link java.util.concurrent.ForkJoinPool}, or anything else. It is
+     * not shut down by this class.</p>
+     *
+     * @param exec Executor to run lints in
+     * @return New program
+     */
+    public Program with(final Executor exec) {
+        return new Program(this.xmir, this.bytes, this.lints, exec, this.cache);
+    }
+
+    /**
+     * The same program, but with defects kept in the given cache.
+     *
+     * <p>When the program, with the same lints of the same version, has
+     * already been analyzed, its defects are taken from the cache, without
+     * running the lints. If the program was created from a file, it is not
+     * even parsed then.</p>
+     *
+     * @param defects Cache of defects
+     * @return New program
+     */
+    public Program with(final DefectCache defects) {
+        return new Program(this.xmir, this.bytes, this.lints, this.pool, Optional.of(defects));
+    }
+
+    /**
+     * Find defects possible defects in the XMIR file.
+     * @return All defects found
+     */
+    public Collection<Defect> defects() {
+        final Collection<Defect> defects;
+        if (this.cache.isPresent()) {
+            defects = new Unchecked<>(
+                () -> this.cache.get().defects(this.bytes.value(), this.lints, this::found)
+            ).value();
+        } else {
+            defects = this.found();
+        }
+        return defects;
+    }
+
+    /**
+     * Find defects by running all lints.
+     * @return All defects found
+     */
+    private Collection<Defect> found() {
+        final SaxonXmir shared;
+        if (this.xmir instanceof SaxonXmir) {
+            shared = (SaxonXmir) this.xmir;
+        } else {
+            shared = new SaxonXmir(this.xmir);
+        }
+        final Map<Thread, XML> copies = new ConcurrentHashMap<>(0);
+        final List<Visitor> visitors = new ArrayList<>(0);
+        for (final Lint<XML> lint : this.lints) {
+            if (lint instanceof Visitor) {
+                visitors.add((Visitor) lint);
+            }
+        }
+        final CompletableFuture<List<Collection<Defect>>> walk;
+        if (visitors.isEmpty()) {
+            walk = CompletableFuture.completedFuture(List.of());
+        } else {
+            walk = CompletableFuture.supplyAsync(
+                () -> new Walk(visitors).found(this.source(shared, copies)),
+                this.pool
+            );
+        }
+        final Collection<CompletableFuture<Collection<Defect>>> futures =
+            new ArrayList<>(0);
+        int walked = 0;
+        for (final Lint<XML> lint : this.lints) {
+            if (lint instanceof Visitor) {
+                final int idx = walked;
+                futures.add(walk.thenApply(all -> all.get(idx)));
+                ++walked;
+            } else {
+                futures.add(
+                    CompletableFuture.supplyAsync(
+                        () -> Program.defects(lint, this.source(shared, copies)),
+                        this.pool
+                    )
+                );
+            }
+        }
+        final Collection<Defect> messages = new ArrayList<>(0);
+        for (final CompletableFuture<Collection<Defect>> future : futures) {
+            try {
+                messages.addAll(future.join());
+            } catch (final CompletionException ex) {
+                if (ex.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) ex.getCause();
+                }
+                throw ex;
+            }
+        }
+        return messages;
+    }
+
+    /**
+     * XMIR to give to lints in the current thread.
+     *
+     * <p>DOM is not safe for concurrent reads, that's why, when lints run
+     * in an executor, each thread gets its own copy of the document. The
+     * copies are made one by one, while the original is locked. The Saxon
+     * tree, which is immutable, is built only once and is shared by all
+     * threads and all XSL lints.</p>
+     *
+     * @param shared The original XMIR with its Saxon tree
+     * @param copies Copies already made, by threads
+     * @return XMIR
+     */
+    private XML source(final SaxonXmir shared, final Map<Thread, XML> copies) {
+        final XML xml;
+        if (this.pool.equals(Program.INLINE)) {
+            xml = shared;
+        } else {
+            xml = copies.computeIfAbsent(
+                Thread.currentThread(),
+                thread -> {
+                    synchronized (this.xmir) {
+                        return shared.with(new XMLDocument(this.xmir.deepCopy()));
+                    }
+                }
+            );
+        }
+        return xml;
+    }
+
+    /**
+     * Make sure the file exists.
+     * @param file The file
+     * @return The same file
+     * @throws FileNotFoundException If it doesn't exist
+     */
+    private static Path existing(final Path file) throws FileNotFoundException {
+        if (!Files.isRegularFile(file)) {
+            throw new FileNotFoundException(file.toString());
+        }
+        return file;
+    }
+
+    /**
+     * Mono lints to use by default.
+     *
+     * <p>If the {@code org.eolang.lints.fused} system property is set
+     * to {@code true}, all XSL lints are fused into a single stylesheet,
+     * see {@link PkFused}.</p>
+     *
+     * @return Lints
+     */
+    private static Iterable<Lint<XML>> mono() {
+        final Iterable<Lint<XML>> lints;
+        if (Boolean.getBoolean("org.eolang.lints.fused")) {
+            lints = new PkFused();
+        } else {
+            lints = new PkMono();
+        }
+        return lints;
+    }
+
+    /**
+     * Find defects by a single lint.
+     * @param lint The lint
+     * @param xml The XMIR
+     * @return Defects found
+     */
+    private static Collection<Defect> defects(final Lint<XML> lint, final XML xml) {
+        try {
+            return lint.defects(xml);
+        } catch (final IOException ex) {
+            throw new IllegalStateException(
+                "Failed to find defects in the XMIR file",
+                ex
+            );
+        }
+    }
+}
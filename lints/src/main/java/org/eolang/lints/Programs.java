@@ -24,22 +24,16 @@
 package org.eolang.lints;
 
 import com.jcabi.xml.XML;
-import com.jcabi.xml.XMLDocument;
-import java.io.FileNotFoundException;
 import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.Collections;
-import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.Map;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
-import org.cactoos.iterable.Sticky;
-import org.cactoos.list.ListOf;
-import org.cactoos.list.Synced;
+import java.util.TreeMap;
+import org.cactoos.scalar.Sticky;
+import org.cactoos.scalar.Synced;
+import org.cactoos.scalar.Unchecked;
 
 /**
  * A collection of XMIR programs to analyze.
@@ -50,15 +44,14 @@ import org.cactoos.list.Synced;
 public final class Programs {
 
     /**
-     * Collection of mono lints, preloaded on JVM start.
+     * Collection of WPA lints, preloaded on JVM start.
      */
-    private static final Iterable<Lint<Map<String, XML>>> WPA = new Synced<>(
-        new ListOf<>(
-            new Sticky<>(
-                new PkWpa()
-            )
-        )
-    );
+    private static final Iterable<Lint<Map<String, XML>>> WPA = new Registry<>(new PkWpa());
+
+    /**
+     * Max number of parsed documents to keep in memory, in incremental mode.
+     */
+    private static final int PARSED = 64;
 
     /**
      * Lints to use.
@@ -66,7 +59,7 @@ public final class Programs {
     private final Iterable<Lint<Map<String, XML>>> lints;
 
     /**
-     * The package of XMIR files.
+     * The package of XMIR files, with facts about them for lints.
      */
     private final Map<String, XML> pkg;
 
@@ -89,7 +82,54 @@ public final class Programs {
      * @throws IOException If fails
      */
     public Programs(final Collection<Path> dirs) throws IOException {
-        this(Programs.discover(dirs));
+        this(new XmirFiles(dirs).parsed());
+    }
+
+    /**
+     * Ctor.
+     *
+     * <p>XMIR files are not parsed up front, but only when lints touch
+     * them. No more than {@code cache} parsed documents are kept in memory
+     * at a time, which makes it possible to analyze packages that don't fit
+     * into the heap.</p>
+     *
+     * @param dirs The directory
+     * @param cache Max number of parsed documents to keep in memory
+     * @throws IOException If fails
+     */
+    public Programs(final Collection<Path> dirs, final int cache) throws IOException {
+        this(new LazyPackage(new XmirFiles(dirs).paths(), cache));
+    }
+
+    /**
+     * Ctor.
+     *
+     * <p>This is the incremental mode: summaries of XMIR files, which are
+     * needed by WPA lints, are kept in the {@code store} directory between
+     * runs. Only the files, which changed since the previous run, are
+     * parsed, while the facts about others are taken from their summaries,
+     * see {@link Summaries}.</p>
+     *
+     * @param dirs The directory
+     * @param store The directory to keep summaries in
+     * @throws IOException If fails
+     */
+    public Programs(final Collection<Path> dirs, final Path store) throws IOException {
+        this(Programs.incremental(new XmirFiles(dirs).paths(), store));
+    }
+
+    /**
+     * Ctor.
+     *
+     * <p>This is the incremental mode too, like
+     * {@link #Programs(Collection, Path)}, but for the given XMIR files
+     * only, instead of all files found in directories.</p>
+     *
+     * @param files XMIR files, by their keys, like {@code "org/eolang/foo"}
+     * @param store The directory to keep summaries in
+     */
+    public Programs(final Map<String, Path> files, final Path store) {
+        this(Programs.incremental(new TreeMap<>(files), store));
     }
 
     /**
@@ -110,7 +150,7 @@ public final class Programs {
      * @param list The lints
      */
     Programs(final Map<String, XML> map, final Iterable<Lint<Map<String, XML>>> list) {
-        this.pkg = Collections.unmodifiableMap(map);
+        this.pkg = new PackageIndex(map, Runtime.getRuntime().availableProcessors());
         this.lints = list;
     }
 
@@ -138,42 +178,25 @@ public final class Programs {
     }
 
     /**
-     * Discover all XMIR files in the directory.
-     * @param dirs The directories to search for XMIR files in (recursively)
-     * @return Map of XMIR files
-     * @throws IOException If fails
-     */
-    private static Map<String, XML> discover(final Iterable<Path> dirs) throws IOException {
-        final Map<String, XML> map = new HashMap<>(0);
-        for (final Path dir : dirs) {
-            map.putAll(Programs.discover(dir));
-        }
-        return map;
-    }
-
-    /**
-     * Discover all XMIR files in the directory.
-     * @param dir The directories to search for XMIR files in (recursively)
-     * @return Map of XMIR files
-     * @throws IOException If fails
+     * Package, indexed by the summaries of its files.
+     * @param paths Paths of XMIR files, by their keys
+     * @param store The directory to keep summaries in
+     * @return The package
      */
-    private static Map<String, XML> discover(final Path dir) throws IOException {
-        try (Stream<Path> walk = Files.walk(dir)) {
-            return walk
-                .filter(Files::isRegularFile)
-                .collect(
-                    Collectors.toMap(
-                        path -> new XmirKey(path, dir).asString(),
-                        path -> {
-                            try {
-                                return new XMLDocument(path);
-                            } catch (final FileNotFoundException ex) {
-                                throw new IllegalArgumentException(ex);
-                            }
-                        }
+    private static Map<String, XML> incremental(final Map<String, Path> paths,
+        final Path store) {
+        final Map<String, XML> pkg = new LazyPackage(paths, Programs.PARSED);
+        return new PackageIndex(
+            pkg,
+            new Unchecked<>(
+                new Synced<>(
+                    new Sticky<>(
+                        () -> new Summaries(store).facts(
+                            paths, pkg, Runtime.getRuntime().availableProcessors()
+                        )
                     )
-                );
-        }
+                )
+            )
+        );
     }
-
 }
@@ -0,0 +1,65 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints;
+
+import java.util.Iterator;
+import java.util.List;
+import javax.annotation.concurrent.ThreadSafe;
+import org.cactoos.list.ListOf;
+
+/**
+ * Immutable collection of lints, built once.
+ *
+ * <p>All lints are collected from the origin right in the constructor and
+ * stored in an immutable array-backed list. Since the list is never
+ * modified after construction and is kept in a {@code final} field,
+ * it is safely published and can be iterated by many threads
+ * at the same time, without any locking.</p>
+ *
+ * <p>This class is thread-safe.</p>
+ *
+ * @param <T> The type of entity to analyze
+ * @since 0.1.0
+ */
+@ThreadSafe
+final class Registry<T> implements Iterable<Lint<T>> {
+
+    /**
+     * All lints.
+     */
+    private final List<Lint<T>> all;
+
+    /**
+     * Ctor.
+     * @param origin Where to take lints from
+     */
+    Registry(final Iterable<Lint<T>> origin) {
+        this.all = List.copyOf(new ListOf<>(origin));
+    }
+
+    @Override
+    public Iterator<Lint<T>> iterator() {
+        return this.all.iterator();
+    }
+}
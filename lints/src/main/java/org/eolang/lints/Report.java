@@ -0,0 +1,225 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints;
+
+import com.jcabi.manifests.Manifests;
+import java.io.PrintStream;
+
+/**
+ * Report with defects, written while they are being found.
+ *
+ * <p>Defects are written as soon as they are added, nothing is kept
+ * in memory. Implementations are not thread-safe.</p>
+ *
+ * @since 0.1.0
+ */
+interface Report {
+
+    /**
+     * Start the report.
+     */
+    void start();
+
+    /**
+     * Add a defect.
+     * @param file The file with the program, or its name, for WPA defects
+     * @param defect The defect
+     */
+    void add(String file, Defect defect);
+
+    /**
+     * Finish the report.
+     */
+    void finish();
+
+    /**
+     * Plain text, one defect per line.
+     *
+     * @since 0.1.0
+     */
+    final class Plain implements Report {
+
+        /**
+         * The stream to write to.
+         */
+        private final PrintStream out;
+
+        /**
+         * Ctor.
+         * @param stream The stream to write to
+         */
+        Plain(final PrintStream stream) {
+            this.out = stream;
+        }
+
+        @Override
+        public void start() {
+            // nothing to write
+        }
+
+        @Override
+        public void add(final String file, final Defect defect) {
+            this.out.printf(
+                "%s:%d: [%s] %s: %s%n",
+                file, defect.line(), defect.severity().mnemo(), defect.rule(), defect.text()
+            );
+        }
+
+        @Override
+        public void finish() {
+            this.out.flush();
+        }
+    }
+
+    /**
+     * JSON Lines, one JSON object per defect.
+     *
+     * @see <a href="https://jsonlines.org/">JSON Lines</a>
+     * @since 0.1.0
+     */
+    final class Jsonl implements Report {
+
+        /**
+         * The stream to write to.
+         */
+        private final PrintStream out;
+
+        /**
+         * Ctor.
+         * @param stream The stream to write to
+         */
+        Jsonl(final PrintStream stream) {
+            this.out = stream;
+        }
+
+        @Override
+        public void start() {
+            // nothing to write
+        }
+
+        @Override
+        public void add(final String file, final Defect defect) {
+            this.out.printf(
+                String.join(
+                    "",
+                    "{\"file\":%s,\"program\":%s,\"line\":%d,",
+                    "\"severity\":%s,\"rule\":%s,\"text\":%s}%n"
+                ),
+                new JsonString(file).asString(),
+                new JsonString(defect.program()).asString(),
+                defect.line(),
+                new JsonString(defect.severity().mnemo()).asString(),
+                new JsonString(defect.rule()).asString(),
+                new JsonString(defect.text()).asString()
+            );
+        }
+
+        @Override
+        public void finish() {
+            this.out.flush();
+        }
+    }
+
+    /**
+     * SARIF log, with a single run.
+     *
+     * @see <a href="https://docs.oasis-open.org/sarif/sarif/v2.1.0/sarif-v2.1.0.html">SARIF</a>
+     * @since 0.1.0
+     */
+    final class Sarif implements Report {
+
+        /**
+         * The stream to write to.
+         */
+        private final PrintStream out;
+
+        /**
+         * Separators of results, the first one is empty.
+         */
+        private final StringBuilder comma;
+
+        /**
+         * Ctor.
+         * @param stream The stream to write to
+         */
+        Sarif(final PrintStream stream) {
+            this.out = stream;
+            this.comma = new StringBuilder(1);
+        }
+
+        @Override
+        public void start() {
+            this.out.printf(
+                String.join(
+                    "",
+                    "{\"version\":\"2.1.0\",\"$schema\":%s,",
+                    "\"runs\":[{\"tool\":{\"driver\":{%s}},\"results\":[%n"
+                ),
+                new JsonString("https://json.schemastore.org/sarif-2.1.0.json").asString(),
+                String.format(
+                    "\"name\":\"lints\",\"informationUri\":%s,\"version\":%s",
+                    new JsonString("https://github.com/objectionary/lints").asString(),
+                    new JsonString(Manifests.read("Lints-Version")).asString()
+                )
+            );
+        }
+
+        @Override
+        public void add(final String file, final Defect defect) {
+            final String level;
+            if (defect.severity() == Severity.WARNING) {
+                level = "warning";
+            } else {
+                level = "error";
+            }
+            final String region;
+            if (defect.line() > 0) {
+                region = String.format(",\"region\":{\"startLine\":%d}", defect.line());
+            } else {
+                region = "";
+            }
+            this.out.printf(
+                "%s{\"ruleId\":%s,\"level\":\"%s\",\"message\":{\"text\":%s},%s}%n",
+                this.comma,
+                new JsonString(defect.rule()).asString(),
+                level,
+                new JsonString(defect.text()).asString(),
+                String.format(
+                    "\"locations\":[{\"physicalLocation\":{\"artifactLocation\":{\"uri\":%s}%s}}]",
+                    new JsonString(file.replace('\\', '/')).asString(),
+                    region
+                )
+            );
+            if (this.comma.length() == 0) {
+                this.comma.append(',');
+            }
+        }
+
+        @Override
+        public void finish() {
+            this.out.println("]}]}");
+            this.out.flush();
+        }
+    }
+}
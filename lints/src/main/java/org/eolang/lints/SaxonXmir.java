@@ -0,0 +1,164 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints;
+
+import com.jcabi.xml.XML;
+import java.util.Collection;
+import java.util.List;
+import javax.xml.namespace.NamespaceContext;
+import javax.xml.transform.dom.DOMSource;
+import net.sf.saxon.s9api.XdmNode;
+import org.cactoos.scalar.Sticky;
+import org.cactoos.scalar.Synced;
+import org.cactoos.scalar.Unchecked;
+import org.w3c.dom.Node;
+import org.w3c.dom.ls.LSResourceResolver;
+import org.xml.sax.SAXParseException;
+
+/**
+ * XMIR, which is also available as a Saxon tree.
+ *
+ * <p>The tree is built from the DOM only once, on the first request,
+ * and then is given to every {@link SaxonXsl}, instead of copying the
+ * DOM into a new tree on each transformation. The tree is immutable,
+ * that's why it's safe to read it from many threads. All other methods
+ * are delegated to the DOM.</p>
+ *
+ * @since 0.1.0
+ */
+@SuppressWarnings("PMD.TooManyMethods")
+final class SaxonXmir implements XML {
+
+    /**
+     * The DOM.
+     */
+    private final XML origin;
+
+    /**
+     * The tree.
+     */
+    private final Unchecked<XdmNode> tree;
+
+    /**
+     * Ctor.
+     * @param xml The DOM
+     */
+    SaxonXmir(final XML xml) {
+        this(
+            xml,
+            new Unchecked<>(
+                new Synced<>(
+                    new Sticky<>(
+                        () -> SaxonXsl.SAXON.newDocumentBuilder().build(
+                            new DOMSource(xml.inner())
+                        )
+                    ),
+                    xml
+                )
+            )
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param xml The DOM
+     * @param node The tree
+     */
+    private SaxonXmir(final XML xml, final Unchecked<XdmNode> node) {
+        this.origin = xml;
+        this.tree = node;
+    }
+
+    /**
+     * The same tree, with another DOM, for example, a copy of this one.
+     * @param xml The DOM
+     * @return New XMIR
+     */
+    SaxonXmir with(final XML xml) {
+        return new SaxonXmir(xml, this.tree);
+    }
+
+    /**
+     * The tree.
+     *
+     * <p>While it's being built, the DOM is locked.</p>
+     *
+     * @return The root node of the tree
+     */
+    XdmNode tree() {
+        return this.tree.value();
+    }
+
+    @Override
+    public String toString() {
+        return this.origin.toString();
+    }
+
+    @Override
+    public List<String> xpath(final String query) {
+        return this.origin.xpath(query);
+    }
+
+    @Override
+    public List<XML> nodes(final String query) {
+        return this.origin.nodes(query);
+    }
+
+    @Override
+    public XML registerNs(final String prefix, final Object uri) {
+        return this.origin.registerNs(prefix, uri);
+    }
+
+    @Override
+    public XML merge(final NamespaceContext context) {
+        return this.origin.merge(context);
+    }
+
+    @Override
+    @Deprecated
+    @SuppressWarnings("deprecation")
+    public Node node() {
+        return this.origin.node();
+    }
+
+    @Override
+    public Node inner() {
+        return this.origin.inner();
+    }
+
+    @Override
+    public Node deepCopy() {
+        return this.origin.deepCopy();
+    }
+
+    @Override
+    public Collection<SAXParseException> validate(final LSResourceResolver resolver) {
+        return this.origin.validate(resolver);
+    }
+
+    @Override
+    public Collection<SAXParseException> validate(final XML xsd) {
+        return this.origin.validate(xsd);
+    }
+}
@@ -0,0 +1,198 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints;
+
+import com.jcabi.xml.Sources;
+import com.jcabi.xml.XML;
+import com.jcabi.xml.XMLDocument;
+import com.jcabi.xml.XSL;
+import java.io.StringReader;
+import java.util.HashMap;
+import java.util.Map;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.stream.StreamSource;
+import net.sf.saxon.lib.ResourceResolverWrappingURIResolver;
+import net.sf.saxon.s9api.DOMDestination;
+import net.sf.saxon.s9api.Processor;
+import net.sf.saxon.s9api.QName;
+import net.sf.saxon.s9api.SaxonApiException;
+import net.sf.saxon.s9api.XdmAtomicValue;
+import net.sf.saxon.s9api.XdmNode;
+import net.sf.saxon.s9api.XsltCompiler;
+import net.sf.saxon.s9api.XsltExecutable;
+import net.sf.saxon.s9api.XsltTransformer;
+import org.w3c.dom.Document;
+
+/**
+ * XSL, compiled by Saxon only once.
+ *
+ * <p>Unlike {@link com.jcabi.xml.XSLDocument}, which compiles the
+ * stylesheet and copies the DOM into a new Saxon tree on every
+ * transformation, this class compiles the stylesheet in the constructor,
+ * and takes the tree from {@link SaxonXmir}, if the XMIR is one. All
+ * stylesheets and trees share the same {@link Processor}, which is
+ * required by Saxon to let a tree be used by many stylesheets.</p>
+ *
+ * <p>The class is thread-safe.</p>
+ *
+ * @since 0.1.0
+ */
+final class SaxonXsl implements XSL {
+
+    /**
+     * Saxon processor, shared by all stylesheets and trees.
+     */
+    static final Processor SAXON = new Processor(false);
+
+    /**
+     * Factory of DOM documents.
+     */
+    private static final DocumentBuilderFactory DOCS = DocumentBuilderFactory.newInstance();
+
+    /**
+     * The stylesheet.
+     */
+    private final String sheet;
+
+    /**
+     * System ID of the stylesheet.
+     */
+    private final String sid;
+
+    /**
+     * Sources of imported stylesheets.
+     */
+    private final Sources sources;
+
+    /**
+     * Parameters.
+     */
+    private final Map<String, Object> params;
+
+    /**
+     * The compiled stylesheet.
+     */
+    private final XsltExecutable exec;
+
+    /**
+     * Ctor.
+     * @param xsl The stylesheet
+     * @param name System ID of the stylesheet
+     * @param srcs Sources of imported stylesheets
+     */
+    SaxonXsl(final XML xsl, final String name, final Sources srcs) {
+        this(xsl.toString(), name, srcs, new HashMap<>(0));
+    }
+
+    /**
+     * Ctor.
+     * @param xsl The stylesheet
+     * @param name System ID of the stylesheet
+     * @param srcs Sources of imported stylesheets
+     * @param args Parameters
+     */
+    @SuppressWarnings("PMD.ConstructorOnlyInitializesOrCallOtherConstructors")
+    private SaxonXsl(final String xsl, final String name, final Sources srcs,
+        final Map<String, Object> args) {
+        this.sheet = xsl;
+        this.sid = name;
+        this.sources = srcs;
+        this.params = args;
+        final XsltCompiler compiler = SaxonXsl.SAXON.newXsltCompiler();
+        compiler.setResourceResolver(new ResourceResolverWrappingURIResolver(srcs));
+        try {
+            this.exec = compiler.compile(new StreamSource(new StringReader(xsl), name));
+        } catch (final SaxonApiException ex) {
+            throw new IllegalArgumentException(
+                String.format("Failed to compile the '%s' stylesheet", name),
+                ex
+            );
+        }
+    }
+
+    @Override
+    public XML transform(final XML xml) {
+        final Document doc;
+        synchronized (SaxonXsl.DOCS) {
+            try {
+                doc = SaxonXsl.DOCS.newDocumentBuilder().newDocument();
+            } catch (final ParserConfigurationException ex) {
+                throw new IllegalStateException(ex);
+            }
+        }
+        final XsltTransformer trans = this.exec.load();
+        for (final Map.Entry<String, Object> param : this.params.entrySet()) {
+            trans.setParameter(
+                new QName(param.getKey()),
+                new XdmAtomicValue(param.getValue().toString())
+            );
+        }
+        try {
+            trans.setSource(SaxonXsl.tree(xml).asSource());
+            trans.setDestination(new DOMDestination(doc));
+            trans.transform();
+        } catch (final SaxonApiException ex) {
+            throw new IllegalArgumentException(
+                String.format("Failed to transform by the '%s' stylesheet", this.sid),
+                ex
+            );
+        }
+        return new XMLDocument(doc);
+    }
+
+    @Override
+    public String applyTo(final XML xml) {
+        return this.transform(xml).toString();
+    }
+
+    @Override
+    public XSL with(final Sources src) {
+        return new SaxonXsl(this.sheet, this.sid, src, this.params);
+    }
+
+    @Override
+    public XSL with(final String name, final Object value) {
+        final Map<String, Object> args = new HashMap<>(this.params);
+        args.put(name, value);
+        return new SaxonXsl(this.sheet, this.sid, this.sources, args);
+    }
+
+    /**
+     * Saxon tree of the XMIR.
+     * @param xml The XMIR
+     * @return The tree, either the one already built, or a new one
+     * @throws SaxonApiException If fails
+     */
+    private static XdmNode tree(final XML xml) throws SaxonApiException {
+        final XdmNode node;
+        if (xml instanceof SaxonXmir) {
+            node = ((SaxonXmir) xml).tree();
+        } else {
+            node = SaxonXsl.SAXON.newDocumentBuilder().build(new DOMSource(xml.inner()));
+        }
+        return node;
+    }
+}
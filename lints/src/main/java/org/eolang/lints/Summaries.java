@@ -0,0 +1,355 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints;
+
+import com.jcabi.manifests.Manifests;
+import com.jcabi.xml.XML;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.cactoos.map.MapEntry;
+
+/**
+ * Summaries of XMIR files, kept on disk between runs, for incremental WPA.
+ *
+ * <p>A summary of a file is its {@link PackageIndex.Facts}, together with
+ * the size and the SHA-256 hash of the content of the file. When facts are
+ * requested, the summaries of files, which didn't change since the previous
+ * run, are taken from the disk, while other files are parsed and their facts
+ * are extracted again. The modification time is not trusted, since the
+ * compiler may rewrite a file within its granularity, keeping the size.
+ * Then, all summaries are saved back, if anything changed. The summaries,
+ * saved by another version of lints, are ignored.</p>
+ *
+ * <p>The file is a text, where each line is tab-separated: "f" lines
+ * start summaries of files, with their keys, sizes, hashes, names of
+ * programs and packages; "a", "t", and "o" lines, which follow them, are
+ * aliases, tests, and objects. All texts are {@link Escaped}.</p>
+ *
+ * @since 0.1.0
+ */
+final class Summaries {
+
+    /**
+     * The file with summaries.
+     */
+    private final Path file;
+
+    /**
+     * Ctor.
+     * @param dir The directory to keep the file in
+     */
+    Summaries(final Path dir) {
+        this.file = dir.resolve("summaries.txt");
+    }
+
+    /**
+     * Facts about all programs, reusing the summaries of unchanged files.
+     * @param paths Paths of XMIR files, by their keys
+     * @param docs Documents, parsed only when touched, by their keys
+     * @param threads Max number of threads to extract facts in
+     * @return Facts by keys of programs, in the order of paths
+     * @throws IOException If fails
+     */
+    Map<String, PackageIndex.Facts> facts(final Map<String, Path> paths,
+        final Map<String, XML> docs, final int threads) throws IOException {
+        final Map<String, Summaries.Summary> before = this.loaded();
+        final Map<String, Summaries.Summary> kept = new HashMap<>(paths.size());
+        final Map<String, XML> changed = new LinkedHashMap<>(0);
+        for (final Map.Entry<String, Path> ent : paths.entrySet()) {
+            final long size = Files.size(ent.getValue());
+            final String hash = Summaries.hash(ent.getValue());
+            final Summaries.Summary old = before.get(ent.getKey());
+            if (old != null && old.size == size && old.hash.equals(hash)) {
+                kept.put(ent.getKey(), old);
+            } else {
+                kept.put(ent.getKey(), new Summaries.Summary(size, hash, null));
+                changed.put(ent.getKey(), docs.get(ent.getKey()));
+            }
+        }
+        final Map<String, PackageIndex.Facts> fresh = new PackageIndex(changed, threads).facts();
+        final Map<String, Summaries.Summary> after = new LinkedHashMap<>(paths.size());
+        final Map<String, PackageIndex.Facts> facts = new LinkedHashMap<>(paths.size());
+        for (final String key : paths.keySet()) {
+            Summaries.Summary summary = kept.get(key);
+            if (changed.containsKey(key)) {
+                summary = summary.with(fresh.get(key));
+            }
+            after.put(key, summary);
+            facts.put(key, summary.facts);
+        }
+        if (!changed.isEmpty() || !before.keySet().equals(after.keySet())) {
+            this.save(after);
+        }
+        return Collections.unmodifiableMap(facts);
+    }
+
+    /**
+     * Load summaries from the file.
+     * @return Summaries by keys, empty if there is no file or it is made
+     *  by another version of lints
+     * @throws IOException If fails
+     */
+    private Map<String, Summaries.Summary> loaded() throws IOException {
+        final Map<String, Summaries.Summary> summaries = new HashMap<>(0);
+        if (Files.exists(this.file)) {
+            try (BufferedReader reader =
+                Files.newBufferedReader(this.file, StandardCharsets.UTF_8)) {
+                if (Summaries.version().equals(reader.readLine())) {
+                    String key = null;
+                    Summaries.Builder builder = null;
+                    while (true) {
+                        final String line = reader.readLine();
+                        if (line == null) {
+                            break;
+                        }
+                        final String[] parts = line.split("\t", -1);
+                        if ("f".equals(parts[0])) {
+                            if (builder != null) {
+                                summaries.put(key, builder.summary());
+                            }
+                            key = new Unescaped(parts[1]).asString();
+                            builder = new Summaries.Builder(parts);
+                        } else if (builder != null) {
+                            builder.add(parts);
+                        }
+                    }
+                    if (builder != null) {
+                        summaries.put(key, builder.summary());
+                    }
+                }
+            }
+        }
+        return summaries;
+    }
+
+    /**
+     * Save summaries to the file, replacing it atomically.
+     *
+     * <p>Each save writes its own temporary file next to it, so that
+     * two JVMs, saving at the same time, never mix their lines: the one
+     * that moves its file last wins, and both files are complete.</p>
+     *
+     * @param summaries Summaries by keys
+     * @throws IOException If fails
+     */
+    private void save(final Map<String, Summaries.Summary> summaries) throws IOException {
+        final StringBuilder text = new StringBuilder(0)
+            .append(Summaries.version()).append('\n');
+        for (final Map.Entry<String, Summaries.Summary> ent : summaries.entrySet()) {
+            final PackageIndex.Facts facts = ent.getValue().facts;
+            text.append("f\t").append(new Escaped(ent.getKey()).asString())
+                .append('\t').append(ent.getValue().size)
+                .append('\t').append(ent.getValue().hash)
+                .append('\t').append(new Escaped(facts.program()).asString())
+                .append('\t').append(new Escaped(facts.pkg()).asString())
+                .append('\n');
+            for (final Map.Entry<String, Integer> alias : facts.aliases()) {
+                text.append("a\t").append(alias.getValue())
+                    .append('\t').append(new Escaped(alias.getKey()).asString())
+                    .append('\n');
+            }
+            for (final String test : facts.tests()) {
+                text.append("t\t").append(new Escaped(test).asString()).append('\n');
+            }
+            for (final Map.Entry<String, Integer> obj : facts.objects().entrySet()) {
+                text.append("o\t").append(obj.getValue())
+                    .append('\t').append(new Escaped(obj.getKey()).asString())
+                    .append('\n');
+            }
+        }
+        final Path dir = this.file.toAbsolutePath().getParent();
+        Files.createDirectories(dir);
+        final Path temp = Files.createTempFile(dir, "summaries", ".tmp");
+        try {
+            Files.write(temp, text.toString().getBytes(StandardCharsets.UTF_8));
+            Files.move(
+                temp, this.file,
+                StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE
+            );
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * The first line of the file, with the version of lints and of the format.
+     * @return The line
+     */
+    private static String version() {
+        return String.format("# lints %s, hashes", Manifests.read("Lints-Version"));
+    }
+
+    /**
+     * The hash of the content of the file.
+     * @param file The file
+     * @return Hex of SHA-256
+     * @throws IOException If fails
+     */
+    private static String hash(final Path file) throws IOException {
+        final MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (final NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+        final StringBuilder hex = new StringBuilder(64);
+        for (final byte part : digest.digest(Files.readAllBytes(file))) {
+            hex.append(String.format("%02x", part));
+        }
+        return hex.toString();
+    }
+
+    /**
+     * Summary of a single file.
+     *
+     * @since 0.1.0
+     */
+    private static final class Summary {
+
+        /**
+         * Size of the file, in bytes.
+         */
+        private final long size;
+
+        /**
+         * Hex of SHA-256 of the content of the file.
+         */
+        private final String hash;
+
+        /**
+         * Facts about the program.
+         */
+        private final PackageIndex.Facts facts;
+
+        /**
+         * Ctor.
+         * @param bytes Size of the file, in bytes
+         * @param sha Hex of SHA-256 of the content of the file
+         * @param fcts Facts about the program, NULL if not extracted yet
+         */
+        Summary(final long bytes, final String sha, final PackageIndex.Facts fcts) {
+            this.size = bytes;
+            this.hash = sha;
+            this.facts = fcts;
+        }
+
+        /**
+         * The same summary, with other facts.
+         * @param fcts Facts about the program
+         * @return Summary
+         */
+        Summaries.Summary with(final PackageIndex.Facts fcts) {
+            return new Summaries.Summary(this.size, this.hash, fcts);
+        }
+    }
+
+    /**
+     * Summary of a single file, being read from lines.
+     *
+     * @since 0.1.0
+     */
+    private static final class Builder {
+
+        /**
+         * The "f" line.
+         */
+        private final String[] head;
+
+        /**
+         * Aliases, with their lines.
+         */
+        private final List<Map.Entry<String, Integer>> aliases;
+
+        /**
+         * Tests.
+         */
+        private final List<String> tests;
+
+        /**
+         * Lines of objects, by their names.
+         */
+        private final Map<String, Integer> objects;
+
+        /**
+         * Ctor.
+         * @param parts Parts of the "f" line
+         */
+        Builder(final String... parts) {
+            this.head = parts;
+            this.aliases = new ArrayList<>(0);
+            this.tests = new ArrayList<>(0);
+            this.objects = new LinkedHashMap<>(0);
+        }
+
+        /**
+         * Add facts from a line.
+         * @param parts Parts of the line
+         */
+        void add(final String... parts) {
+            if ("a".equals(parts[0])) {
+                this.aliases.add(
+                    new MapEntry<>(
+                        new Unescaped(parts[2]).asString(), Integer.parseInt(parts[1])
+                    )
+                );
+            } else if ("t".equals(parts[0])) {
+                this.tests.add(new Unescaped(parts[1]).asString());
+            } else if ("o".equals(parts[0])) {
+                this.objects.put(
+                    new Unescaped(parts[2]).asString(), Integer.parseInt(parts[1])
+                );
+            }
+        }
+
+        /**
+         * The summary.
+         * @return Summary
+         */
+        Summaries.Summary summary() {
+            return new Summaries.Summary(
+                Long.parseLong(this.head[2]),
+                this.head[3],
+                new PackageIndex.Facts(
+                    new Unescaped(this.head[4]).asString(),
+                    new Unescaped(this.head[5]).asString(),
+                    this.aliases,
+                    this.tests,
+                    this.objects
+                )
+            );
+        }
+    }
+}
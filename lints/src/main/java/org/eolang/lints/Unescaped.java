@@ -0,0 +1,71 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints;
+
+import org.cactoos.Text;
+
+/**
+ * Text, restored from a field, made by {@link Escaped}.
+ *
+ * @since 0.1.0
+ */
+final class Unescaped implements Text {
+
+    /**
+     * The escaped text.
+     */
+    private final String origin;
+
+    /**
+     * Ctor.
+     * @param text The escaped text
+     */
+    Unescaped(final String text) {
+        this.origin = text;
+    }
+
+    @Override
+    public String asString() {
+        final StringBuilder out = new StringBuilder(this.origin.length());
+        for (int idx = 0; idx < this.origin.length(); ++idx) {
+            final char chr = this.origin.charAt(idx);
+            if (chr == '\\' && idx + 1 < this.origin.length()) {
+                ++idx;
+                final char next = this.origin.charAt(idx);
+                if (next == 't') {
+                    out.append('\t');
+                } else if (next == 'n') {
+                    out.append('\n');
+                } else if (next == 'r') {
+                    out.append('\r');
+                } else {
+                    out.append(next);
+                }
+            } else {
+                out.append(chr);
+            }
+        }
+        return out.toString();
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints;
+
+import java.util.Collection;
+import java.util.Set;
+import org.w3c.dom.Element;
+
+/**
+ * A checker of XMIR elements, driven by {@link Walk}.
+ *
+ * <p>Unlike a {@link Lint}, which queries the XMIR on its own, a visitor
+ * only declares the names of elements it's interested in, and is called
+ * for each of them, in document order, during a single traversal of the
+ * document, which is shared by many visitors.</p>
+ *
+ * @since 0.1.0
+ */
+public interface Visitor {
+
+    /**
+     * Names of elements to visit, such as {@code o}, {@code meta},
+     * or {@code comment}.
+     * @return Element names
+     */
+    Set<String> elements();
+
+    /**
+     * Visit an element and report defects found in it, if any.
+     * @param element The element
+     * @param program The name of the program, from {@code /program/@name}
+     * @param defects Where to report defects
+     */
+    void visit(Element element, String program, Collection<Defect> defects);
+}
@@ -0,0 +1,145 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints;
+
+import com.jcabi.xml.XML;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import org.cactoos.list.ListOf;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+
+/**
+ * Single traversal of XMIR, which drives many {@link Visitor}s.
+ *
+ * <p>The document is walked only once, element by element, in document
+ * order, without XPath. Each element is given to visitors that asked for
+ * its name. Defects are returned in the order of visitors, as if each
+ * visitor walked the document on its own.</p>
+ *
+ * <p>{@link Program} walks each document once for all its lints, which
+ * are visitors, while other lints see the document on their own.</p>
+ *
+ * <p>The class is thread-safe, but the DOM is not, that's why the same
+ * document must not be walked in many threads at the same time.</p>
+ *
+ * @since 0.1.0
+ */
+public final class Walk {
+
+    /**
+     * Visitors.
+     */
+    private final List<Visitor> visitors;
+
+    /**
+     * Ctor.
+     * @param all Visitors
+     */
+    public Walk(final Visitor... all) {
+        this(new ListOf<>(all));
+    }
+
+    /**
+     * Ctor.
+     * @param all Visitors
+     */
+    public Walk(final Iterable<? extends Visitor> all) {
+        this.visitors = new ListOf<>(all);
+    }
+
+    /**
+     * Walk the XMIR and find defects.
+     * @param xmir The XMIR
+     * @return Defects found by all visitors
+     */
+    public Collection<Defect> defects(final XML xmir) {
+        final Collection<Defect> defects = new LinkedList<>();
+        for (final Collection<Defect> some : this.found(xmir)) {
+            defects.addAll(some);
+        }
+        return defects;
+    }
+
+    /**
+     * Walk the XMIR and find defects of each visitor.
+     * @param xmir The XMIR
+     * @return Defects found, in the order of visitors
+     */
+    List<Collection<Defect>> found(final XML xmir) {
+        final Map<String, List<Integer>> routes = new HashMap<>(0);
+        final List<Collection<Defect>> found = new ArrayList<>(this.visitors.size());
+        for (int idx = 0; idx < this.visitors.size(); ++idx) {
+            for (final String name : this.visitors.get(idx).elements()) {
+                routes.computeIfAbsent(name, key -> new ArrayList<>(1)).add(idx);
+            }
+            found.add(new LinkedList<>());
+        }
+        final Element root = Elements.root(xmir.inner());
+        final String program;
+        if (root != null && "program".equals(Walk.name(root)) && root.hasAttribute("name")) {
+            program = root.getAttribute("name");
+        } else {
+            program = "unknown";
+        }
+        final Deque<Node> todo = new ArrayDeque<>(0);
+        if (root != null) {
+            todo.push(root);
+        }
+        while (!todo.isEmpty()) {
+            final Node node = todo.pop();
+            if (node.getNodeType() == Node.ELEMENT_NODE) {
+                final Element element = (Element) node;
+                for (final int idx : routes.getOrDefault(Walk.name(element), List.of())) {
+                    this.visitors.get(idx).visit(element, program, found.get(idx));
+                }
+                for (Node kid = node.getLastChild(); kid != null; kid = kid.getPreviousSibling()) {
+                    todo.push(kid);
+                }
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Name of the element, without a prefix.
+     * @param element The element
+     * @return Name
+     */
+    private static String name(final Element element) {
+        final String name;
+        if (element.getLocalName() == null) {
+            name = element.getNodeName();
+        } else {
+            name = element.getLocalName();
+        }
+        return name;
+    }
+}
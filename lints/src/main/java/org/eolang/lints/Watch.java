@@ -0,0 +1,604 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints;
+
+import com.jcabi.log.Logger;
+import com.jcabi.xml.XML;
+import com.jcabi.xml.XMLDocument;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.cactoos.scalar.Unchecked;
+
+/**
+ * Lints of XMIR files, which are re-linted as soon as they change.
+ *
+ * <p>The directories are watched by a {@link WatchService}. Events come in
+ * bursts, when the compiler writes many files, that's why they are collected
+ * until the directories are quiet for a while, and then only the files that
+ * changed are parsed and linted by mono lints again. WPA lints run over the
+ * whole package, but facts about unchanged programs are not extracted again.
+ * The listener gets the defects that appeared and disappeared, first for
+ * all files that exist when watching starts, and then after each burst.</p>
+ *
+ * <p>Parsed documents are kept in memory, together with their facts and
+ * defects, while compiled lints stay in memory anyway, so it takes
+ * milliseconds to re-lint a single file.</p>
+ *
+ * <p>Like {@link XmirFiles}, the watch refuses to start if two directories
+ * contain files with the same key. If such a file appears later, it's
+ * reported to the log and ignored, while the first one is linted. A file,
+ * which fails to be linted, is reported to the log too, and the watch
+ * goes on with other files of the burst.</p>
+ *
+ * @since 0.1.0
+ */
+public final class Watch {
+
+    /**
+     * Default quiet time after a burst of events, in milliseconds.
+     */
+    private static final long QUIET = 300L;
+
+    /**
+     * Directories to watch.
+     */
+    private final Collection<Path> dirs;
+
+    /**
+     * Listener of changes.
+     */
+    private final Watch.Listener listener;
+
+    /**
+     * Quiet time after a burst of events, in milliseconds.
+     */
+    private final long quiet;
+
+    /**
+     * Ctor.
+     * @param dirs Directories to watch, the same as for {@link Programs}
+     * @param lsnr Listener of changes
+     */
+    public Watch(final Collection<Path> dirs, final Watch.Listener lsnr) {
+        this(dirs, lsnr, Watch.QUIET);
+    }
+
+    /**
+     * Ctor.
+     * @param dirs Directories to watch, the same as for {@link Programs}
+     * @param lsnr Listener of changes
+     * @param millis Quiet time after a burst of events, in milliseconds
+     */
+    public Watch(final Collection<Path> dirs, final Watch.Listener lsnr, final long millis) {
+        this.dirs = dirs;
+        this.listener = lsnr;
+        this.quiet = millis;
+    }
+
+    /**
+     * Start watching, in a background thread.
+     * @return The watch started, which must be closed to stop it
+     * @throws IOException If fails
+     */
+    public Watch.Started start() throws IOException {
+        new XmirFiles(this.dirs).paths();
+        final WatchService service = FileSystems.getDefault().newWatchService();
+        final Watch.Loop loop = new Watch.Loop(
+            service, this.dirs, this.listener, this.quiet
+        );
+        for (final Path dir : this.dirs) {
+            loop.register(dir);
+        }
+        final Thread thread = new Thread(loop, "lints-watch");
+        thread.setDaemon(true);
+        thread.start();
+        return new Watch.Started(service, thread);
+    }
+
+    /**
+     * Listener of changes.
+     *
+     * @since 0.1.0
+     */
+    public interface Listener {
+
+        /**
+         * Defects changed.
+         * @param added Defects that appeared
+         * @param removed Defects that disappeared
+         * @throws IOException If fails
+         */
+        void changed(Collection<Defect> added, Collection<Defect> removed) throws IOException;
+    }
+
+    /**
+     * The watch, which is running.
+     *
+     * @since 0.1.0
+     */
+    public static final class Started implements Closeable {
+
+        /**
+         * The service.
+         */
+        private final WatchService service;
+
+        /**
+         * The thread.
+         */
+        private final Thread thread;
+
+        /**
+         * Ctor.
+         * @param srv The service
+         * @param thrd The thread
+         */
+        Started(final WatchService srv, final Thread thrd) {
+            this.service = srv;
+            this.thread = thrd;
+        }
+
+        @Override
+        public void close() throws IOException {
+            this.service.close();
+            this.thread.interrupt();
+        }
+    }
+
+    /**
+     * The loop, which reacts to events, in a single thread.
+     *
+     * <p>All the state is touched only by this thread, that's why
+     * it's not synchronized.</p>
+     *
+     * @since 0.1.0
+     */
+    private static final class Loop implements Runnable {
+
+        /**
+         * The service.
+         */
+        private final WatchService service;
+
+        /**
+         * Directories watched, the roots of keys of programs.
+         */
+        private final Collection<Path> roots;
+
+        /**
+         * Listener of changes.
+         */
+        private final Watch.Listener listener;
+
+        /**
+         * Quiet time after a burst of events, in milliseconds.
+         */
+        private final long quiet;
+
+        /**
+         * Directories watched, by their keys.
+         */
+        private final Map<WatchKey, Path> watched;
+
+        /**
+         * Files linted, by keys of programs.
+         */
+        private final Map<String, Path> files;
+
+        /**
+         * Parsed documents, by keys of programs.
+         */
+        private final Map<String, XML> docs;
+
+        /**
+         * Facts about programs, by their keys.
+         */
+        private final Map<String, PackageIndex.Facts> facts;
+
+        /**
+         * Defects found by mono lints, by keys of programs.
+         */
+        private final Map<String, Collection<Defect>> mono;
+
+        /**
+         * Defects found by WPA lints.
+         */
+        private final List<Defect> wpa;
+
+        /**
+         * Ctor.
+         * @param srv The service
+         * @param dirs Directories watched
+         * @param lsnr Listener of changes
+         * @param millis Quiet time after a burst of events, in milliseconds
+         * @checkstyle ParameterNumberCheck (5 lines)
+         */
+        Loop(final WatchService srv, final Collection<Path> dirs,
+            final Watch.Listener lsnr, final long millis) {
+            this.service = srv;
+            this.roots = dirs;
+            this.listener = lsnr;
+            this.quiet = millis;
+            this.watched = new HashMap<>(0);
+            this.files = new HashMap<>(0);
+            this.docs = new TreeMap<>();
+            this.facts = new HashMap<>(0);
+            this.mono = new HashMap<>(0);
+            this.wpa = new ArrayList<>(0);
+        }
+
+        @Override
+        public void run() {
+            try {
+                this.survived(this.all());
+                while (!Thread.currentThread().isInterrupted()) {
+                    this.survived(this.burst());
+                }
+            } catch (final ClosedWatchServiceException ex) {
+                Logger.debug(this, "Stopped watching %s", this.roots);
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            } catch (final IOException ex) {
+                Logger.warn(this, "Failed to watch %s: %[exception]s", this.roots, ex);
+            }
+        }
+
+        /**
+         * Watch the directory and all its subdirectories.
+         * @param dir The directory
+         * @throws IOException If fails
+         */
+        void register(final Path dir) throws IOException {
+            try (Stream<Path> walk = Files.walk(dir)) {
+                for (final Path sub : walk.filter(Files::isDirectory)
+                    .collect(Collectors.toList())) {
+                    this.watched.put(
+                        sub.register(
+                            this.service,
+                            StandardWatchEventKinds.ENTRY_CREATE,
+                            StandardWatchEventKinds.ENTRY_MODIFY,
+                            StandardWatchEventKinds.ENTRY_DELETE
+                        ),
+                        sub
+                    );
+                }
+            }
+        }
+
+        /**
+         * Lint files changed, and go on, if the listener fails.
+         * @param changed Files changed
+         * @throws IOException If the listener fails
+         */
+        @SuppressWarnings("PMD.AvoidCatchingGenericException")
+        private void survived(final Collection<Path> changed) throws IOException {
+            try {
+                this.lint(changed);
+            } catch (final RuntimeException ex) {
+                Logger.warn(
+                    this, "Failed to report %d changed file(s): %[exception]s",
+                    changed.size(), ex
+                );
+            }
+        }
+
+        /**
+         * Wait for a burst of events and collect the files changed in it.
+         * @return Files changed
+         * @throws IOException If fails
+         * @throws InterruptedException If interrupted
+         */
+        private Collection<Path> burst() throws IOException, InterruptedException {
+            final Collection<Path> changed = new TreeSet<>();
+            WatchKey key = this.service.take();
+            while (key != null) {
+                this.collect(key, changed);
+                key = this.service.poll(this.quiet, TimeUnit.MILLISECONDS);
+            }
+            return changed;
+        }
+
+        /**
+         * Collect files changed, by the events of the key.
+         * @param key The key
+         * @param changed Files changed, to add to
+         * @throws IOException If fails
+         */
+        private void collect(final WatchKey key, final Collection<Path> changed)
+            throws IOException {
+            final Path dir = this.watched.get(key);
+            for (final WatchEvent<?> event : key.pollEvents()) {
+                if (event.kind().equals(StandardWatchEventKinds.OVERFLOW)) {
+                    changed.addAll(this.all());
+                } else if (dir != null) {
+                    final Path path = dir.resolve((Path) event.context());
+                    if (Files.isDirectory(path)) {
+                        this.registered(path, changed);
+                    } else if (path.getFileName().toString().endsWith(".xmir")) {
+                        changed.add(path);
+                    } else if (event.kind().equals(StandardWatchEventKinds.ENTRY_DELETE)) {
+                        changed.addAll(this.evicted(path));
+                    }
+                }
+            }
+            if (!key.reset()) {
+                this.watched.remove(key);
+                if (dir != null) {
+                    changed.addAll(this.evicted(dir));
+                }
+            }
+        }
+
+        /**
+         * Watch the new directory and collect its files.
+         *
+         * <p>The directory may be gone already, while its events are
+         * being collected: then its files are collected by their events
+         * in the parent directory.</p>
+         *
+         * @param dir The directory
+         * @param changed Files changed, to add to
+         */
+        private void registered(final Path dir, final Collection<Path> changed) {
+            try {
+                this.register(dir);
+                changed.addAll(Loop.xmirs(dir));
+            } catch (final IOException | UncheckedIOException ex) {
+                Logger.debug(this, "Can't watch %s: %s", dir, ex.getMessage());
+            }
+        }
+
+        /**
+         * Stop watching the directory, which is deleted, and its
+         * subdirectories.
+         * @param dir The directory
+         * @return Files known in it, which must be forgotten
+         */
+        private Collection<Path> evicted(final Path dir) {
+            final Iterator<Map.Entry<WatchKey, Path>> entries =
+                this.watched.entrySet().iterator();
+            while (entries.hasNext()) {
+                final Map.Entry<WatchKey, Path> ent = entries.next();
+                if (ent.getValue().startsWith(dir)) {
+                    ent.getKey().cancel();
+                    entries.remove();
+                }
+            }
+            return this.files.values().stream()
+                .filter(file -> file.startsWith(dir))
+                .collect(Collectors.toList());
+        }
+
+        /**
+         * Lint files changed and report the difference.
+         * @param changed Files changed
+         * @throws IOException If fails
+         */
+        private void lint(final Collection<Path> changed) throws IOException {
+            final Collection<Defect> added = new ArrayList<>(0);
+            final Collection<Defect> removed = new ArrayList<>(0);
+            for (final Path path : changed) {
+                final String key = this.key(path);
+                final Path known = this.files.get(key);
+                if (known != null && !known.equals(path) && Files.exists(known)
+                    && Files.exists(path)) {
+                    Logger.warn(
+                        this,
+                        "Two XMIR files have the same key '%s': '%s' and '%s', ignoring the latter",
+                        key, known, path
+                    );
+                } else {
+                    final Collection<Defect> before = this.mono.getOrDefault(
+                        key, Collections.emptyList()
+                    );
+                    final Collection<Defect> after = this.relinted(key, path, before);
+                    added.addAll(Loop.missing(after, before));
+                    removed.addAll(Loop.missing(before, after));
+                }
+            }
+            if (!changed.isEmpty()) {
+                this.rewpa(added, removed);
+            }
+            if (!added.isEmpty() || !removed.isEmpty()) {
+                this.listener.changed(added, removed);
+            }
+        }
+
+        /**
+         * Run WPA lints again and collect the difference.
+         *
+         * <p>If they fail, the defects found by them before stay, and
+         * the difference found by mono lints is reported anyway.</p>
+         *
+         * @param added Defects that appeared, to add to
+         * @param removed Defects that disappeared, to add to
+         */
+        @SuppressWarnings("PMD.AvoidCatchingGenericException")
+        private void rewpa(final Collection<Defect> added, final Collection<Defect> removed) {
+            final Map<String, PackageIndex.Facts> ordered = new LinkedHashMap<>(0);
+            for (final String key : this.docs.keySet()) {
+                ordered.put(key, this.facts.get(key));
+            }
+            try {
+                final Collection<Defect> after = new Programs(
+                    new PackageIndex(
+                        Collections.unmodifiableMap(this.docs), new Unchecked<>(() -> ordered)
+                    )
+                ).defects();
+                added.addAll(Loop.missing(after, this.wpa));
+                removed.addAll(Loop.missing(this.wpa, after));
+                this.wpa.clear();
+                this.wpa.addAll(after);
+            } catch (final RuntimeException ex) {
+                Logger.warn(
+                    this, "Failed to lint %d program(s) as a package: %[exception]s",
+                    this.docs.size(), ex
+                );
+            }
+        }
+
+        /**
+         * Parse and lint the file again, or forget it, if it's gone.
+         *
+         * <p>If the file can't be parsed, for example, because it's being
+         * written right now, it's left as it was, until the next event.
+         * If lints fail on it, it's left as it was too, while other files
+         * of the burst are linted as usual.</p>
+         *
+         * @param key Key of the program
+         * @param path The file
+         * @param before Defects found before
+         * @return Defects found now
+         */
+        @SuppressWarnings("PMD.AvoidCatchingGenericException")
+        private Collection<Defect> relinted(final String key, final Path path,
+            final Collection<Defect> before) {
+            Collection<Defect> after = before;
+            if (Files.isRegularFile(path)) {
+                try {
+                    final XML xmir = new SaxonXmir(new XMLDocument(path));
+                    final PackageIndex.Facts fcts = new PackageIndex.Facts(xmir);
+                    after = new Program(xmir).defects();
+                    this.files.put(key, path);
+                    this.docs.put(key, xmir);
+                    this.facts.put(key, fcts);
+                    this.mono.put(key, after);
+                } catch (final IOException | IllegalArgumentException ex) {
+                    Logger.debug(this, "Can't parse %s yet: %s", path, ex.getMessage());
+                } catch (final RuntimeException ex) {
+                    Logger.warn(this, "Failed to lint %s: %[exception]s", path, ex);
+                }
+            } else if (path.equals(this.files.get(key))) {
+                this.files.remove(key);
+                this.docs.remove(key);
+                this.facts.remove(key);
+                this.mono.remove(key);
+                after = Collections.emptyList();
+            }
+            return after;
+        }
+
+        /**
+         * All XMIR files in the directories, and those known before.
+         * @return Files
+         * @throws IOException If fails
+         */
+        private Collection<Path> all() throws IOException {
+            final Collection<Path> all = new TreeSet<>(this.files.values());
+            for (final Path root : this.roots) {
+                all.addAll(Loop.xmirs(root));
+            }
+            return all;
+        }
+
+        /**
+         * Key of the program, relative to the directory watched.
+         * @param path The file
+         * @return Key
+         */
+        private String key(final Path path) {
+            Path root = path.getParent();
+            for (final Path dir : this.roots) {
+                if (path.startsWith(dir)) {
+                    root = dir;
+                }
+            }
+            return new XmirKey(path, root).asString();
+        }
+
+        /**
+         * XMIR files in the directory.
+         * @param dir The directory
+         * @return Files
+         * @throws IOException If fails
+         */
+        private static Collection<Path> xmirs(final Path dir) throws IOException {
+            try (Stream<Path> walk = Files.walk(dir)) {
+                return walk
+                    .filter(Files::isRegularFile)
+                    .filter(path -> path.getFileName().toString().endsWith(".xmir"))
+                    .collect(Collectors.toList());
+            }
+        }
+
+        /**
+         * Defects of the first collection, which are not in the second one.
+         * @param first First defects
+         * @param second Second defects
+         * @return Defects, which are missing in the second collection
+         */
+        private static Collection<Defect> missing(final Collection<Defect> first,
+            final Collection<Defect> second) {
+            final Map<String, Integer> seen = new HashMap<>(0);
+            for (final Defect defect : second) {
+                seen.merge(Loop.identity(defect), 1, Integer::sum);
+            }
+            final Collection<Defect> missing = new ArrayList<>(0);
+            for (final Defect defect : first) {
+                final String id = Loop.identity(defect);
+                if (seen.getOrDefault(id, 0) > 0) {
+                    seen.merge(id, -1, Integer::sum);
+                } else {
+                    missing.add(defect);
+                }
+            }
+            return missing;
+        }
+
+        /**
+         * Identity of the defect.
+         * @param defect The defect
+         * @return Identity
+         */
+        private static String identity(final Defect defect) {
+            return String.join(
+                "\t",
+                defect.rule(), defect.severity().mnemo(), defect.program(),
+                Integer.toString(defect.line()), defect.text()
+            );
+        }
+    }
+}
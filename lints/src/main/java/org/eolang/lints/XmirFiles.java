@@ -0,0 +1,168 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints;
+
+import com.jcabi.xml.XML;
+import com.jcabi.xml.XMLDocument;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * XMIR files found in a set of directories.
+ *
+ * <p>Only files matching the {@code *.xmir} glob are taken into account,
+ * all other files are ignored. Each file is identified by its
+ * {@link XmirKey}. If two directories contain files with the same key,
+ * an exception is thrown, since it's impossible to decide which one
+ * is the right one.</p>
+ *
+ * @since 0.1.0
+ */
+final class XmirFiles {
+
+    /**
+     * Glob for XMIR files.
+     */
+    private static final PathMatcher GLOB = FileSystems.getDefault().getPathMatcher(
+        "glob:*.xmir"
+    );
+
+    /**
+     * Directories to search in (recursively).
+     */
+    private final Collection<Path> dirs;
+
+    /**
+     * Max number of threads to parse files in.
+     */
+    private final int threads;
+
+    /**
+     * Ctor.
+     * @param dirs Directories to search in (recursively)
+     */
+    XmirFiles(final Collection<Path> dirs) {
+        this(dirs, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Ctor.
+     * @param dirs Directories to search in (recursively)
+     * @param threads Max number of threads to parse files in
+     */
+    XmirFiles(final Collection<Path> dirs, final int threads) {
+        this.dirs = dirs;
+        this.threads = threads;
+    }
+
+    /**
+     * All XMIR files found, by their keys.
+     * @return Map of keys to paths, sorted by keys
+     * @throws IOException If fails
+     */
+    Map<String, Path> paths() throws IOException {
+        final Map<String, Path> map = new TreeMap<>();
+        for (final Path dir : this.dirs) {
+            final Collection<Path> found;
+            try (Stream<Path> walk = Files.walk(dir)) {
+                found = walk
+                    .filter(Files::isRegularFile)
+                    .filter(path -> XmirFiles.GLOB.matches(path.getFileName()))
+                    .collect(Collectors.toList());
+            }
+            for (final Path path : found) {
+                final String key = new XmirKey(path, dir).asString();
+                final Path before = map.putIfAbsent(key, path);
+                if (before != null) {
+                    throw new IllegalArgumentException(
+                        String.format(
+                            "Two XMIR files have the same key '%s': '%s' and '%s'",
+                            key, before, path
+                        )
+                    );
+                }
+            }
+        }
+        return map;
+    }
+
+    /**
+     * All XMIR files found and parsed, by their keys.
+     *
+     * <p>Files are parsed in parallel, in a pool of a limited size,
+     * which is shut down when all of them are parsed.</p>
+     *
+     * @return Map of keys to XMIR documents, sorted by keys
+     * @throws IOException If fails
+     */
+    Map<String, XML> parsed() throws IOException {
+        final Map<String, Path> paths = this.paths();
+        final Map<String, XML> map = new TreeMap<>();
+        if (!paths.isEmpty()) {
+            final ExecutorService pool = Executors.newFixedThreadPool(
+                Math.max(1, Math.min(this.threads, paths.size()))
+            );
+            try {
+                final Map<String, Future<XML>> futures = new TreeMap<>();
+                for (final Map.Entry<String, Path> ent : paths.entrySet()) {
+                    futures.put(
+                        ent.getKey(),
+                        pool.submit(() -> XmirFiles.parsed(ent.getValue()))
+                    );
+                }
+                for (final Map.Entry<String, Future<XML>> ent : futures.entrySet()) {
+                    map.put(ent.getKey(), Futures.done(ent.getValue(), "parsing XMIR files"));
+                }
+            } finally {
+                pool.shutdownNow();
+            }
+        }
+        return map;
+    }
+
+    /**
+     * Parse one file.
+     * @param path The file
+     * @return XMIR
+     */
+    private static XML parsed(final Path path) {
+        try {
+            return new XMLDocument(path);
+        } catch (final FileNotFoundException ex) {
+            throw new IllegalArgumentException(ex);
+        }
+    }
+}
@@ -23,26 +23,21 @@
  */
 package org.eolang.lints;
 
-import com.jcabi.xml.ClasspathSources;
 import com.jcabi.xml.XML;
-import com.jcabi.xml.XMLDocument;
-import com.jcabi.xml.XSL;
-import com.jcabi.xml.XSLDocument;
-import java.io.IOException;
 import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
-import org.cactoos.Input;
-import org.cactoos.io.ResourceOf;
-import org.cactoos.text.IoCheckedText;
-import org.cactoos.text.TextOf;
 
 /**
- * Lint by XSL.
+ * Defects, reported by an XSL stylesheet of a lint.
  *
- * @since 0.0.1
+ * <p>The report is expected to contain the {@code defects} element with
+ * {@code defect} elements inside, each of which has {@code @line}
+ * and {@code @severity} attributes.</p>
+ *
+ * @since 0.1.0
  */
-final class LtByXsl implements Lint<XML> {
+final class XslReport {
 
     /**
      * The name of the rule.
@@ -50,58 +45,28 @@ final class LtByXsl implements Lint<XML> {
     private final String rule;
 
     /**
-     * The stylesheet.
-     */
-    private final XSL sheet;
-
-    /**
-     * Motive document.
+     * The node, which contains the {@code defects} element.
      */
-    private final Input doc;
+    private final XML report;
 
     /**
      * Ctor.
-     * @param xsl Relative path of XSL
-     * @throws IOException If fails
+     * @param name The name of the rule
+     * @param xml The node, which contains the {@code defects} element
      */
-    LtByXsl(final String xsl) throws IOException {
-        this(
-            new ResourceOf(
-                String.format("org/eolang/lints/%s.xsl", xsl)
-            ),
-            new ResourceOf(
-                String.format("org/eolang/motives/%s.md", xsl)
-            )
-        );
+    XslReport(final String name, final XML xml) {
+        this.rule = name;
+        this.report = xml;
     }
 
     /**
-     * Ctor.
-     * @param xsl Relative path of XSL
-     * @param motive Relative path of a motive document
-     * @throws IOException If fails
+     * All defects reported.
+     * @param program Name of the program
+     * @return Defects
      */
-    @SuppressWarnings("PMD.ConstructorOnlyInitializesOrCallOtherConstructors")
-    LtByXsl(final Input xsl, final Input motive) throws IOException {
-        final XML xml = new XMLDocument(new IoCheckedText(new TextOf(xsl)).asString());
-        this.rule = xml.xpath("/xsl:stylesheet/@id").get(0);
-        this.sheet = new MeasuredXsl(
-            this.rule,
-            new XSLDocument(xml, this.rule).with(new ClasspathSources())
-        );
-        this.doc = motive;
-    }
-
-    @Override
-    public String name() {
-        return this.rule;
-    }
-
-    @Override
-    public Collection<Defect> defects(final XML xmir) {
-        final XML report = this.sheet.transform(xmir);
+    Collection<Defect> defects(final String program) {
         final Collection<Defect> defects = new LinkedList<>();
-        for (final XML defect : report.nodes("/defects/defect")) {
+        for (final XML defect : this.report.nodes("defects/defect")) {
             final List<String> severity = defect.xpath("@severity");
             if (severity.isEmpty()) {
                 throw new IllegalStateException(
@@ -112,7 +77,7 @@ final class LtByXsl implements Lint<XML> {
                 new Defect.Default(
                     this.rule,
                     Severity.parsed(severity.get(0)),
-                    xmir.xpath("/program/@name").stream().findFirst().orElse("unknown"),
+                    program,
                     this.lineno(defect),
                     defect.xpath("text()").get(0)
                 )
@@ -121,11 +86,6 @@ final class LtByXsl implements Lint<XML> {
         return defects;
     }
 
-    @Override
-    public String motive() throws Exception {
-        return new TextOf(this.doc).asString();
-    }
-
     /**
      * Get line number of the defect.
      * @param defect XML defect
@@ -158,5 +118,4 @@ final class LtByXsl implements Lint<XML> {
         }
         return lineno;
     }
-
 }
@@ -24,19 +24,26 @@
 package org.eolang.lints.comments;
 
 import com.jcabi.xml.XML;
-import java.io.IOException;
 import java.util.Collection;
-import java.util.LinkedList;
 import java.util.Optional;
+import java.util.Set;
 import org.cactoos.io.ResourceOf;
+import org.cactoos.set.SetOf;
 import org.cactoos.text.TextOf;
 import org.eolang.lints.Defect;
 import org.eolang.lints.Lint;
 import org.eolang.lints.Severity;
+import org.eolang.lints.Visitor;
+import org.eolang.lints.Walk;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
 
 /**
  * A comment must include only ASCII characters.
  *
+ * <p>The lint is a {@link Visitor}, which sees only {@code comment} elements,
+ * so it may be driven by a {@link Walk} together with other visitors.</p>
+ *
  * @since 0.1.0
  * @todo #14:35min Calculate comment line number with abusive character.
  *  For now we just reusing object line number (via @line), which is not correct
@@ -47,37 +54,46 @@ import org.eolang.lints.Severity;
  *  (Java package name, e.g. `comments`).
  * @checkstyle StringLiteralsConcatenationCheck (30 lines)
  */
-public final class LtAsciiOnly implements Lint<XML> {
+public final class LtAsciiOnly implements Lint<XML>, Visitor {
+
+    @Override
+    public Collection<Defect> defects(final XML xmir) {
+        return new Walk(this).defects(xmir);
+    }
 
     @Override
-    public Collection<Defect> defects(final XML xmir) throws IOException {
-        final Collection<Defect> defects = new LinkedList<>();
-        for (final XML comment : xmir.nodes("/program/comments/comment")) {
-            final Optional<Character> abusive = comment.xpath("text()").get(0).chars()
+    public Set<String> elements() {
+        return new SetOf<>("comment");
+    }
+
+    @Override
+    public void visit(final Element comment, final String program,
+        final Collection<Defect> defects) {
+        if (LtAsciiOnly.inProgram(comment)) {
+            final String text = comment.getTextContent();
+            final Optional<Character> abusive = text.chars()
                 .filter(chr -> chr < 32 || chr > 127)
                 .mapToObj(chr -> (char) chr)
                 .findFirst();
-            if (!abusive.isPresent()) {
-                continue;
-            }
-            final String line = comment.xpath("@line").get(0);
-            final Character chr = abusive.get();
-            defects.add(
-                new Defect.Default(
-                    "ascii-only",
-                    Severity.ERROR,
-                    xmir.xpath("/program/@name").stream().findFirst().orElse("unknown"),
-                    Integer.parseInt(line),
-                    String.format(
-                        "Only ASCII characters are allowed in comments, while '%s' is used at the %sth line at the %sth position",
-                        chr,
-                        line,
-                        comment.xpath("text()").get(0).indexOf(chr) + 1
+            if (abusive.isPresent()) {
+                final String line = comment.getAttribute("line");
+                final Character chr = abusive.get();
+                defects.add(
+                    new Defect.Default(
+                        "ascii-only",
+                        Severity.ERROR,
+                        program,
+                        Integer.parseInt(line),
+                        String.format(
+                            "Only ASCII characters are allowed in comments, while '%s' is used at the %sth line at the %sth position",
+                            chr,
+                            line,
+                            text.indexOf(chr) + 1
+                        )
                     )
-                )
-            );
+                );
+            }
         }
-        return defects;
     }
 
     @Override
@@ -91,4 +107,17 @@ public final class LtAsciiOnly implements Lint<XML> {
             new ResourceOf("org/eolang/motives/comments/ascii-only.md")
         ).asString();
     }
+
+    /**
+     * The comment is at {@code /program/comments/comment}.
+     * @param comment The comment
+     * @return TRUE if it is
+     */
+    private static boolean inProgram(final Element comment) {
+        final Node parent = comment.getParentNode();
+        return parent != null
+            && "comments".equals(parent.getNodeName())
+            && parent.getParentNode() != null
+            && "program".equals(parent.getParentNode().getNodeName());
+    }
 }
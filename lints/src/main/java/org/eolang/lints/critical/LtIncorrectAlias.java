@@ -31,10 +31,17 @@ import org.cactoos.io.ResourceOf;
 import org.cactoos.text.TextOf;
 import org.eolang.lints.Defect;
 import org.eolang.lints.Lint;
+import org.eolang.lints.PackageIndex;
 import org.eolang.lints.Severity;
 
 /**
  * Checks that `+alias` is pointing to existing `.xmir` files.
+ *
+ * <p>The package, the name of the program, and all aliases with their
+ * lines are taken from the {@link PackageIndex}, where they are extracted
+ * in one pass per program. Then, aliases are resolved against the keys
+ * of the package.</p>
+ *
  * @since 0.0.30
  */
 public final class LtIncorrectAlias implements Lint<Map<String, XML>> {
@@ -47,38 +54,31 @@ public final class LtIncorrectAlias implements Lint<Map<String, XML>> {
     @Override
     public Collection<Defect> defects(final Map<String, XML> pkg) {
         final Collection<Defect> defects = new LinkedList<>();
-        pkg.values().forEach(
-            xmir -> {
-                for (final XML alias : xmir.nodes("/program/metas/meta[head='alias']/tail")) {
-                    if (xmir.nodes("/program/metas/meta[head='package']").size() != 1) {
-                        continue;
-                    }
-                    final String pointer = alias.xpath("text()").get(0);
-                    final String lookup = String.format(
-                        "%s/%s",
-                        xmir.xpath("/program/metas/meta[head='package']/tail/text()").get(0),
-                        pointer
-                    );
-                    if (!pkg.containsKey(lookup)) {
-                        defects.add(
-                            new Defect.Default(
-                                "incorrect-alias",
-                                Severity.CRITICAL,
-                                xmir.xpath("/program/@name").stream().findFirst().orElse("unknown"),
-                                Integer.parseInt(
-                                    xmir.xpath("/program/metas/meta[head='alias'][1]/@line").get(0)
-                                ),
-                                String.format(
-                                    "Incorrect pointing alias '%s', there is no %s",
-                                    pointer,
-                                    lookup
-                                )
+        final PackageIndex index = new PackageIndex(pkg);
+        for (final PackageIndex.Facts facts : index.facts().values()) {
+            if (facts.pkg().isEmpty()) {
+                continue;
+            }
+            for (final Map.Entry<String, Integer> alias : facts.aliases()) {
+                final String pointer = alias.getKey();
+                final String lookup = String.format("%s/%s", facts.pkg(), pointer);
+                if (!index.containsKey(lookup)) {
+                    defects.add(
+                        new Defect.Default(
+                            "incorrect-alias",
+                            Severity.CRITICAL,
+                            facts.program(),
+                            alias.getValue(),
+                            String.format(
+                                "Incorrect pointing alias '%s', there is no %s",
+                                pointer,
+                                lookup
                             )
-                        );
-                    }
+                        )
+                    );
                 }
             }
-        );
+        }
         return defects;
     }
 
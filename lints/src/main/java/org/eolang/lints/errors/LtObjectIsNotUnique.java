@@ -0,0 +1,110 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints.errors;
+
+import com.jcabi.xml.XML;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import org.cactoos.io.ResourceOf;
+import org.cactoos.text.TextOf;
+import org.eolang.lints.Defect;
+import org.eolang.lints.Lint;
+import org.eolang.lints.PackageIndex;
+import org.eolang.lints.Severity;
+
+/**
+ * Object is not unique.
+ *
+ * <p>Top-level objects of all programs, taken from the {@link PackageIndex},
+ * are put into an index by package name and object name. Then, defects
+ * are reported for every object that shares the index entry with objects
+ * from other programs, so the time is linear to the size of the
+ * package. Programs are told apart by their keys in the package, never
+ * by their content, so two files with the same content are reported too,
+ * no matter whether they are parsed or not.</p>
+ *
+ * @since 0.0.30
+ */
+public final class LtObjectIsNotUnique implements Lint<Map<String, XML>> {
+
+    @Override
+    public String name() {
+        return "object-is-not-unique";
+    }
+
+    @Override
+    public Collection<Defect> defects(final Map<String, XML> pkg) {
+        final PackageIndex index = new PackageIndex(pkg);
+        final Map<String, Map<String, List<String>>> owners = new HashMap<>(0);
+        for (final Map.Entry<String, PackageIndex.Facts> ent : index.facts().entrySet()) {
+            final Map<String, List<String>> names = owners.computeIfAbsent(
+                ent.getValue().pkg(), key -> new HashMap<>(0)
+            );
+            for (final String name : ent.getValue().objects().keySet()) {
+                names.computeIfAbsent(name, key -> new ArrayList<>(1)).add(ent.getKey());
+            }
+        }
+        final Collection<Defect> defects = new LinkedList<>();
+        for (final Map.Entry<String, PackageIndex.Facts> ent : index.facts().entrySet()) {
+            final PackageIndex.Facts src = ent.getValue();
+            final Map<String, List<String>> names = owners.get(src.pkg());
+            for (final String name : src.objects().keySet()) {
+                for (final String key : names.get(name)) {
+                    if (key.equals(ent.getKey())) {
+                        continue;
+                    }
+                    final PackageIndex.Facts oth = index.facts().get(key);
+                    defects.add(
+                        new Defect.Default(
+                            this.name(),
+                            Severity.ERROR,
+                            oth.program(),
+                            oth.objects().get(name),
+                            String.format(
+                                "The object name '%s' is not unique, original object was found in '%s'",
+                                name, src.program()
+                            )
+                        )
+                    );
+                }
+            }
+        }
+        return defects;
+    }
+
+    @Override
+    public String motive() throws Exception {
+        return new TextOf(
+            new ResourceOf(
+                String.format(
+                    "org/eolang/motives/errors/%s.md", this.name()
+                )
+            )
+        ).asString();
+    }
+}
@@ -0,0 +1,276 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints.misc;
+
+import com.jcabi.log.Logger;
+import com.jcabi.xml.XML;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.regex.Pattern;
+import org.cactoos.io.ResourceOf;
+import org.cactoos.set.SetOf;
+import org.cactoos.text.TextOf;
+import org.eolang.lints.Defect;
+import org.eolang.lints.Elements;
+import org.eolang.lints.Lint;
+import org.eolang.lints.Severity;
+import org.eolang.lints.Visitor;
+import org.eolang.lints.Walk;
+import org.w3c.dom.Element;
+
+/**
+ * Lint that checks test object name is a verb in singular.
+ * This lint uses <a href="https://stanfordnlp.github.io/CoreNLP/">Stanford CoreNLP model</a>
+ * with POS tagging capabilities in order to determine the part of speech and
+ * tense for test object name. Originally, we used <a href="https://opennlp.apache.org/">OpenNLP</a>
+ * library to do that, but switched to the Stanford CoreNLP, due to merging all
+ * verb tags into single `VERB` POS tag, that sacrifices important information
+ * for us about verb tenses, and appeared in OpenNLP 2.4.0+. You can read more
+ * about the reason of this <a href="https://github.com/objectionary/lints/issues/129">here</a>
+ * and <a href="https://github.com/objectionary/lints/pull/126#issuecomment-2531121073">here</a>.
+ *
+ * <p>Only the first word of the name is checked: test names repeat a lot
+ * across files, so the tagger tags each word only once. The bundled
+ * {@link VerbLexicon} gives the same answers for all words the tagger knows,
+ * without loading the model; it may be chosen through the constructor or
+ * the {@code org.eolang.lints.verbs} system property.</p>
+ *
+ * <p>The lint is a {@link Visitor} of the {@code program} element, which
+ * reads test objects right from the DOM, without XPath, so it may be
+ * driven by a {@link Walk} together with other visitors.</p>
+ *
+ * <p>The tagger and its models (~452mb) are not dependencies of this
+ * library: they come with the {@code org.eolang:lints-nlp} module, which
+ * registers its engine as a service of {@link Verbs}. If the module is
+ * not on the classpath, the lexicon is used.</p>
+ * @since 0.0.22
+ */
+public final class LtTestNotVerb implements Lint<XML>, Visitor {
+
+    /**
+     * The pattern to split kebab case.
+     */
+    private static final Pattern KEBAB = Pattern.compile("-");
+
+    /**
+     * Max number of {@link Verbs} services to try.
+     */
+    private static final int SERVICES = 16;
+
+    /**
+     * Verbs by the bundled lexicon, shared by all lints.
+     */
+    private static final Verbs LEXICON = new VerbLexicon();
+
+    /**
+     * Verbs in singular.
+     */
+    private final Verbs verbs;
+
+    /**
+     * Ctor.
+     *
+     * <p>The engine is chosen by the {@code org.eolang.lints.verbs} system
+     * property: either {@code lexicon}, for the bundled {@link VerbLexicon},
+     * or {@code corenlp}, for the first {@link Verbs} service, which can be
+     * loaded, such as the tagger of the {@code org.eolang:lints-nlp} module.
+     * If the property is not set, the first service is used too, and the
+     * lexicon if there are none.</p>
+     */
+    public LtTestNotVerb() {
+        this(LtTestNotVerb.engine(System.getProperty("org.eolang.lints.verbs", "auto")));
+    }
+
+    /**
+     * Primary ctor.
+     * @param singular Verbs in singular
+     */
+    public LtTestNotVerb(final Verbs singular) {
+        this.verbs = singular;
+    }
+
+    @Override
+    public Collection<Defect> defects(final XML xmir) {
+        return new Walk(this).defects(xmir);
+    }
+
+    @Override
+    public Set<String> elements() {
+        return new SetOf<>("program");
+    }
+
+    @Override
+    public void visit(final Element root, final String program,
+        final Collection<Defect> defects) {
+        final List<Element> objects = new ArrayList<>(0);
+        if (LtTestNotVerb.tests(root)) {
+            this.verbs.prepare();
+            for (final Element all : Elements.kids(root, "objects")) {
+                for (final Element object : Elements.kids(all, "o")) {
+                    if (object.hasAttribute("name")) {
+                        objects.add(object);
+                    }
+                }
+            }
+        }
+        if (!objects.isEmpty()) {
+            final List<String> firsts = new ArrayList<>(objects.size());
+            for (final Element object : objects) {
+                firsts.add(
+                    LtTestNotVerb.KEBAB.split(object.getAttribute("name"))[0]
+                        .toLowerCase(Locale.ROOT)
+                );
+            }
+            final Collection<String> words = new ArrayList<>(firsts.size());
+            for (final String first : firsts) {
+                if (!first.isEmpty()) {
+                    words.add(first);
+                }
+            }
+            final Set<String> singular = this.verbs.singular(words);
+            for (int idx = 0; idx < objects.size(); ++idx) {
+                if (!singular.contains(firsts.get(idx))) {
+                    defects.add(
+                        new Defect.Default(
+                            "unit-test-is-not-verb",
+                            Severity.WARNING,
+                            program,
+                            Integer.parseInt(objects.get(idx).getAttribute("line")),
+                            String.format(
+                                "Test object name: \"%s\" doesn't start with verb in singular form",
+                                objects.get(idx).getAttribute("name")
+                            )
+                        )
+                    );
+                }
+            }
+        }
+    }
+
+    @Override
+    public String motive() throws Exception {
+        return new TextOf(
+            new ResourceOf(
+                "org/eolang/motives/misc/test-object-is-not-verb-in-singular.md"
+            )
+        ).asString();
+    }
+
+    @Override
+    public String name() {
+        return "unit-test-is-not-verb";
+    }
+
+    /**
+     * Name of the engine of verbs, which this lint uses.
+     *
+     * <p>Different engines may find different defects in the same program,
+     * that's why cached defects are addressed by it too.</p>
+     *
+     * @return Name of the engine, like {@code VerbLexicon}
+     */
+    public String engine() {
+        return this.verbs.getClass().getName();
+    }
+
+    /**
+     * Verbs by the name of the engine.
+     * @param name Name of the engine: "lexicon", "corenlp", or "auto"
+     * @return Verbs
+     */
+    private static Verbs engine(final String name) {
+        final Verbs verbs;
+        if ("lexicon".equals(name)) {
+            verbs = LtTestNotVerb.LEXICON;
+        } else if ("corenlp".equals(name)) {
+            verbs = LtTestNotVerb.discovered().orElseThrow(
+                () -> new IllegalStateException(
+                    "There is no verbs engine on the classpath, add org.eolang:lints-nlp to it"
+                )
+            );
+        } else if ("auto".equals(name)) {
+            verbs = LtTestNotVerb.discovered().orElse(LtTestNotVerb.LEXICON);
+        } else {
+            throw new IllegalArgumentException(
+                String.format(
+                    "Unknown verbs engine \"%s\", use \"lexicon\", \"corenlp\", or \"auto\"",
+                    name
+                )
+            );
+        }
+        return verbs;
+    }
+
+    /**
+     * The first {@link Verbs} service, which can be loaded.
+     *
+     * <p>A service, which can't be loaded, for example because the tagger
+     * is not on the classpath, is skipped, and the next one is tried, but
+     * no more than {@link #SERVICES} times.</p>
+     *
+     * @return Verbs, empty if there are no services
+     */
+    private static Optional<Verbs> discovered() {
+        final Iterator<Verbs> services = ServiceLoader.load(Verbs.class).iterator();
+        Optional<Verbs> found = Optional.empty();
+        for (int attempt = 0; attempt < LtTestNotVerb.SERVICES; ++attempt) {
+            try {
+                if (services.hasNext()) {
+                    found = Optional.of(services.next());
+                }
+                break;
+            } catch (final ServiceConfigurationError | LinkageError ex) {
+                Logger.debug(
+                    LtTestNotVerb.class,
+                    "Verbs engine can't be loaded, skipping it: %s", ex.getMessage()
+                );
+            }
+        }
+        return found;
+    }
+
+    /**
+     * The program is a test one, with the {@code +tests} meta.
+     * @param root The program element
+     * @return TRUE if it is
+     */
+    private static boolean tests(final Element root) {
+        boolean found = false;
+        for (final Element metas : Elements.kids(root, "metas")) {
+            for (final Element meta : Elements.kids(metas, "meta")) {
+                for (final Element head : Elements.kids(meta, "head")) {
+                    found |= "tests".equals(head.getTextContent());
+                }
+            }
+        }
+        return found;
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints.misc;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.cactoos.Input;
+import org.cactoos.io.ResourceOf;
+import org.cactoos.scalar.Sticky;
+import org.cactoos.scalar.Synced;
+import org.cactoos.scalar.Unchecked;
+import org.cactoos.text.TextOf;
+
+/**
+ * Verbs in singular, by a bundled lexicon.
+ *
+ * <p>A word is a verb in singular when it ends with "s", but not with
+ * "ness", unless the lexicon says otherwise. The lexicon keeps only
+ * exceptions to this rule, so that together they give the same answers
+ * as the Stanford CoreNLP tagger, from the {@code org.eolang:lints-nlp}
+ * module, for all words known to it, without loading its model. Unknown
+ * words are left to the rule, which is how the tagger treats most of
+ * them too.</p>
+ *
+ * <p>The lexicon is loaded on first use, only once. The class is
+ * thread-safe.</p>
+ *
+ * @since 0.1.0
+ */
+public final class VerbLexicon implements Verbs {
+
+    /**
+     * Words, which are verbs, against the rule, sorted.
+     */
+    private final Unchecked<String[]> verbs;
+
+    /**
+     * Words, which are not verbs, against the rule, sorted.
+     */
+    private final Unchecked<String[]> others;
+
+    /**
+     * Ctor.
+     */
+    public VerbLexicon() {
+        this(new ResourceOf("org/eolang/lints/misc/verbs.txt"));
+    }
+
+    /**
+     * Ctor.
+     * @param lexicon Lexicon, with "+word" and "-word" lines
+     */
+    public VerbLexicon(final Input lexicon) {
+        this(
+            new Unchecked<>(
+                new Synced<>(new Sticky<>(() -> VerbLexicon.lines(lexicon)))
+            )
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param lines Lines of the lexicon
+     */
+    private VerbLexicon(final Unchecked<List<String>> lines) {
+        this.verbs = new Unchecked<>(
+            new Synced<>(new Sticky<>(() -> VerbLexicon.words(lines.value(), '+')))
+        );
+        this.others = new Unchecked<>(
+            new Synced<>(new Sticky<>(() -> VerbLexicon.words(lines.value(), '-')))
+        );
+    }
+
+    @Override
+    public Set<String> singular(final Collection<String> words) {
+        final Set<String> singular = new HashSet<>(words.size());
+        for (final String word : words) {
+            if (this.verb(word)) {
+                singular.add(word);
+            }
+        }
+        return singular;
+    }
+
+    /**
+     * Is it a verb in singular?
+     * @param word The word, in lower case
+     * @return TRUE if it is
+     */
+    private boolean verb(final String word) {
+        final boolean verb;
+        if (Arrays.binarySearch(this.verbs.value(), word) >= 0) {
+            verb = true;
+        } else if (Arrays.binarySearch(this.others.value(), word) >= 0) {
+            verb = false;
+        } else {
+            verb = word.endsWith("s") && !word.endsWith("ness");
+        }
+        return verb;
+    }
+
+    /**
+     * Meaningful lines of the lexicon.
+     * @param lexicon Lexicon
+     * @return Lines, without comments and blanks
+     * @throws Exception If fails
+     */
+    private static List<String> lines(final Input lexicon) throws Exception {
+        final List<String> lines = new ArrayList<>(0);
+        for (final String line : new TextOf(lexicon).asString().split("\n")) {
+            final String txt = line.trim();
+            if (!txt.isEmpty() && txt.charAt(0) != '#') {
+                lines.add(txt);
+            }
+        }
+        return lines;
+    }
+
+    /**
+     * Words of the lexicon, marked with the prefix.
+     * @param lines Lines of the lexicon
+     * @param prefix The prefix
+     * @return Words, sorted
+     */
+    private static String[] words(final List<String> lines, final char prefix) {
+        final List<String> words = new ArrayList<>(lines.size());
+        for (final String line : lines) {
+            if (line.charAt(0) == prefix) {
+                words.add(line.substring(1));
+            }
+        }
+        final String[] sorted = words.toArray(new String[0]);
+        Arrays.sort(sorted);
+        return sorted;
+    }
+}
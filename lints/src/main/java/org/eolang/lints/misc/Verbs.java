@@ -0,0 +1,56 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints.misc;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * Verbs in singular, like "reads" or "is".
+ *
+ * <p>Implementations must be thread-safe.</p>
+ *
+ * @since 0.1.0
+ */
+public interface Verbs {
+
+    /**
+     * Which of the words are verbs in singular.
+     * @param words Words, in lower case
+     * @return Words, which are verbs in singular
+     */
+    Set<String> singular(Collection<String> words);
+
+    /**
+     * Get ready to be asked for words soon.
+     *
+     * <p>It is called by {@link LtTestNotVerb} as soon as it meets a
+     * program with tests, before their names are collected, so that an
+     * engine may start loading its model in the background. By default,
+     * there is nothing to get ready.</p>
+     */
+    default void prepare() {
+        // nothing to load by default
+    }
+}
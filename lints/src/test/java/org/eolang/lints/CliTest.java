@@ -0,0 +1,217 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints;
+
+import com.yegor256.MayBeSlow;
+import com.yegor256.Mktmp;
+import com.yegor256.MktmpResolver;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import org.cactoos.io.InputOf;
+import org.eolang.parser.EoSyntax;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * Test for {@link Cli}.
+ *
+ * @since 0.1.0
+ */
+@ExtendWith(MktmpResolver.class)
+final class CliTest {
+
+    @Test
+    @ExtendWith(MayBeSlow.class)
+    void lintsDirectoryAndExitsWithSeverity(@Mktmp final Path dir) throws Exception {
+        CliTest.written(dir.resolve("org/foo.xmir"), "foo");
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        MatcherAssert.assertThat(
+            "exit code must reflect critical defects",
+            new Cli(
+                new String[] {"--threads", "2", dir.toString()},
+                new PrintStream(out, true, StandardCharsets.UTF_8),
+                System.err
+            ).exit(),
+            Matchers.equalTo(3)
+        );
+        MatcherAssert.assertThat(
+            "defects must be printed as text",
+            out.toString(StandardCharsets.UTF_8),
+            Matchers.allOf(
+                Matchers.containsString("foo.xmir:4: [critical] duplicate-names:"),
+                Matchers.containsString("[warning] unit-test-missing: ")
+            )
+        );
+    }
+
+    @Test
+    @ExtendWith(MayBeSlow.class)
+    void printsJsonLines(@Mktmp final Path dir) throws Exception {
+        CliTest.written(dir.resolve("bar.xmir"), "bar");
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new Cli(
+            new String[] {"--format", "jsonl", "--no-wpa", dir.resolve("bar.xmir").toString()},
+            new PrintStream(out, true, StandardCharsets.UTF_8),
+            System.err
+        ).exit();
+        MatcherAssert.assertThat(
+            "each line must be a JSON object",
+            Arrays.asList(out.toString(StandardCharsets.UTF_8).split("\n")),
+            Matchers.everyItem(
+                Matchers.allOf(
+                    Matchers.startsWith("{\"file\":"),
+                    Matchers.endsWith("}")
+                )
+            )
+        );
+    }
+
+    @Test
+    @ExtendWith(MayBeSlow.class)
+    void printsSarifForGlob(@Mktmp final Path dir) throws Exception {
+        CliTest.written(dir.resolve("src/a/first.xmir"), "first");
+        CliTest.written(dir.resolve("src/b/second.xmir"), "second");
+        CliTest.written(dir.resolve("other/third.xmir"), "third");
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new Cli(
+            new String[] {"--format", "sarif", String.format("%s/src/**/*.xmir", dir)},
+            new PrintStream(out, true, StandardCharsets.UTF_8),
+            System.err
+        ).exit();
+        MatcherAssert.assertThat(
+            "SARIF log must be printed for files matching the glob",
+            out.toString(StandardCharsets.UTF_8),
+            Matchers.allOf(
+                Matchers.startsWith("{\"version\":\"2.1.0\""),
+                Matchers.containsString("first.xmir\"},\"region\":{\"startLine\":4}"),
+                Matchers.containsString("second.xmir"),
+                Matchers.not(Matchers.containsString("third.xmir")),
+                Matchers.endsWith("]}]}\n")
+            )
+        );
+    }
+
+    @Test
+    @ExtendWith(MayBeSlow.class)
+    void lintsFileOnceWhenItIsInTwoInputs(@Mktmp final Path dir) throws Exception {
+        final Path file = dir.resolve("sub/twice.xmir");
+        CliTest.written(file, "twice");
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new Cli(
+            new String[] {dir.toString(), file.toString()},
+            new PrintStream(out, true, StandardCharsets.UTF_8),
+            System.err
+        ).exit();
+        final String text = out.toString(StandardCharsets.UTF_8);
+        MatcherAssert.assertThat(
+            "the file must be linted once, even if two inputs contain it",
+            text.split("duplicate-names:", -1).length - 1,
+            Matchers.equalTo(1)
+        );
+        MatcherAssert.assertThat(
+            "objects of the file must not be duplicated by itself",
+            text,
+            Matchers.not(Matchers.containsString("object-is-not-unique"))
+        );
+    }
+
+    @Test
+    void rejectsUnknownFormat(@Mktmp final Path dir) throws Exception {
+        MatcherAssert.assertThat(
+            "unknown format must be rejected",
+            new Cli(
+                new String[] {"--format", "xml", dir.toString()},
+                System.out,
+                new PrintStream(new ByteArrayOutputStream(), true, StandardCharsets.UTF_8)
+            ).exit(),
+            Matchers.equalTo(64)
+        );
+    }
+
+    @Test
+    void lintsInputNamedAfterOptionBehindSeparator() throws Exception {
+        final ByteArrayOutputStream err = new ByteArrayOutputStream();
+        new Cli(
+            new String[] {"--no-wpa", "--", "--watch"},
+            System.out,
+            new PrintStream(err, true, StandardCharsets.UTF_8)
+        ).exit();
+        MatcherAssert.assertThat(
+            "argument after the separator must be linted, not taken as an option",
+            err.toString(StandardCharsets.UTF_8),
+            Matchers.containsString("nor a glob: '--watch'")
+        );
+    }
+
+    @Test
+    void lintsDirectoryNamedAfterMode() throws Exception {
+        final ByteArrayOutputStream err = new ByteArrayOutputStream();
+        new Cli(
+            new String[] {"watch"},
+            System.out,
+            new PrintStream(err, true, StandardCharsets.UTF_8)
+        ).exit();
+        MatcherAssert.assertThat(
+            "word 'watch' must be linted, as a directory, not start watching",
+            err.toString(StandardCharsets.UTF_8),
+            Matchers.containsString("nor a glob: 'watch'")
+        );
+    }
+
+    @Test
+    void rejectsBothDaemonAndWatch() throws Exception {
+        MatcherAssert.assertThat(
+            "daemon and watch modes must not be used together",
+            new Cli(
+                new String[] {"--daemon", "--watch"},
+                System.out,
+                new PrintStream(new ByteArrayOutputStream(), true, StandardCharsets.UTF_8)
+            ).exit(),
+            Matchers.equalTo(64)
+        );
+    }
+
+    /**
+     * Write XMIR with duplicate objects.
+     * @param path The file
+     * @param name Name of objects
+     * @throws IOException If fails
+     */
+    private static void written(final Path path, final String name) throws IOException {
+        Files.createDirectories(path.getParent());
+        Files.write(
+            path,
+            new EoSyntax(
+                new InputOf(String.format("# first.\n[] > %1$s\n# second.\n[] > %1$s\n", name))
+            ).parsed().toString().getBytes(StandardCharsets.UTF_8)
+        );
+    }
+}
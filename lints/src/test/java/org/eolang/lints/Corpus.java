@@ -0,0 +1,339 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints;
+
+import com.jcabi.xml.XML;
+import io.github.secretx33.resourceresolver.PathMatchingResourcePatternResolver;
+import io.github.secretx33.resourceresolver.Resource;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.cactoos.io.InputOf;
+import org.cactoos.io.ResourceOf;
+import org.cactoos.scalar.Sticky;
+import org.cactoos.scalar.Unchecked;
+import org.cactoos.text.TextOf;
+import org.eolang.parser.EoSyntax;
+import org.yaml.snakeyaml.Yaml;
+
+/**
+ * Synthetic corpus of large EO programs and packages, for scaling tests
+ * and benchmarks.
+ *
+ * <p>Seeds are the {@code input} sources of all YAML packs in
+ * {@code org/eolang/lints/packs} together with {@code canonical.eo}, all
+ * taken from the classpath, without any network access. Metas and
+ * comments are removed from seeds, and the ones that don't parse after
+ * being nested are skipped. A program with N objects has N top-level
+ * objects, each with its own multi-line comment and a chain of nested
+ * objects of the given depth, with one of the seeds, round-robin, at the
+ * bottom. The program also has the given number of aliases and
+ * {@code +probe} metas on top of the mandatory ones.</p>
+ *
+ * @since 0.1.0
+ */
+final class Corpus {
+
+    /**
+     * Package of all programs.
+     */
+    private static final String PACKAGE = "corpus";
+
+    /**
+     * Seeds, lazily found and validated once for all corpora.
+     */
+    private static final Unchecked<List<String>> SEEDS = new Unchecked<>(
+        new Sticky<>(Corpus::valid)
+    );
+
+    /**
+     * Depth of nesting of every top-level object.
+     */
+    private final int depth;
+
+    /**
+     * Number of aliases in every program.
+     */
+    private final int aliases;
+
+    /**
+     * Number of extra metas in every program.
+     */
+    private final int metas;
+
+    /**
+     * Number of lines in the comment of every top-level object.
+     */
+    private final int comments;
+
+    /**
+     * Ctor.
+     */
+    Corpus() {
+        this(4, 16, 16, 3);
+    }
+
+    /**
+     * Ctor.
+     * @param depth Depth of nesting of every top-level object
+     * @param aliases Number of aliases in every program
+     * @param metas Number of extra metas in every program
+     * @param comments Number of lines in the comment of every object,
+     *  at least one, since EO requires top-level objects to have comments
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    Corpus(final int depth, final int aliases, final int metas, final int comments) {
+        this.depth = depth;
+        this.aliases = aliases;
+        this.metas = metas;
+        this.comments = comments;
+    }
+
+    /**
+     * Number of seeds, which are amplified.
+     * @return Number of seeds
+     */
+    int size() {
+        return Corpus.SEEDS.value().size();
+    }
+
+    /**
+     * EO source of a program.
+     * @param name Name of the program
+     * @param objects Number of top-level objects
+     * @return EO source
+     */
+    String eo(final String name, final int objects) {
+        final StringBuilder eo = new StringBuilder(0);
+        for (int idx = 0; idx < this.aliases; ++idx) {
+            eo.append(String.format("+alias org.eolang.%s.alias-%d\n", Corpus.PACKAGE, idx));
+        }
+        eo.append("+architect yegor256@gmail.com\n")
+            .append("+home https://github.com/objectionary/lints\n")
+            .append(String.format("+package %s\n", Corpus.PACKAGE));
+        for (int idx = 0; idx < this.metas; ++idx) {
+            eo.append(String.format("+probe org.eolang.%s.probe-%d\n", Corpus.PACKAGE, idx));
+        }
+        eo.append("+version 0.0.0\n\n");
+        final List<String> all = Corpus.SEEDS.value();
+        for (int idx = 0; idx < objects; ++idx) {
+            for (int line = 0; line < this.comments; ++line) {
+                eo.append(
+                    String.format(
+                        "# This is the line %d of the comment of the object number %d.\n",
+                        line, idx
+                    )
+                );
+            }
+            eo.append(String.format("[] > %s-%d\n", name, idx));
+            eo.append(Corpus.nested(all.get(idx % all.size()), this.depth));
+            eo.append('\n');
+        }
+        return eo.toString();
+    }
+
+    /**
+     * Parsed program.
+     * @param name Name of the program
+     * @param objects Number of top-level objects
+     * @return XMIR
+     * @throws IOException If fails
+     */
+    XML program(final String name, final int objects) throws IOException {
+        return new EoSyntax(name, new InputOf(this.eo(name, objects))).parsed();
+    }
+
+    /**
+     * Parsed package of programs, where keys are relative paths
+     * without extensions, as in {@link Programs}.
+     * @param files Number of programs
+     * @param objects Number of top-level objects in every program
+     * @return Map of XMIRs
+     * @throws IOException If fails
+     */
+    Map<String, XML> pkg(final int files, final int objects) throws IOException {
+        final Map<String, XML> map = new TreeMap<>();
+        for (int idx = 0; idx < files; ++idx) {
+            final String name = String.format("program-%d", idx);
+            map.put(String.format("%s/%s", Corpus.PACKAGE, name), this.program(name, objects));
+        }
+        return map;
+    }
+
+    /**
+     * Save package of programs as XMIR files, to be found by
+     * {@link Programs}, {@link Watch}, or the command line.
+     * @param dir Directory to save to
+     * @param files Number of programs
+     * @param objects Number of top-level objects in every program
+     * @return The directory with saved files
+     * @throws IOException If fails
+     */
+    Path save(final Path dir, final int files, final int objects) throws IOException {
+        final Path home = dir.resolve(Corpus.PACKAGE);
+        Files.createDirectories(home);
+        for (int idx = 0; idx < files; ++idx) {
+            final String name = String.format("program-%d", idx);
+            Files.write(
+                home.resolve(String.format("%s.xmir", name)),
+                this.program(name, objects).toString().getBytes(StandardCharsets.UTF_8)
+            );
+        }
+        return dir;
+    }
+
+    /**
+     * Seed, indented and nested into a chain of objects.
+     * @param seed The seed
+     * @param depth Depth of nesting
+     * @return EO lines
+     */
+    private static String nested(final String seed, final int depth) {
+        final StringBuilder eo = new StringBuilder(0);
+        String indent = "  ";
+        for (int level = 0; level < depth; ++level) {
+            eo.append(indent).append(String.format("[] > level-%d\n", level));
+            indent = String.format("%s  ", indent);
+        }
+        for (final String line : seed.split("\n")) {
+            eo.append(indent).append(line).append('\n');
+        }
+        return eo.toString();
+    }
+
+    /**
+     * Seeds that parse without errors when nested.
+     *
+     * <p>All seeds are parsed together, as one program, since parsing is
+     * expensive. Seeds with errors on their lines are dropped and the rest
+     * are parsed again, until there are no errors at all. Depth of
+     * nesting doesn't matter for the parser, that's why it's always one.</p>
+     *
+     * @return Seeds
+     * @throws IOException If fails
+     */
+    private static List<String> valid() throws IOException {
+        final List<String> valid = new ArrayList<>(0);
+        for (final String seed : Corpus.sources()) {
+            final String body = Corpus.body(seed);
+            if (!body.isEmpty()) {
+                valid.add(body);
+            }
+        }
+        while (!valid.isEmpty()) {
+            final StringBuilder eo = new StringBuilder(0);
+            final List<Integer> starts = new ArrayList<>(valid.size());
+            int lines = 0;
+            for (int idx = 0; idx < valid.size(); ++idx) {
+                final String nested = Corpus.nested(valid.get(idx), 1);
+                starts.add(lines + 1);
+                eo.append("# Seed.\n").append(String.format("[] > seed-%d\n", idx))
+                    .append(nested).append('\n');
+                lines += nested.split("\n").length + 3;
+            }
+            final Set<Integer> broken = new TreeSet<>(Comparator.reverseOrder());
+            for (final String line : new EoSyntax("seeds", new InputOf(eo.toString()))
+                .parsed().xpath("/program/errors/error/@line")) {
+                int idx = starts.size() - 1;
+                while (idx > 0 && starts.get(idx) > Integer.parseInt(line)) {
+                    --idx;
+                }
+                broken.add(idx);
+            }
+            if (broken.isEmpty()) {
+                break;
+            }
+            for (final int idx : broken) {
+                valid.remove(idx);
+            }
+        }
+        if (valid.isEmpty()) {
+            throw new IllegalStateException("There are no valid seeds in the classpath");
+        }
+        return Collections.unmodifiableList(valid);
+    }
+
+    /**
+     * Objects of the seed, without metas, comments, and empty lines.
+     * @param seed EO source
+     * @return EO lines, or empty string if there are no objects
+     */
+    private static String body(final String seed) {
+        final String body;
+        if (seed.contains("+>")) {
+            body = "";
+        } else {
+            body = Stream.of(seed.split("\n"))
+                .filter(line -> !line.trim().isEmpty())
+                .filter(line -> !line.startsWith("+"))
+                .filter(line -> !line.trim().startsWith("#"))
+                .collect(Collectors.joining("\n"));
+        }
+        return body;
+    }
+
+    /**
+     * EO sources of all packs and the canonical program.
+     * @return EO sources
+     * @throws IOException If fails
+     */
+    private static List<String> sources() throws IOException {
+        final List<String> sources = new ArrayList<>(0);
+        sources.add(
+            new Unchecked<>(
+                () -> new TextOf(new ResourceOf("org/eolang/lints/canonical.eo")).asString()
+            ).value()
+        );
+        final List<Resource> packs = new ArrayList<>(
+            Arrays.asList(
+                new PathMatchingResourcePatternResolver().getResources(
+                    "classpath*:org/eolang/lints/packs/**/*.yaml"
+                )
+            )
+        );
+        packs.sort(Comparator.comparing(Resource::getDescription));
+        for (final Resource yaml : packs) {
+            final Map<String, Object> pack = new Yaml().load(
+                yaml.getContentAsString(StandardCharsets.UTF_8)
+            );
+            final Object input = pack.get("input");
+            if (input instanceof String) {
+                sources.add((String) input);
+            }
+        }
+        return sources;
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints;
+
+import com.jcabi.xml.XML;
+import com.yegor256.Mktmp;
+import com.yegor256.MktmpResolver;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * Test for {@link Corpus}.
+ *
+ * @since 0.1.0
+ */
+@ExtendWith(MktmpResolver.class)
+final class CorpusTest {
+
+    @Test
+    void amplifiesManySeeds() {
+        MatcherAssert.assertThat(
+            "most packs must be usable as seeds",
+            new Corpus().size(),
+            Matchers.greaterThan(50)
+        );
+    }
+
+    @Test
+    void generatesProgramWithoutErrors() throws IOException {
+        MatcherAssert.assertThat(
+            "the program must be parsed without errors",
+            new Corpus().program("big", 100).nodes("/program/errors/error"),
+            Matchers.empty()
+        );
+    }
+
+    @Test
+    void generatesRequestedShape() throws IOException {
+        final XML xmir = new Corpus(5, 7, 3, 2).program("deep", 20);
+        MatcherAssert.assertThat(
+            "the program must have all objects, aliases, metas, and nesting",
+            xmir,
+            Matchers.allOf(
+                Matchers.hasToString(Matchers.containsString("deep-19")),
+                Matchers.not(Matchers.hasToString(Matchers.containsString("deep-20")))
+            )
+        );
+        MatcherAssert.assertThat(
+            "the program must have exact number of aliases and probes",
+            xmir.xpath(
+                String.join(
+                    ", '/', ",
+                    "concat(count(/program/objects/o)",
+                    "count(/program/metas/meta[head='alias'])",
+                    "count(/program/metas/meta[head='probe'])",
+                    "count(/program/objects/o[1]/o/o/o/o/o[@name='level-4']))"
+                )
+            ).get(0),
+            Matchers.equalTo("20/7/3/1")
+        );
+    }
+
+    @Test
+    void savesPackageForPrograms(@Mktmp final Path dir) throws IOException {
+        new Corpus().save(dir, 3, 10);
+        try (Stream<Path> files = Files.walk(dir)) {
+            MatcherAssert.assertThat(
+                "all programs must be saved",
+                files.filter(p -> p.toString().endsWith(".xmir")).count(),
+                Matchers.equalTo(3L)
+            );
+        }
+        MatcherAssert.assertThat(
+            "saved programs must be linted",
+            new Programs(dir).defects(),
+            Matchers.not(Matchers.empty())
+        );
+    }
+
+    @Test
+    void generatesPackage() throws IOException {
+        MatcherAssert.assertThat(
+            "the package must have all programs",
+            new Corpus(1, 1, 1, 1).pkg(4, 2).keySet(),
+            Matchers.contains(
+                "corpus/program-0", "corpus/program-1", "corpus/program-2", "corpus/program-3"
+            )
+        );
+    }
+}
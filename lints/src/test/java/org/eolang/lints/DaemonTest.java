@@ -0,0 +1,259 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints;
+
+import com.yegor256.MayBeSlow;
+import com.yegor256.Mktmp;
+import com.yegor256.MktmpResolver;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import org.cactoos.io.InputOf;
+import org.eolang.parser.EoSyntax;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * Test for {@link Daemon}.
+ *
+ * @since 0.1.0
+ */
+@ExtendWith(MktmpResolver.class)
+final class DaemonTest {
+
+    @Test
+    @ExtendWith(MayBeSlow.class)
+    void lintsFileAndBytesTheSameWay(@Mktmp final Path dir) throws IOException {
+        final Path path = dir.resolve("foo.xmir");
+        final String xmir = new EoSyntax(
+            new InputOf("# first.\n[] > foo\n# second.\n[] > foo\n")
+        ).parsed().toString();
+        Files.write(path, xmir.getBytes(StandardCharsets.UTF_8));
+        try (Daemon.Started daemon = new Daemon(0).start()) {
+            final String posted = DaemonTest.body(
+                DaemonTest.request(daemon, "program", "POST", xmir)
+            );
+            MatcherAssert.assertThat(
+                "defects of the file must be the same as of its bytes",
+                DaemonTest.body(
+                    DaemonTest.request(
+                        daemon,
+                        String.format(
+                            "program?path=%s",
+                            URLEncoder.encode(path.toString(), StandardCharsets.UTF_8)
+                        ),
+                        "GET",
+                        ""
+                    )
+                ),
+                Matchers.allOf(
+                    Matchers.equalTo(posted),
+                    Matchers.containsString("duplicate-names\tcritical")
+                )
+            );
+        }
+    }
+
+    @Test
+    @ExtendWith(MayBeSlow.class)
+    void lintsChangedDirectoryAgain(@Mktmp final Path dir) throws IOException {
+        DaemonTest.written(dir.resolve("a.xmir"), "a", "same");
+        DaemonTest.written(dir.resolve("b.xmir"), "b", "same");
+        final String programs = String.format(
+            "programs?dir=%s", URLEncoder.encode(dir.toString(), StandardCharsets.UTF_8)
+        );
+        try (Daemon.Started daemon = new Daemon(0).start()) {
+            MatcherAssert.assertThat(
+                "objects of two programs must be found not unique",
+                DaemonTest.body(DaemonTest.request(daemon, programs, "GET", "")),
+                Matchers.containsString("object-is-not-unique")
+            );
+            DaemonTest.written(dir.resolve("b.xmir"), "b", "other");
+            Files.setLastModifiedTime(
+                dir.resolve("b.xmir"),
+                FileTime.fromMillis(
+                    Files.getLastModifiedTime(dir.resolve("b.xmir")).toMillis() + 1000L
+                )
+            );
+            MatcherAssert.assertThat(
+                "the changed file must be parsed again",
+                DaemonTest.body(DaemonTest.request(daemon, programs, "GET", "")),
+                Matchers.not(Matchers.containsString("object-is-not-unique"))
+            );
+        }
+    }
+
+    @Test
+    @ExtendWith(MayBeSlow.class)
+    void streamsDefectsOfEditedSource() throws IOException {
+        try (Daemon.Started daemon = new Daemon(0).start()) {
+            MatcherAssert.assertThat(
+                "defects of the edited source must be streamed back",
+                DaemonTest.body(
+                    DaemonTest.request(
+                        daemon,
+                        "edit?uri=file%3A%2F%2F%2Ftmp%2Fbar.eo",
+                        "POST",
+                        "# first.\n[] > bar\n# second.\n[] > bar\n"
+                    )
+                ),
+                Matchers.containsString("duplicate-names\tcritical\tbar\t4\t")
+            );
+        }
+    }
+
+    @Test
+    @ExtendWith(MayBeSlow.class)
+    void remembersBoundedNumberOfEditedDocuments() throws IOException {
+        try (Daemon.Started daemon = new Daemon(0, 2, 2).start()) {
+            for (final String name : new String[] {"a", "b", "c", "d"}) {
+                DaemonTest.body(
+                    DaemonTest.request(
+                        daemon,
+                        String.format("edit?uri=file%%3A%%2F%%2F%%2Ftmp%%2F%s.eo", name),
+                        "POST",
+                        String.format("# %s.\n[] > %1$s\n", name)
+                    )
+                );
+            }
+            MatcherAssert.assertThat(
+                "no more documents than the capacity must be remembered",
+                daemon.documents(),
+                Matchers.equalTo(2)
+            );
+            DaemonTest.body(
+                DaemonTest.request(daemon, "edit?uri=file%3A%2F%2F%2Ftmp%2Fd.eo", "DELETE", "")
+            );
+            MatcherAssert.assertThat(
+                "the closed document must be forgotten",
+                daemon.documents(),
+                Matchers.equalTo(1)
+            );
+        }
+    }
+
+    @Test
+    @ExtendWith(MayBeSlow.class)
+    void rejectsAbsentFile(@Mktmp final Path dir) throws IOException {
+        try (Daemon.Started daemon = new Daemon(0).start()) {
+            MatcherAssert.assertThat(
+                "absent file must be rejected",
+                DaemonTest.request(
+                    daemon,
+                    String.format(
+                        "program?path=%s",
+                        URLEncoder.encode(
+                            dir.resolve("absent.xmir").toString(), StandardCharsets.UTF_8
+                        )
+                    ),
+                    "GET",
+                    ""
+                ).getResponseCode(),
+                Matchers.equalTo(400)
+            );
+        }
+    }
+
+    @Test
+    @ExtendWith(MayBeSlow.class)
+    void rejectsRequestsWithoutPermits() throws IOException {
+        try (Daemon.Started daemon = new Daemon(0, 0).start()) {
+            MatcherAssert.assertThat(
+                "requests must be rejected, when there are no permits",
+                DaemonTest.request(daemon, "program", "POST", "<program/>")
+                    .getResponseCode(),
+                Matchers.equalTo(503)
+            );
+        }
+    }
+
+    /**
+     * Make a request.
+     * @param daemon The daemon
+     * @param path Path and query
+     * @param method HTTP method
+     * @param body The body
+     * @return Connection
+     * @throws IOException If fails
+     */
+    private static HttpURLConnection request(final Daemon.Started daemon, final String path,
+        final String method, final String body) throws IOException {
+        final HttpURLConnection conn = (HttpURLConnection) new URL(
+            String.format("http://127.0.0.1:%d/%s", daemon.port(), path)
+        ).openConnection();
+        conn.setRequestMethod(method);
+        if (!body.isEmpty()) {
+            conn.setDoOutput(true);
+            try (OutputStream out = conn.getOutputStream()) {
+                out.write(body.getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        return conn;
+    }
+
+    /**
+     * Write XMIR of a program with a single object.
+     * @param path The file
+     * @param name Name of the program
+     * @param object Name of the object
+     * @throws IOException If fails
+     */
+    private static void written(final Path path, final String name, final String object)
+        throws IOException {
+        Files.write(
+            path,
+            new EoSyntax(name, new InputOf(String.format("# Object.\n[] > %s\n", object)))
+                .parsed().toString().getBytes(StandardCharsets.UTF_8)
+        );
+    }
+
+    /**
+     * Read the body of the response.
+     * @param conn Connection
+     * @return The body
+     * @throws IOException If fails
+     */
+    private static String body(final HttpURLConnection conn) throws IOException {
+        MatcherAssert.assertThat(
+            "the request must be successful",
+            conn.getResponseCode(),
+            Matchers.equalTo(200)
+        );
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (InputStream input = conn.getInputStream()) {
+            input.transferTo(out);
+        }
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,316 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints;
+
+import com.jcabi.xml.XML;
+import com.jcabi.xml.XMLDocument;
+import com.yegor256.Mktmp;
+import com.yegor256.MktmpResolver;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import org.eolang.lints.misc.LtTestNotVerb;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * Test for {@link DefectCache}.
+ *
+ * @since 0.1.0
+ */
+@ExtendWith(MktmpResolver.class)
+final class DefectCacheTest {
+
+    @Test
+    void takesDefectsFromDiskWithoutRunningLints(@Mktmp final Path dir) throws Exception {
+        final XML xmir = new XMLDocument("<program name='foo'/>");
+        final List<String> first = DefectCacheTest.texts(
+            new Program(xmir, DefectCacheTest.lint("a", "it's\tbroken\nbadly\\"))
+                .with(new DefectCache(dir))
+                .defects()
+        );
+        MatcherAssert.assertThat(
+            "defects must be taken from the disk, without running lints",
+            DefectCacheTest.texts(
+                new Program(xmir, DefectCacheTest.broken("a"))
+                    .with(new DefectCache(dir))
+                    .defects()
+            ),
+            Matchers.equalTo(first)
+        );
+    }
+
+    @Test
+    void keepsDefectsInMemory(@Mktmp final Path dir) throws Exception {
+        final DefectCache cache = new DefectCache(dir);
+        final XML xmir = new XMLDocument("<program name='bar'/>");
+        new Program(xmir, DefectCacheTest.lint("b", "oops")).with(cache).defects();
+        Files.delete(dir.resolve("defects.txt"));
+        MatcherAssert.assertThat(
+            "defects must be taken from memory",
+            new Program(xmir, DefectCacheTest.broken("b")).with(cache).defects(),
+            Matchers.hasSize(1)
+        );
+    }
+
+    @Test
+    void findsDefectsAgainForOtherLints(@Mktmp final Path dir) throws Exception {
+        final XML xmir = new XMLDocument("<program name='x'/>");
+        new Program(xmir, DefectCacheTest.lint("first", "one")).with(new DefectCache(dir))
+            .defects();
+        MatcherAssert.assertThat(
+            "defects must be found again, when lints are different",
+            DefectCacheTest.texts(
+                new Program(xmir, DefectCacheTest.lint("second", "two"))
+                    .with(new DefectCache(dir))
+                    .defects()
+            ),
+            Matchers.contains("two")
+        );
+    }
+
+    @Test
+    void findsDefectsAgainForOtherProgram(@Mktmp final Path dir) throws Exception {
+        final AtomicInteger runs = new AtomicInteger();
+        final DefectCache cache = new DefectCache(dir);
+        cache.defects(
+            "<a/>".getBytes(StandardCharsets.UTF_8),
+            DefectCacheTest.lint("c", "z"),
+            () -> {
+                runs.incrementAndGet();
+                return Collections.emptyList();
+            }
+        );
+        cache.defects(
+            "<b/>".getBytes(StandardCharsets.UTF_8),
+            DefectCacheTest.lint("c", "z"),
+            () -> {
+                runs.incrementAndGet();
+                return Collections.emptyList();
+            }
+        );
+        MatcherAssert.assertThat(
+            "lints must run for each program",
+            runs.get(),
+            Matchers.equalTo(2)
+        );
+    }
+
+    @Test
+    void recoversFromTornRecord(@Mktmp final Path dir) throws Exception {
+        final XML first = new XMLDocument("<program name='first'/>");
+        new Program(first, DefectCacheTest.lint("d", "good")).with(new DefectCache(dir))
+            .defects();
+        Files.write(
+            dir.resolve("defects.txt"),
+            "abc\t2\nd\twarning\t1\tx\tto".getBytes(StandardCharsets.UTF_8),
+            StandardOpenOption.APPEND
+        );
+        final XML second = new XMLDocument("<program name='second'/>");
+        new Program(second, DefectCacheTest.lint("d", "fine")).with(new DefectCache(dir))
+            .defects();
+        final DefectCache cache = new DefectCache(dir);
+        MatcherAssert.assertThat(
+            "both records must be readable after the torn one",
+            DefectCacheTest.texts(
+                new Program(first, DefectCacheTest.broken("d")).with(cache).defects()
+            ).get(0).concat(
+                DefectCacheTest.texts(
+                    new Program(second, DefectCacheTest.broken("d")).with(cache).defects()
+                ).get(0)
+            ),
+            Matchers.equalTo("goodfine")
+        );
+    }
+
+    @Test
+    void seesRecordsAppendedByAnotherCache(@Mktmp final Path dir) throws Exception {
+        final DefectCache cache = new DefectCache(dir);
+        new Program(new XMLDocument("<program name='one'/>"), DefectCacheTest.lint("e", "x"))
+            .with(cache)
+            .defects();
+        final XML xmir = new XMLDocument("<program name='two'/>");
+        new Program(xmir, DefectCacheTest.lint("e", "appended"))
+            .with(new DefectCache(dir))
+            .defects();
+        MatcherAssert.assertThat(
+            "defects, appended by another cache, must be found in the file",
+            DefectCacheTest.texts(
+                new Program(xmir, DefectCacheTest.broken("e")).with(cache).defects()
+            ),
+            Matchers.contains("appended")
+        );
+    }
+
+    @Test
+    void compactsDeadRecords(@Mktmp final Path dir) throws Exception {
+        final XML live = new XMLDocument("<program name='live'/>");
+        final DefectCache before = new DefectCache(dir);
+        new Program(live, DefectCacheTest.lint("f", "kept")).with(before).defects();
+        new Program(new XMLDocument("<program name='dead'/>"), DefectCacheTest.lint("f", "gone"))
+            .with(before)
+            .defects();
+        final DefectCache after = new DefectCache(dir, 10, 0);
+        new Program(live, DefectCacheTest.broken("f")).with(after).defects();
+        MatcherAssert.assertThat(
+            "dead record must be removed",
+            after.compact(),
+            Matchers.equalTo(1)
+        );
+        MatcherAssert.assertThat(
+            "live record must stay in the file",
+            DefectCacheTest.texts(
+                new Program(live, DefectCacheTest.broken("f"))
+                    .with(new DefectCache(dir))
+                    .defects()
+            ),
+            Matchers.contains("kept")
+        );
+        MatcherAssert.assertThat(
+            "dead record must be gone from the file",
+            new String(Files.readAllBytes(dir.resolve("defects.txt")), StandardCharsets.UTF_8),
+            Matchers.not(Matchers.containsString("gone"))
+        );
+    }
+
+    @Test
+    void doesNotCompactBelowThreshold(@Mktmp final Path dir) throws Exception {
+        new Program(new XMLDocument("<program name='old'/>"), DefectCacheTest.lint("g", "old"))
+            .with(new DefectCache(dir))
+            .defects();
+        MatcherAssert.assertThat(
+            "records must not be removed, while there are few of them",
+            new DefectCache(dir, 10, 1).compact(),
+            Matchers.equalTo(0)
+        );
+    }
+
+    @Test
+    void findsDefectsAgainForOtherVerbsEngine(@Mktmp final Path dir) throws Exception {
+        final XML xmir = new XMLDocument(
+            String.join(
+                "",
+                "<program name='foo'><metas><meta><head>tests</head></meta></metas>",
+                "<objects><o name='foo-reads' line='3'/></objects></program>"
+            )
+        );
+        new Program(
+            xmir,
+            Collections.singletonList(new LtTestNotVerb(words -> new HashSet<>(words)))
+        ).with(new DefectCache(dir)).defects();
+        final AtomicInteger asked = new AtomicInteger();
+        new Program(
+            xmir,
+            Collections.singletonList(
+                new LtTestNotVerb(
+                    words -> {
+                        asked.incrementAndGet();
+                        return new HashSet<>(words);
+                    }
+                )
+            )
+        ).with(new DefectCache(dir)).defects();
+        MatcherAssert.assertThat(
+            "defects must be found again by another engine of verbs",
+            asked.get(),
+            Matchers.equalTo(1)
+        );
+    }
+
+    /**
+     * Texts of defects.
+     * @param defects Defects
+     * @return Texts
+     */
+    private static List<String> texts(final Collection<Defect> defects) {
+        return defects.stream().map(Defect::text).collect(Collectors.toList());
+    }
+
+    /**
+     * Lint, which finds one defect.
+     * @param name Name of the lint
+     * @param text Text of the defect
+     * @return Lints
+     */
+    private static Iterable<Lint<XML>> lint(final String name, final String text) {
+        return Collections.singletonList(
+            new Lint<XML>() {
+                @Override
+                public String name() {
+                    return name;
+                }
+
+                @Override
+                public Collection<Defect> defects(final XML xmir) {
+                    return Collections.singletonList(
+                        new Defect.Default(
+                            name, Severity.WARNING,
+                            xmir.xpath("/program/@name").get(0), 1, text
+                        )
+                    );
+                }
+
+                @Override
+                public String motive() {
+                    return "";
+                }
+            }
+        );
+    }
+
+    /**
+     * Lint, which must not run.
+     * @param name Name of the lint
+     * @return Lints
+     */
+    private static Iterable<Lint<XML>> broken(final String name) {
+        return Collections.singletonList(
+            new Lint<XML>() {
+                @Override
+                public String name() {
+                    return name;
+                }
+
+                @Override
+                public Collection<Defect> defects(final XML xmir) {
+                    throw new UnsupportedOperationException("lint must not run");
+                }
+
+                @Override
+                public String motive() {
+                    return "";
+                }
+            }
+        );
+    }
+}
@@ -0,0 +1,232 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints;
+
+import com.jcabi.xml.XML;
+import com.yegor256.MayBeSlow;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * Test for {@link Editor}.
+ *
+ * @since 0.1.0
+ */
+final class EditorTest {
+
+    @Test
+    @ExtendWith(MayBeSlow.class)
+    void findsDefectsInSource() throws Exception {
+        final Collection<Defect> found = new ArrayList<>(0);
+        MatcherAssert.assertThat(
+            "all lints must run",
+            new Editor().lint(
+                "file:///tmp/foo.eo", "# first.\n[] > foo\n# second.\n[] > foo\n", found::addAll
+            ),
+            Matchers.is(true)
+        );
+        final Collection<String> programs = new HashSet<>(0);
+        for (final Defect defect : found) {
+            programs.add(defect.program());
+        }
+        MatcherAssert.assertThat(
+            "defects must be found",
+            found,
+            Matchers.hasItem(Matchers.hasToString(Matchers.containsString("duplicate-names")))
+        );
+        MatcherAssert.assertThat(
+            "program must be named by the URI",
+            programs,
+            Matchers.contains("foo")
+        );
+    }
+
+    @Test
+    void stopsStaleRun() throws Exception {
+        final CountDownLatch entered = new CountDownLatch(1);
+        final CountDownLatch released = new CountDownLatch(1);
+        final AtomicBoolean first = new AtomicBoolean(true);
+        final List<String> ran = Collections.synchronizedList(new ArrayList<>(0));
+        final Editor editor = new Editor(
+            Arrays.asList(
+                new EditorTest.Fake(
+                    "slow", Collections.emptyList(),
+                    () -> {
+                        if (first.getAndSet(false)) {
+                            entered.countDown();
+                            released.await();
+                        }
+                    }
+                ),
+                new EditorTest.Fake("after", Collections.emptyList(), () -> ran.add("after"))
+            )
+        );
+        final ExecutorService pool = Executors.newSingleThreadExecutor();
+        try {
+            final Future<Boolean> stale = pool.submit(
+                () -> editor.lint("a.eo", "[] > a\n", found -> { })
+            );
+            entered.await(1L, TimeUnit.MINUTES);
+            MatcherAssert.assertThat(
+                "newer version must be linted completely",
+                editor.lint("a.eo", "[] > a\n", found -> { }),
+                Matchers.is(true)
+            );
+            released.countDown();
+            MatcherAssert.assertThat(
+                "stale version must be stopped",
+                stale.get(1L, TimeUnit.MINUTES),
+                Matchers.is(false)
+            );
+            MatcherAssert.assertThat(
+                "lints after the stale one must not run",
+                ran,
+                Matchers.hasSize(1)
+            );
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void runsCriticalLintsFirst() throws Exception {
+        final List<String> order = new ArrayList<>(0);
+        final Editor editor = new Editor(
+            Arrays.asList(
+                new EditorTest.Fake("quiet", Collections.emptyList(), () -> order.add("quiet")),
+                new EditorTest.Fake(
+                    "warning", Collections.singletonList(Severity.WARNING),
+                    () -> order.add("warning")
+                ),
+                new EditorTest.Fake(
+                    "critical", Collections.singletonList(Severity.CRITICAL),
+                    () -> order.add("critical")
+                )
+            )
+        );
+        final List<Severity> streamed = new ArrayList<>(0);
+        editor.lint("b.eo", "[] > b\n", found -> streamed.add(found.iterator().next().severity()));
+        order.clear();
+        streamed.clear();
+        editor.lint("b.eo", "[] > b\n", found -> streamed.add(found.iterator().next().severity()));
+        MatcherAssert.assertThat(
+            "lints must run by their worst severity",
+            order,
+            Matchers.contains("critical", "warning", "quiet")
+        );
+        MatcherAssert.assertThat(
+            "defects must be streamed by severity",
+            streamed,
+            Matchers.contains(Severity.CRITICAL, Severity.WARNING)
+        );
+    }
+
+    /**
+     * Action of a fake lint.
+     *
+     * @since 0.1.0
+     */
+    private interface Action {
+
+        /**
+         * Do it.
+         * @throws InterruptedException If interrupted
+         */
+        void exec() throws InterruptedException;
+    }
+
+    /**
+     * Fake lint.
+     *
+     * @since 0.1.0
+     */
+    private static final class Fake implements Lint<XML> {
+
+        /**
+         * Name.
+         */
+        private final String label;
+
+        /**
+         * Severities of defects to find.
+         */
+        private final List<Severity> severities;
+
+        /**
+         * What to do.
+         */
+        private final EditorTest.Action action;
+
+        /**
+         * Ctor.
+         * @param name Name
+         * @param sevs Severities of defects to find
+         * @param act What to do
+         */
+        Fake(final String name, final List<Severity> sevs, final EditorTest.Action act) {
+            this.label = name;
+            this.severities = sevs;
+            this.action = act;
+        }
+
+        @Override
+        public String name() {
+            return this.label;
+        }
+
+        @Override
+        public Collection<Defect> defects(final XML xmir) {
+            try {
+                this.action.exec();
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(ex);
+            }
+            final Collection<Defect> found = new ArrayList<>(0);
+            for (final Severity severity : this.severities) {
+                found.add(new Defect.Default(this.label, severity, "fake", 1, "fake"));
+            }
+            return found;
+        }
+
+        @Override
+        public String motive() {
+            return "";
+        }
+    }
+}
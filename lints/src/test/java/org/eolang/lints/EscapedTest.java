@@ -0,0 +1,57 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Test for {@link Escaped} and {@link Unescaped}.
+ *
+ * @since 0.1.0
+ */
+final class EscapedTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "simple", "a\tb", "line\nbreak\r", "back\\slash\\t", "\\"})
+    void restoresEscapedText(final String text) {
+        MatcherAssert.assertThat(
+            "text must be restored",
+            new Unescaped(new Escaped(text).asString()).asString(),
+            Matchers.equalTo(text)
+        );
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"a\tb", "line\nbreak\r", "\t\n"})
+    void keepsTextInOneField(final String text) {
+        MatcherAssert.assertThat(
+            "escaped text must not contain tabs and line breaks",
+            new Escaped(text).asString(),
+            Matchers.not(Matchers.matchesPattern("(?s).*[\t\n\r].*"))
+        );
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints;
+
+import com.jcabi.xml.XML;
+import com.yegor256.Mktmp;
+import com.yegor256.MktmpResolver;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import org.cactoos.io.InputOf;
+import org.eolang.lints.units.LtUnitTestMissing;
+import org.eolang.parser.EoSyntax;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * Test for {@link LazyPackage}.
+ *
+ * @since 0.1.0
+ */
+@ExtendWith(MktmpResolver.class)
+final class LazyPackageTest {
+
+    @Test
+    void doesNotParseForKeyOnlyLints(@Mktmp final Path dir) throws IOException {
+        final Path path = dir.resolve("foo.xmir");
+        Files.write(path, "this is not XML at all".getBytes(StandardCharsets.UTF_8));
+        final Map<String, Path> paths = new TreeMap<>();
+        paths.put("foo", path);
+        MatcherAssert.assertThat(
+            "the file must not be parsed",
+            new LtUnitTestMissing().defects(new LazyPackage(paths, 1)),
+            Matchers.hasSize(1)
+        );
+    }
+
+    @Test
+    void parsesAgainAfterEviction(@Mktmp final Path dir) throws IOException {
+        final Map<String, Path> paths = new TreeMap<>();
+        for (final String name : new String[] {"foo", "bar", "baz"}) {
+            final Path path = dir.resolve(String.format("%s.xmir", name));
+            Files.write(
+                path,
+                new EoSyntax(
+                    name, new InputOf(String.format("# Object.\n[] > %s\n", name))
+                ).parsed().toString().getBytes(StandardCharsets.UTF_8)
+            );
+            paths.put(name, path);
+        }
+        final Map<String, XML> pkg = new LazyPackage(paths, 1);
+        for (int idx = 0; idx < 2; ++idx) {
+            for (final String name : paths.keySet()) {
+                MatcherAssert.assertThat(
+                    "the document must be parsed correctly",
+                    pkg.get(name).xpath("/program/objects/o/@name"),
+                    Matchers.contains(name)
+                );
+            }
+        }
+    }
+
+    @Test
+    void lintsLazyPackage(@Mktmp final Path dir) throws IOException {
+        final Path path = dir.resolve("a/b/foo.xmir");
+        path.toFile().getParentFile().mkdirs();
+        Files.write(
+            path,
+            new EoSyntax(
+                new InputOf("# first.\n[] > foo\n# second.\n[] > foo\n")
+            ).parsed().toString().getBytes(StandardCharsets.UTF_8)
+        );
+        MatcherAssert.assertThat(
+            "the defect is found",
+            new Programs(Collections.singleton(dir), 1).defects(),
+            Matchers.hasSize(Matchers.greaterThan(0))
+        );
+    }
+}
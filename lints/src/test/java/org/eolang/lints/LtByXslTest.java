@@ -23,11 +23,18 @@
  */
 package org.eolang.lints;
 
+import com.jcabi.xml.XML;
+import com.jcabi.xml.XMLDocument;
+import com.yegor256.Together;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.stream.Collectors;
 import org.cactoos.io.InputOf;
 import org.eolang.jucs.ClasspathSource;
@@ -38,6 +45,7 @@ import org.eolang.xax.XtoryMatcher;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.condition.DisabledOnOs;
 import org.junit.jupiter.api.condition.OS;
@@ -78,6 +86,55 @@ final class LtByXslTest {
         );
     }
 
+    @Test
+    void doesNotCompileStylesheetUntilDefectsRequested() {
+        final Lint<XML> lint = new LtByXsl(
+            "broken", new InputOf("it is not an XSL"), new InputOf("some motive")
+        );
+        MatcherAssert.assertThat(
+            "the name must be known without compilation",
+            lint.name(),
+            Matchers.equalTo("broken")
+        );
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> lint.defects(new XMLDocument("<program/>")),
+            "the stylesheet must be compiled when defects are requested"
+        );
+    }
+
+    @Test
+    void findsSeveritiesWithoutCompilation() {
+        MatcherAssert.assertThat(
+            "the severities must be found in the stylesheet",
+            new LtByXsl("critical/duplicate-names").severities(),
+            Matchers.contains(Severity.CRITICAL)
+        );
+    }
+
+    @Test
+    void compilesStylesheetOnceForManyThreads() throws IOException {
+        final Lint<XML> lint = new LtByXsl("critical/duplicate-names");
+        final XML xmir = new EoSyntax(
+            new InputOf("# first\n[] > foo\n# first\n[] > foo\n")
+        ).parsed();
+        final int threads = 8;
+        final Collection<Integer> sizes = new ConcurrentLinkedQueue<>();
+        new Together<>(
+            threads,
+            idx -> sizes.add(lint.defects(new XMLDocument(xmir.toString())).size())
+        ).asList();
+        MatcherAssert.assertThat(
+            "all threads must find the same defects",
+            new HashSet<>(sizes),
+            Matchers.equalTo(
+                Collections.singleton(
+                    new LtByXsl("critical/duplicate-names").defects(xmir).size()
+                )
+            )
+        );
+    }
+
     @Test
     void returnsMotive() throws Exception {
         MatcherAssert.assertThat(
@@ -0,0 +1,233 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints;
+
+import com.jcabi.xml.XML;
+import com.jcabi.xml.XMLDocument;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.Map;
+import org.cactoos.io.InputOf;
+import org.cactoos.io.ResourceOf;
+import org.cactoos.iterable.Mapped;
+import org.cactoos.list.ListOf;
+import org.eolang.jucs.ClasspathSource;
+import org.eolang.parser.EoSyntax;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.yaml.snakeyaml.Yaml;
+
+/**
+ * Test for {@link LtFused}.
+ *
+ * @since 0.1.0
+ */
+final class LtFusedTest {
+
+    /**
+     * All XSL lints.
+     */
+    private static final Collection<LtByXsl> LINTS = new ListOf<>(
+        new Mapped<>(LtByXsl.class::cast, new PkByXsl())
+    );
+
+    /**
+     * All XSL lints, fused.
+     */
+    private static final Lint<XML> FUSED = new LtFused(LtFusedTest.LINTS);
+
+    @ParameterizedTest
+    @ClasspathSource(value = "org/eolang/lints/packs/", glob = "**.yaml")
+    void findsSameDefectsAsSeparateLints(final String yaml) throws IOException {
+        final Map<String, Object> pack = new Yaml().load(yaml);
+        final XML xmir;
+        if (pack.containsKey("input")) {
+            xmir = new EoSyntax("pack", new InputOf(pack.get("input").toString())).parsed();
+        } else {
+            xmir = new XMLDocument(pack.get("document").toString());
+        }
+        LtFusedTest.assertSame(xmir);
+    }
+
+    @Test
+    void findsSameDefectsInCanonicalCode() throws IOException {
+        LtFusedTest.assertSame(
+            new EoSyntax(new ResourceOf("org/eolang/lints/canonical.eo")).parsed()
+        );
+    }
+
+    @Test
+    void findsSameDefectsInBrokenCode() throws IOException {
+        LtFusedTest.assertSame(
+            new EoSyntax(
+                new InputOf(
+                    String.join(
+                        "\n",
+                        "+version 8.8.8-beta",
+                        "+alias org.eolang.txt.sprintf",
+                        "+alias org . eolang . txt . broken",
+                        "+package Z.Y.Z",
+                        "+home some-wrong-URL",
+                        "",
+                        "# комментарий здесь",
+                        "[] > foo-bar",
+                        "  (bar 42) > zzz",
+                        "  44 > zzz",
+                        "",
+                        "[] > foo-bar",
+                        "",
+                        "42 > forty-two"
+                    )
+                )
+            ).parsed()
+        );
+    }
+
+    @Test
+    void keepsLiteralsAndFunctionsOfEachLintApart() throws IOException {
+        final Collection<LtByXsl> lints = new ListOf<>(
+            LtFusedTest.sheet("first"), LtFusedTest.sheet("second")
+        );
+        final XML xmir = new XMLDocument("<program name='x'><objects/></program>");
+        final Collection<String> expected = new LinkedList<>();
+        for (final LtByXsl lint : lints) {
+            for (final Defect defect : lint.defects(xmir)) {
+                expected.add(LtFusedTest.asText(defect));
+            }
+        }
+        MatcherAssert.assertThat(
+            "fused lints must not mix their functions and literals",
+            new ListOf<>(new Mapped<>(LtFusedTest::asText, new LtFused(lints).defects(xmir))),
+            Matchers.allOf(
+                Matchers.equalTo(new ListOf<>(expected)),
+                Matchers.hasItem(Matchers.containsString("$word is first")),
+                Matchers.hasItem(Matchers.containsString("$word is second"))
+            )
+        );
+    }
+
+    @Test
+    void namesFusedLintAfterAllLints() {
+        MatcherAssert.assertThat(
+            "the name must mention all lints",
+            new LtFused(
+                new ListOf<>(LtFusedTest.sheet("first"), LtFusedTest.sheet("second"))
+            ).name(),
+            Matchers.equalTo("fused:first,second")
+        );
+    }
+
+    @Test
+    void returnsMotivesOfAllLints() throws Exception {
+        MatcherAssert.assertThat(
+            "motives must not be empty",
+            LtFusedTest.FUSED.motive(),
+            Matchers.not(Matchers.emptyString())
+        );
+    }
+
+    /**
+     * Check that fused and separate lints find the same defects.
+     * @param xmir The XMIR
+     * @throws IOException If fails
+     */
+    private static void assertSame(final XML xmir) throws IOException {
+        final Collection<String> expected = new LinkedList<>();
+        boolean broken = false;
+        for (final LtByXsl lint : LtFusedTest.LINTS) {
+            try {
+                for (final Defect defect : lint.defects(xmir)) {
+                    expected.add(LtFusedTest.asText(defect));
+                }
+            } catch (final IllegalStateException ex) {
+                broken = true;
+            }
+        }
+        if (broken) {
+            Assertions.assertThrows(
+                IllegalStateException.class,
+                () -> LtFusedTest.FUSED.defects(xmir),
+                "fused lint must fail where a separate lint fails"
+            );
+        } else {
+            MatcherAssert.assertThat(
+                String.format("fused defects must be the same for %s", xmir),
+                new ListOf<>(
+                    new Mapped<>(LtFusedTest::asText, LtFusedTest.FUSED.defects(xmir))
+                ),
+                Matchers.equalTo(new ListOf<>(expected))
+            );
+        }
+    }
+
+    /**
+     * Lint with a function and a variable, both named the same way
+     * in all lints made by this method.
+     * @param name Name of the lint
+     * @return Lint
+     */
+    private static LtByXsl sheet(final String name) {
+        return new LtByXsl(
+            name,
+            new InputOf(
+                String.join(
+                    "\n",
+                    "<xsl:stylesheet xmlns:xsl='http://www.w3.org/1999/XSL/Transform'",
+                    String.format(
+                        "  xmlns:eo='https://www.eolang.org' id='%s' version='2.0'>", name
+                    ),
+                    "  <xsl:function name='eo:word'>",
+                    String.format("    <xsl:sequence select=\"'%s'\"/>", name),
+                    "  </xsl:function>",
+                    "  <xsl:variable name='word' select='eo:word()'/>",
+                    "  <xsl:template match='/'>",
+                    "    <defects>",
+                    "      <defect line='1' severity='warning' note='{$word}'>",
+                    "        <xsl:value-of select=\"concat('$word is ', $word)\"/>",
+                    "      </defect>",
+                    "    </defects>",
+                    "  </xsl:template>",
+                    "</xsl:stylesheet>"
+                )
+            ),
+            new InputOf("some motive")
+        );
+    }
+
+    /**
+     * Defect as text, with all its details.
+     * @param defect The defect
+     * @return Text
+     */
+    private static String asText(final Defect defect) {
+        return String.format(
+            "%s %s %s:%d %s",
+            defect.rule(), defect.severity(), defect.program(), defect.line(), defect.text()
+        );
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints;
+
+import com.jcabi.xml.XML;
+import com.jcabi.xml.XMLDocument;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import org.cactoos.io.InputOf;
+import org.cactoos.map.MapEntry;
+import org.cactoos.map.MapOf;
+import org.eolang.parser.EoSyntax;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test for {@link PackageIndex}.
+ *
+ * @since 0.1.0
+ */
+final class PackageIndexTest {
+
+    @Test
+    void extractsFactsAboutProgram() throws IOException {
+        final PackageIndex.Facts facts = new PackageIndex(
+            new MapOf<String, XML>(
+                "foo",
+                new EoSyntax(
+                    "foo",
+                    new InputOf(
+                        String.join(
+                            "\n",
+                            "+alias org.eolang.txt.sprintf",
+                            "+alias stdout",
+                            "+package org.example",
+                            "+tests",
+                            "",
+                            "# Foo.",
+                            "[] > foo",
+                            "  42 > x",
+                            "",
+                            "# Bar.",
+                            "[] > bar"
+                        )
+                    )
+                ).parsed()
+            )
+        ).facts().get("foo");
+        MatcherAssert.assertThat(
+            "name and package must be extracted",
+            Arrays.asList(facts.program(), facts.pkg()),
+            Matchers.contains("foo", "org.example")
+        );
+        MatcherAssert.assertThat(
+            "aliases must be extracted, with their lines",
+            facts.aliases(),
+            Matchers.contains(
+                new MapEntry<>("org.eolang.txt.sprintf", 1),
+                new MapEntry<>("stdout", 2)
+            )
+        );
+        MatcherAssert.assertThat(
+            "tests must be extracted",
+            facts.tests(),
+            Matchers.hasSize(1)
+        );
+        MatcherAssert.assertThat(
+            "objects must be extracted, with their lines",
+            facts.objects(),
+            Matchers.allOf(Matchers.hasEntry("foo", 7), Matchers.hasEntry("bar", 11))
+        );
+    }
+
+    @Test
+    void takesDefaultsFromEmptyProgram() {
+        final PackageIndex.Facts facts = new PackageIndex(
+            new MapOf<String, XML>("x", new XMLDocument("<program/>"))
+        ).facts().get("x");
+        MatcherAssert.assertThat(
+            "defaults must be used",
+            Arrays.asList(facts.program(), facts.pkg(), facts.objects().size()),
+            Matchers.contains("unknown", "", 0)
+        );
+    }
+
+    @Test
+    void reusesFactsOfAnotherIndex() {
+        final PackageIndex index = new PackageIndex(
+            new MapOf<String, XML>("x", new XMLDocument("<program name='x'/>"))
+        );
+        MatcherAssert.assertThat(
+            "facts must be extracted only once",
+            new PackageIndex(index).facts(),
+            Matchers.sameInstance(index.facts())
+        );
+    }
+
+    @Test
+    void extractsFactsInParallel() {
+        final Map<String, XML> pkg = new TreeMap<>();
+        for (int idx = 0; idx < 50; ++idx) {
+            pkg.put(
+                String.format("p%02d", idx),
+                new XMLDocument(
+                    String.format(
+                        String.join(
+                            "",
+                            "<program name='p%d'><objects>",
+                            "<o name='o%1$d' line='%1$d'/></objects></program>"
+                        ),
+                        idx
+                    )
+                )
+            );
+        }
+        final PackageIndex index = new PackageIndex(pkg, 4);
+        MatcherAssert.assertThat(
+            "facts must be in the order of the package",
+            index.facts().keySet(),
+            Matchers.contains(pkg.keySet().toArray())
+        );
+        MatcherAssert.assertThat(
+            "facts must be extracted for every program",
+            index.facts().get("p42").objects(),
+            Matchers.hasEntry("o42", 42)
+        );
+    }
+
+    @Test
+    void behavesLikeMap() {
+        final XML xml = new XMLDocument("<program/>");
+        final PackageIndex index = new PackageIndex(new MapOf<String, XML>("a/b", xml));
+        MatcherAssert.assertThat(
+            "must be the same package",
+            index,
+            Matchers.allOf(
+                Matchers.hasEntry("a/b", xml),
+                Matchers.aMapWithSize(1)
+            )
+        );
+    }
+}
@@ -29,8 +29,12 @@ import io.github.secretx33.resourceresolver.PathMatchingResourcePatternResolver;
 import io.github.secretx33.resourceresolver.Resource;
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.Set;
+import java.util.TreeSet;
 import org.cactoos.io.InputOf;
+import org.cactoos.io.ResourceOf;
 import org.cactoos.proc.ForEach;
+import org.cactoos.scalar.LengthOf;
 import org.cactoos.text.TextOf;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
@@ -77,6 +81,51 @@ final class PkByXslTest {
         );
     }
 
+    @Test
+    void listsEveryXslStylesheetInIndex() throws Exception {
+        MatcherAssert.assertThat(
+            "the index must list all XSL stylesheets found in classpath",
+            new LengthOf(new PkByXsl()).value(),
+            Matchers.equalTo(
+                (long) new PathMatchingResourcePatternResolver().getResources(
+                    "classpath*:org/eolang/lints/**/*.xsl"
+                ).length
+            )
+        );
+    }
+
+    @Test
+    void declaresSeveritiesOfXslInIndex() throws Exception {
+        for (final String line
+            : new TextOf(new ResourceOf("org/eolang/lints/index.txt")).asString().split("\n")) {
+            final String[] parts = line.split("\t", -1);
+            final Set<String> declared = new TreeSet<>();
+            for (final String text : new XMLDocument(
+                new TextOf(new ResourceOf(parts[1])).asString()
+            ).xpath("//xsl:attribute[@name='severity']//text() | //@severity")) {
+                if (!text.isBlank()) {
+                    declared.add(text.trim());
+                }
+            }
+            MatcherAssert.assertThat(
+                String.format("the line '%s' must declare severities of its XSL", line),
+                parts[3],
+                Matchers.equalTo(String.join(",", declared))
+            );
+        }
+    }
+
+    @Test
+    void takesSeveritiesFromIndex() {
+        for (final Lint<XML> lint : new PkByXsl()) {
+            MatcherAssert.assertThat(
+                String.format("the lint '%s' must know its severities", lint.name()),
+                ((LtByXsl) lint).severities(),
+                Matchers.not(Matchers.empty())
+            );
+        }
+    }
+
     @Test
     void checksAllMotives() throws Exception {
         for (final Lint<XML> lint : new PkByXsl()) {
@@ -0,0 +1,742 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints;
+
+import com.jcabi.log.Logger;
+import com.jcabi.xml.ClasspathSources;
+import com.jcabi.xml.XML;
+import com.jcabi.xml.XMLDocument;
+import com.jcabi.xml.XSL;
+import com.jcabi.xml.XSLDocument;
+import com.sun.management.ThreadMXBean;
+import com.yegor256.MayBeSlow;
+import com.yegor256.Mktmp;
+import com.yegor256.MktmpResolver;
+import com.yegor256.Together;
+import com.yegor256.farea.Farea;
+import com.yegor256.tojos.MnCsv;
+import com.yegor256.tojos.TjCached;
+import com.yegor256.tojos.TjDefault;
+import com.yegor256.tojos.Tojos;
+import com.yegor256.xsline.Xsline;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.cactoos.io.InputOf;
+import org.cactoos.io.ResourceOf;
+import org.cactoos.iterable.Mapped;
+import org.cactoos.list.ListOf;
+import org.cactoos.set.SetOf;
+import org.eolang.parser.EoSyntax;
+import org.eolang.parser.TrParsing;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.w3c.dom.Element;
+
+/**
+ * Test for {@link Program}.
+ *
+ * @since 0.0.1
+ * @todo #134:45min Measure lint time for smaller/larger classes, similar way to JNA Pointer.
+ *  Currently, we measure linting of just one big class. Would be good to measure
+ *  other classes in size too, for instance smaller classes (standard program),
+ *  large class (JNA pointer), x-large class, and xxl class. Don't forget to
+ *  adjust lint-summary.txt file to capture all the measurements.
+ */
+@ExtendWith(MktmpResolver.class)
+final class ProgramTest {
+
+    @Test
+    void returnsEmptyListOfDefects() throws IOException {
+        MatcherAssert.assertThat(
+            "no defects found since the code is clean",
+            new Program(
+                new EoSyntax(
+                    "foo",
+                    new InputOf(
+                        String.join(
+                            "\n",
+                            "+home https://www.eolang.org",
+                            "+package bar",
+                            "+version 0.0.0",
+                            "",
+                            "# This is just a test object with no functionality.",
+                            "[] > foo\n",
+                            "  42 > x"
+                        )
+                    )
+                ).parsed()
+            ).defects(),
+            Matchers.emptyIterable()
+        );
+    }
+
+    @RepeatedTest(2)
+    void checksInParallel(@Mktmp final Path dir) throws IOException {
+        final Path path = dir.resolve("foo.xmir");
+        Files.write(
+            path,
+            new EoSyntax(
+                new InputOf("# first.\n[] > foo\n# second.\n[] > foo\n")
+            ).parsed().toString().getBytes(StandardCharsets.UTF_8)
+        );
+        MatcherAssert.assertThat(
+            "",
+            new SetOf<>(
+                new Together<>(
+                    thread -> new Program(path).defects().size()
+                )
+            ).size(),
+            Matchers.equalTo(1)
+        );
+    }
+
+    @Test
+    @Tag("benchmark")
+    @ExtendWith(MayBeSlow.class)
+    void measuresThroughputInParallel(@Mktmp final Path dir) throws IOException {
+        final Path path = dir.resolve("foo.xmir");
+        Files.write(
+            path,
+            new EoSyntax(
+                new InputOf("# first.\n[] > foo\n# second.\n[] > foo\n")
+            ).parsed().toString().getBytes(StandardCharsets.UTF_8)
+        );
+        final int each = 64;
+        final Collection<String> lines = new ArrayList<>(0);
+        for (int threads = 1; threads <= Runtime.getRuntime().availableProcessors(); threads *= 2) {
+            final long start = System.currentTimeMillis();
+            final int done = new Together<>(
+                threads,
+                thread -> {
+                    for (int idx = 0; idx < each; ++idx) {
+                        new Program(path).defects();
+                    }
+                    return each;
+                }
+            ).asList().stream().mapToInt(Integer::intValue).sum();
+            final long msec = Math.max(1L, System.currentTimeMillis() - start);
+            MatcherAssert.assertThat(
+                String.format("Every one of %d thread(s) must lint programs", threads),
+                done,
+                Matchers.allOf(
+                    Matchers.greaterThan(0),
+                    Matchers.equalTo(each * threads)
+                )
+            );
+            lines.add(
+                String.format(
+                    "%d thread(s): %d programs in %d ms, %.2f programs/sec",
+                    threads, done, msec, done * 1000.0 / msec
+                )
+            );
+        }
+        Files.write(
+            Paths.get("target").resolve("contention-summary.txt"),
+            String.join("\n", lines).getBytes(StandardCharsets.UTF_8)
+        );
+        MatcherAssert.assertThat(
+            "Throughput is not measured for all thread counts",
+            lines,
+            Matchers.not(Matchers.empty())
+        );
+    }
+
+    @Test
+    void findsSameDefectsInParallel() throws IOException {
+        final XML xmir = new EoSyntax(
+            new InputOf(
+                String.join(
+                    "\n",
+                    "+alias org . eolang . txt . broken",
+                    "+package Z.Y.Z",
+                    "",
+                    "# комментарий здесь",
+                    "[] > foo-bar",
+                    "  (bar 42) > zzz",
+                    "  44 > zzz",
+                    "",
+                    "[] > foo-bar"
+                )
+            )
+        ).parsed();
+        final ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            MatcherAssert.assertThat(
+                "defects must be the same and in the same order",
+                new Mapped<>(
+                    Object::toString,
+                    new Program(xmir).with(pool).defects()
+                ),
+                Matchers.contains(
+                    new ListOf<>(
+                        new Mapped<>(
+                            Object::toString,
+                            new Program(xmir).defects()
+                        )
+                    ).toArray(new String[0])
+                )
+            );
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void simpleTest(@Mktmp final Path dir) throws IOException {
+        final Path path = dir.resolve("foo.xmir");
+        Files.write(
+            path,
+            new EoSyntax(
+                new InputOf("# first.\n[] > foo\n# second.\n[] > foo\n")
+            ).parsed().toString().getBytes(StandardCharsets.UTF_8)
+        );
+        MatcherAssert.assertThat(
+            "the defect is found",
+            new Program(path).defects().size(),
+            Matchers.greaterThan(0)
+        );
+    }
+
+    @Test
+    void findsSameDefectsInCachedFile(@Mktmp final Path dir) throws IOException {
+        final Path path = dir.resolve("bar.xmir");
+        Files.write(
+            path,
+            new EoSyntax(
+                new InputOf("# first.\n[] > bar\n# second.\n[] > bar\n")
+            ).parsed().toString().getBytes(StandardCharsets.UTF_8)
+        );
+        final Collection<Defect> first = new Program(path)
+            .with(new DefectCache(dir.resolve("cache")))
+            .defects();
+        MatcherAssert.assertThat(
+            "the same defects must be taken from the cache",
+            new ListOf<>(
+                new Mapped<>(
+                    Object::toString,
+                    new Program(path).with(new DefectCache(dir.resolve("cache"))).defects()
+                )
+            ),
+            Matchers.equalTo(new ListOf<>(new Mapped<>(Object::toString, first)))
+        );
+    }
+
+    @Test
+    void throwsWhenFileIsAbsent(@Mktmp final Path dir) {
+        Assertions.assertThrows(
+            FileNotFoundException.class,
+            () -> new Program(dir.resolve("absent.xmir")),
+            "absent file must not be accepted"
+        );
+    }
+
+    @Test
+    void largerBrokenProgramTest() throws IOException {
+        MatcherAssert.assertThat(
+            "checking passes",
+            new Program(
+                new EoSyntax(
+                    new InputOf(
+                        String.join(
+                            "\n",
+                            "# This is the license",
+                            "",
+                            "+version 8.8.8-beta",
+                            "+alias org.eolang.txt.sprintf",
+                            "+alias org . eolang . txt . broken",
+                            "+version 1.1-another maybe be wrong",
+                            "+package Z.Y.Z",
+                            "+home some-wrong-URL",
+                            "+architect broken-email-here",
+                            "",
+                            "# комментарий здесь",
+                            "[] > foo-bar",
+                            "  (bar 42) > zzz",
+                            "  44 > zzz",
+                            "",
+                            "[] > foo-bar",
+                            "",
+                            "[] > another",
+                            "",
+                            "42 > forty-two"
+                        )
+                    )
+                ).parsed()
+            ).defects(),
+            Matchers.allOf(
+                Matchers.iterableWithSize(Matchers.greaterThan(0)),
+                Matchers.hasItem(
+                    Matchers.hasToString(
+                        Matchers.containsString(
+                            "[alias-too-long ERROR]:5 The alias has too many parts"
+                        )
+                    )
+                )
+            )
+        );
+    }
+
+    @Test
+    void acceptsCanonicalCode() throws IOException {
+        final XML xmir = new Xsline(new TrParsing()).pass(
+            new EoSyntax(
+                new ResourceOf(
+                    "org/eolang/lints/canonical.eo"
+                )
+            ).parsed()
+        );
+        MatcherAssert.assertThat(
+            String.format("no errors in canonical code in %s", xmir),
+            new Program(xmir).defects(),
+            Matchers.emptyIterable()
+        );
+    }
+
+    @Test
+    void doesNotThrowIoException() {
+        Assertions.assertDoesNotThrow(
+            () ->
+                new Program(
+                    new XMLDocument("<program/>")
+                ).defects(),
+            "Exception was thrown, but it should not be"
+        );
+    }
+
+    @Test
+    @Tag("benchmark")
+    @ExtendWith(MktmpResolver.class)
+    @ExtendWith(MayBeSlow.class)
+    void lintsLargeJnaClass(@Mktmp final Path home) throws Exception {
+        final String path = "com/sun/jna/Pointer.class";
+        final Path bin = Paths.get("target")
+            .resolve("jna-classes")
+            .resolve(path);
+        new Farea(home).together(
+            f -> {
+                f.clean();
+                f.files()
+                    .file(String.format("target/classes/%s", path))
+                    .write(Files.readAllBytes(bin));
+                f.build()
+                    .plugins()
+                    .append("org.eolang", "jeo-maven-plugin", "0.6.26")
+                    .execution("default")
+                    .phase("process-classes")
+                    .goals("disassemble");
+                f.exec("process-classes");
+                final Path pre = f.files().file(
+                    "target/generated-sources/jeo-xmir/com/sun/jna/Pointer.xmir"
+                ).path();
+                final XML xmir = new XMLDocument(pre);
+                final long start = System.currentTimeMillis();
+                final Collection<Defect> defects = new ProgramTest.BcProgram(xmir).defects();
+                final long msec = System.currentTimeMillis() - start;
+                final Path target = Paths.get("target");
+                Files.write(
+                    target.resolve("lint-summary.txt"),
+                    String.join(
+                        "\n",
+                        String.format("Input: %s", path),
+                        Logger.format(
+                            "Size of .class: %[size]s (%1$s bytes)",
+                            bin.toFile().length()
+                        ),
+                        Logger.format(
+                            "Size of .xmir after disassemble: %[size]s (%1$s bytes, %d lines)",
+                            pre.toFile().length(),
+                            Files.readString(pre, StandardCharsets.UTF_8).split("\n").length
+                        ),
+                        Logger.format(
+                            "Lint time: %[ms]s (%d ms)",
+                            msec, msec
+                        )
+                    ).getBytes(StandardCharsets.UTF_8)
+                );
+                MatcherAssert.assertThat(
+                    "Defects are empty, but they should not be",
+                    defects,
+                    Matchers.hasSize(Matchers.greaterThan(0))
+                );
+            }
+        );
+    }
+
+    @Test
+    void walksDocumentOnceForAllVisitors() throws IOException {
+        final XML xmir = new EoSyntax(
+            new InputOf("# first\n[] > foo\n# first\n[] > foo\n")
+        ).parsed();
+        final ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            for (final Program program : new ListOf<>(
+                new Program(
+                    xmir,
+                    new ListOf<Lint<XML>>(
+                        new ProgramTest.Walked("first"),
+                        new LtByXsl("critical/duplicate-names"),
+                        new ProgramTest.Walked("second")
+                    )
+                ),
+                new Program(
+                    xmir,
+                    new ListOf<Lint<XML>>(
+                        new ProgramTest.Walked("first"),
+                        new LtByXsl("critical/duplicate-names"),
+                        new ProgramTest.Walked("second")
+                    )
+                ).with(pool)
+            )) {
+                MatcherAssert.assertThat(
+                    "visitors must be walked, and defects must be in the order of lints",
+                    new ArrayList<>(
+                        new LinkedHashSet<>(
+                            new ListOf<>(new Mapped<>(Defect::rule, program.defects()))
+                        )
+                    ),
+                    Matchers.contains("first", "duplicate-names", "second")
+                );
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void sharesSaxonTreeAmongXslLints() throws Exception {
+        final XML xmir = new EoSyntax(
+            new InputOf(
+                String.join(
+                    "\n",
+                    "+alias org . eolang . txt . broken",
+                    "+package Z.Y.Z",
+                    "",
+                    "# комментарий здесь",
+                    "[] > foo-bar",
+                    "  (bar 42) > zzz",
+                    "  44 > zzz"
+                )
+            )
+        ).parsed();
+        final Collection<LtByXsl> lints = new ListOf<>(
+            new LtByXsl("critical/duplicate-names"),
+            new LtByXsl("comments/comment-without-dot")
+        );
+        MatcherAssert.assertThat(
+            "the same defects must be found in the shared Saxon tree",
+            ProgramTest.shared(lints, new SaxonXmir(xmir)),
+            Matchers.allOf(
+                Matchers.not(Matchers.empty()),
+                Matchers.equalTo(ProgramTest.copied(lints, xmir))
+            )
+        );
+    }
+
+    @Test
+    @Tag("benchmark")
+    @ExtendWith(MktmpResolver.class)
+    @ExtendWith(MayBeSlow.class)
+    void measuresSharedSaxonTreeOnJnaClass(@Mktmp final Path home) throws Exception {
+        final XML xmir = new XMLDocument(
+            ProgramTest.disassembled(home, "com/sun/jna/Pointer.class")
+        );
+        final List<XSL> sheets = new ListOf<>(
+            new Mapped<XSL>(
+                (LtByXsl lint) -> new SaxonXsl(
+                    lint.stylesheet(), lint.name(), new ClasspathSources()
+                ),
+                new Mapped<LtByXsl>(LtByXsl.class::cast, new PkByXsl())
+            )
+        );
+        ProgramTest.transformed(sheets, new XMLDocument("<program/>"));
+        ProgramTest.transformed(sheets, new SaxonXmir(new XMLDocument("<program/>")));
+        final ThreadMXBean bean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        final long tid = Thread.currentThread().getId();
+        long bytes = bean.getThreadAllocatedBytes(tid);
+        long start = System.currentTimeMillis();
+        final List<String> before = ProgramTest.transformed(sheets, xmir);
+        final long legacy = System.currentTimeMillis() - start;
+        final long dom = bean.getThreadAllocatedBytes(tid) - bytes;
+        final XML shared = new SaxonXmir(xmir);
+        bytes = bean.getThreadAllocatedBytes(tid);
+        start = System.currentTimeMillis();
+        final List<String> after = ProgramTest.transformed(sheets, shared);
+        final long msec = System.currentTimeMillis() - start;
+        final long tree = bean.getThreadAllocatedBytes(tid) - bytes;
+        Files.write(
+            Paths.get("target").resolve("saxon-summary.txt"),
+            String.join(
+                "\n",
+                "Input: com/sun/jna/Pointer.class",
+                String.format("Lints: %d, all compiled once", sheets.size()),
+                Logger.format(
+                    "Saxon tree built from DOM per lint: %[ms]s, %[size]s allocated",
+                    legacy, dom
+                ),
+                Logger.format(
+                    "Saxon tree built once and shared: %[ms]s, %[size]s allocated",
+                    msec, tree
+                )
+            ).getBytes(StandardCharsets.UTF_8)
+        );
+        MatcherAssert.assertThat(
+            "the same defects must be found in the shared Saxon tree",
+            after,
+            Matchers.equalTo(before)
+        );
+    }
+
+    /**
+     * Texts of defects, found by compiled stylesheets of XSL lints.
+     * @param sheets Compiled stylesheets
+     * @param xmir XMIR, either DOM or a Saxon tree
+     * @return Texts of defects
+     */
+    private static List<String> transformed(final Iterable<XSL> sheets, final XML xmir) {
+        final List<String> texts = new LinkedList<>();
+        for (final XSL sheet : sheets) {
+            texts.addAll(sheet.transform(xmir).xpath("/defects/defect/text()"));
+        }
+        return texts;
+    }
+
+    /**
+     * Texts of defects, found by XSL lints in a copy of XMIR, per lint.
+     * @param lints XSL lints
+     * @param xmir XMIR
+     * @return Texts of defects
+     */
+    private static List<String> copied(final Iterable<LtByXsl> lints, final XML xmir) {
+        final List<String> texts = new LinkedList<>();
+        for (final LtByXsl lint : lints) {
+            texts.addAll(
+                new XSLDocument(lint.stylesheet(), lint.name())
+                    .with(new ClasspathSources())
+                    .transform(xmir)
+                    .xpath("/defects/defect/text()")
+            );
+        }
+        return texts;
+    }
+
+    /**
+     * Texts of defects, found by XSL lints in one shared Saxon tree.
+     * @param lints XSL lints
+     * @param xmir XMIR, as a Saxon tree
+     * @return Texts of defects
+     * @throws IOException If fails
+     */
+    private static List<String> shared(final Iterable<LtByXsl> lints, final XML xmir)
+        throws IOException {
+        final List<String> texts = new LinkedList<>();
+        for (final LtByXsl lint : lints) {
+            for (final Defect defect : lint.defects(xmir)) {
+                texts.add(defect.text());
+            }
+        }
+        return texts;
+    }
+
+    /**
+     * Disassemble a class from JNA into XMIR.
+     * @param home Home directory
+     * @param path Path of the class inside JNA
+     * @return Path of the XMIR file
+     * @throws Exception If fails
+     */
+    private static Path disassembled(final Path home, final String path) throws Exception {
+        final Path bin = Paths.get("target")
+            .resolve("jna-classes")
+            .resolve(path);
+        final List<Path> xmir = new LinkedList<>();
+        new Farea(home).together(
+            f -> {
+                f.clean();
+                f.files()
+                    .file(String.format("target/classes/%s", path))
+                    .write(Files.readAllBytes(bin));
+                f.build()
+                    .plugins()
+                    .append("org.eolang", "jeo-maven-plugin", "0.6.26")
+                    .execution("default")
+                    .phase("process-classes")
+                    .goals("disassemble");
+                f.exec("process-classes");
+                xmir.add(
+                    f.files().file(
+                        String.format(
+                            "target/generated-sources/jeo-xmir/%s",
+                            path.replaceAll("\\.class$", ".xmir")
+                        )
+                    ).path()
+                );
+            }
+        );
+        return xmir.get(0);
+    }
+
+    /**
+     * Benchmarked program.
+     * @since 0.0.29
+     */
+    private static final class BcProgram {
+
+        /**
+         * XMIR.
+         */
+        private final XML xmir;
+
+        /**
+         * Lints to apply.
+         */
+        private final Iterable<Lint<XML>> lints;
+
+        /**
+         * Timings.
+         */
+        private final Tojos timings;
+
+        /**
+         * Ctor.
+         * @param program XMIR program to lint
+         */
+        BcProgram(final XML program) {
+            this(
+                program,
+                new Registry<>(new PkMono()),
+                new TjCached(
+                    new TjDefault(
+                        new MnCsv("target/timings.csv")
+                    )
+                )
+            );
+        }
+
+        /**
+         * Ctor.
+         * @param program XMIR program to lint
+         * @param lnts Lints to apply
+         * @param tmngs Timings
+         */
+        BcProgram(final XML program, final Iterable<Lint<XML>> lnts, final Tojos tmngs) {
+            this.xmir = program;
+            this.lints = lnts;
+            this.timings = tmngs;
+        }
+
+        /**
+         * Defects.
+         * @return Defects
+         * @todo #144:35min Resolve code duplication with Program.java class.
+         *  Currently, BcProgram.java is duplication of Program.java. Let's make
+         *  it use the original Program.java, so they will stay synced. Don't forget
+         *  to remove this puzzle.
+         */
+        public Collection<Defect> defects() {
+            try {
+                final Collection<Defect> messages = new ArrayList<>(0);
+                for (final Lint<XML> lint : this.lints) {
+                    final long start = System.currentTimeMillis();
+                    final Collection<Defect> defects = lint.defects(this.xmir);
+                    final long done = System.currentTimeMillis() - start;
+                    this.timings.add(lint.name()).set("ms", done);
+                    messages.addAll(defects);
+                }
+                return messages;
+            } catch (final IOException ex) {
+                throw new IllegalStateException(
+                    "Failed to find defects in the XMIR file",
+                    ex
+                );
+            }
+        }
+    }
+
+    /**
+     * Lint, which may only be walked, reporting each object.
+     *
+     * @since 0.1.0
+     */
+    private static final class Walked implements Lint<XML>, Visitor {
+
+        /**
+         * Name of the lint.
+         */
+        private final String label;
+
+        /**
+         * Ctor.
+         * @param name Name of the lint
+         */
+        Walked(final String name) {
+            this.label = name;
+        }
+
+        @Override
+        public Set<String> elements() {
+            return new SetOf<>("o");
+        }
+
+        @Override
+        public void visit(final Element element, final String program,
+            final Collection<Defect> defects) {
+            defects.add(
+                new Defect.Default(this.label, Severity.WARNING, program, 0, "walked")
+            );
+        }
+
+        @Override
+        public String name() {
+            return this.label;
+        }
+
+        @Override
+        public Collection<Defect> defects(final XML xmir) {
+            throw new UnsupportedOperationException("must be walked");
+        }
+
+        @Override
+        public String motive() {
+            return "walked";
+        }
+    }
+}
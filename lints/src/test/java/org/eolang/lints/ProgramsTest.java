@@ -30,7 +30,10 @@ import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
 import org.cactoos.io.InputOf;
+import org.cactoos.iterable.Mapped;
 import org.cactoos.list.ListOf;
 import org.cactoos.set.SetOf;
 import org.eolang.parser.EoSyntax;
@@ -86,6 +89,38 @@ final class ProgramsTest {
         );
     }
 
+    @Test
+    void findsSameDefectsIncrementally(@Mktmp final Path dir) throws IOException {
+        final Path src = dir.resolve("src");
+        Files.createDirectories(src.resolve("org/example"));
+        for (final String name : new String[] {"foo", "bar", "bar-test"}) {
+            Files.write(
+                src.resolve(String.format("org/example/%s.xmir", name)),
+                new EoSyntax(
+                    name,
+                    new InputOf(
+                        "+alias org.example.absent\n+package org.example\n\n# Foo.\n[] > foo\n"
+                    )
+                ).parsed().toString().getBytes(StandardCharsets.UTF_8)
+            );
+        }
+        final List<String> expected = new ListOf<>(
+            new Mapped<>(Object::toString, new Programs(src).defects())
+        );
+        for (int run = 0; run < 2; ++run) {
+            MatcherAssert.assertThat(
+                "defects must be the same in incremental mode",
+                new ListOf<>(
+                    new Mapped<>(
+                        Object::toString,
+                        new Programs(Collections.singleton(src), dir.resolve("store")).defects()
+                    )
+                ),
+                Matchers.equalTo(expected)
+            );
+        }
+    }
+
     @Test
     void doesNotThrowIoException() {
         Assertions.assertDoesNotThrow(
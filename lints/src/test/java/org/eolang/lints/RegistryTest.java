@@ -0,0 +1,64 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints;
+
+import com.jcabi.xml.XML;
+import com.yegor256.Together;
+import org.cactoos.scalar.LengthOf;
+import org.cactoos.set.SetOf;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test for {@link Registry}.
+ *
+ * @since 0.1.0
+ */
+final class RegistryTest {
+
+    @Test
+    void keepsAllLints() throws Exception {
+        MatcherAssert.assertThat(
+            "all lints must be in the registry",
+            new LengthOf(new Registry<>(new PkMono())).value(),
+            Matchers.equalTo(new LengthOf(new PkMono()).value())
+        );
+    }
+
+    @RepeatedTest(5)
+    void iteratesInParallel() {
+        final Iterable<Lint<XML>> lints = new Registry<>(new PkMono());
+        MatcherAssert.assertThat(
+            "all threads must see the same lints",
+            new SetOf<>(
+                new Together<>(
+                    thread -> new LengthOf(lints).value()
+                )
+            ).size(),
+            Matchers.equalTo(1)
+        );
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints;
+
+import com.jcabi.xml.ClasspathSources;
+import com.jcabi.xml.XML;
+import com.jcabi.xml.XMLDocument;
+import com.jcabi.xml.XSLDocument;
+import com.yegor256.Together;
+import java.io.IOException;
+import org.cactoos.io.ResourceOf;
+import org.cactoos.set.SetOf;
+import org.eolang.parser.EoSyntax;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test for {@link SaxonXsl}.
+ *
+ * @since 0.1.0
+ */
+final class SaxonXslTest {
+
+    @Test
+    void transformsLikeXslDocument() throws IOException {
+        final XML xmir = new EoSyntax(
+            new ResourceOf("org/eolang/lints/canonical.eo")
+        ).parsed();
+        final XML shared = new SaxonXmir(xmir);
+        for (final Lint<XML> lint : new PkByXsl()) {
+            final XML sheet = ((LtByXsl) lint).stylesheet();
+            MatcherAssert.assertThat(
+                String.format("the '%s' must produce the same output", lint.name()),
+                new SaxonXsl(sheet, lint.name(), new ClasspathSources())
+                    .transform(shared)
+                    .nodes("/defects/defect")
+                    .toString(),
+                Matchers.equalTo(
+                    new XSLDocument(sheet, lint.name())
+                        .with(new ClasspathSources())
+                        .transform(xmir)
+                        .nodes("/defects/defect")
+                        .toString()
+                )
+            );
+        }
+    }
+
+    @Test
+    void transformsPlainDom() {
+        MatcherAssert.assertThat(
+            "the DOM must be transformed without a prebuilt tree",
+            new SaxonXsl(
+                new XMLDocument(
+                    String.join(
+                        "",
+                        "<xsl:stylesheet xmlns:xsl='http://www.w3.org/1999/XSL/Transform'",
+                        " version='2.0'><xsl:template match='/'>",
+                        "<r><xsl:value-of select='count(//a)'/></r>",
+                        "</xsl:template></xsl:stylesheet>"
+                    )
+                ),
+                "count",
+                new ClasspathSources()
+            ).transform(new XMLDocument("<x><a/><a/></x>")).xpath("/r/text()"),
+            Matchers.contains("2")
+        );
+    }
+
+    @Test
+    void buildsTreeOnlyOnce() {
+        final SaxonXmir xmir = new SaxonXmir(new XMLDocument("<program/>"));
+        MatcherAssert.assertThat(
+            "the tree must be the same, even for a copy with another DOM",
+            xmir.with(new XMLDocument("<program/>")).tree(),
+            Matchers.sameInstance(xmir.tree())
+        );
+    }
+
+    @Test
+    void transformsSharedTreeInManyThreads() throws IOException {
+        final XML xmir = new SaxonXmir(
+            new EoSyntax(
+                new ResourceOf("org/eolang/lints/canonical.eo")
+            ).parsed()
+        );
+        final Lint<XML> lint = new LtByXsl("comments/comment-too-short");
+        MatcherAssert.assertThat(
+            "all threads must find the same defects",
+            new SetOf<>(
+                new Together<>(
+                    thread -> lint.defects(xmir).toString()
+                )
+            ),
+            Matchers.hasSize(1)
+        );
+    }
+}
@@ -0,0 +1,237 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints;
+
+import com.jcabi.xml.XML;
+import com.jcabi.xml.XMLDocument;
+import com.yegor256.Mktmp;
+import com.yegor256.MktmpResolver;
+import com.yegor256.Together;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.cactoos.io.InputOf;
+import org.eolang.parser.EoSyntax;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * Test for {@link Summaries}.
+ *
+ * @since 0.1.0
+ */
+@ExtendWith(MktmpResolver.class)
+final class SummariesTest {
+
+    @Test
+    void restoresFactsFromDisk(@Mktmp final Path dir) throws IOException {
+        final Map<String, Path> paths = SummariesTest.written(dir, "foo", "bar");
+        final Map<String, PackageIndex.Facts> first = new Summaries(dir.resolve("s"))
+            .facts(paths, SummariesTest.parsed(paths), 1);
+        final PackageIndex.Facts facts = new Summaries(dir.resolve("s"))
+            .facts(paths, Collections.emptyMap(), 1)
+            .get("foo");
+        MatcherAssert.assertThat(
+            "facts must be restored without parsing",
+            String.join(
+                " ",
+                facts.program(), facts.pkg(), facts.aliases().toString(),
+                facts.tests().toString(), facts.objects().toString()
+            ),
+            Matchers.equalTo(
+                String.join(
+                    " ",
+                    first.get("foo").program(), first.get("foo").pkg(),
+                    first.get("foo").aliases().toString(),
+                    first.get("foo").tests().toString(),
+                    first.get("foo").objects().toString()
+                )
+            )
+        );
+    }
+
+    @Test
+    void parsesOnlyChangedFiles(@Mktmp final Path dir) throws IOException {
+        final Map<String, Path> paths = SummariesTest.written(dir, "alpha", "beta");
+        new Summaries(dir.resolve("s")).facts(paths, SummariesTest.parsed(paths), 1);
+        Files.write(
+            paths.get("beta"),
+            SummariesTest.xmir("beta", "[] > gamma").getBytes(StandardCharsets.UTF_8)
+        );
+        Files.setLastModifiedTime(
+            paths.get("beta"),
+            FileTime.fromMillis(Files.getLastModifiedTime(paths.get("beta")).toMillis() + 1000L)
+        );
+        final Map<String, XML> changed = new TreeMap<>();
+        changed.put("beta", new XMLDocument(paths.get("beta")));
+        final Map<String, PackageIndex.Facts> facts = new Summaries(dir.resolve("s"))
+            .facts(paths, changed, 1);
+        MatcherAssert.assertThat(
+            "facts of the changed file must be extracted again",
+            facts.get("beta").objects().keySet(),
+            Matchers.contains("gamma")
+        );
+        MatcherAssert.assertThat(
+            "facts of the unchanged file must be restored",
+            facts.get("alpha").objects().keySet(),
+            Matchers.contains("alpha")
+        );
+    }
+
+    @Test
+    void notesChangeOfSameSizeAndTime(@Mktmp final Path dir) throws IOException {
+        final Path file = dir.resolve("x.xmir");
+        final String xmir = String.join(
+            "", "<program name='x'><objects>", "<o name='%s' line='1'/></objects></program>"
+        );
+        Files.write(file, String.format(xmir, "a").getBytes(StandardCharsets.UTF_8));
+        final Map<String, Path> paths = new TreeMap<>();
+        paths.put("x", file);
+        new Summaries(dir.resolve("s")).facts(paths, SummariesTest.parsed(paths), 1);
+        final FileTime time = Files.getLastModifiedTime(file);
+        Files.write(file, String.format(xmir, "y").getBytes(StandardCharsets.UTF_8));
+        Files.setLastModifiedTime(file, time);
+        MatcherAssert.assertThat(
+            "facts must be extracted again, if the content changed",
+            new Summaries(dir.resolve("s"))
+                .facts(paths, SummariesTest.parsed(paths), 1)
+                .get("x").objects().keySet(),
+            Matchers.contains("y")
+        );
+    }
+
+    @Test
+    void forgetsRemovedFiles(@Mktmp final Path dir) throws IOException {
+        final Map<String, Path> paths = SummariesTest.written(dir, "one", "two");
+        new Summaries(dir.resolve("s")).facts(paths, SummariesTest.parsed(paths), 1);
+        paths.remove("two");
+        new Summaries(dir.resolve("s")).facts(paths, Collections.emptyMap(), 1);
+        MatcherAssert.assertThat(
+            "summaries of removed files must be forgotten",
+            new String(
+                Files.readAllBytes(dir.resolve("s/summaries.txt")), StandardCharsets.UTF_8
+            ),
+            Matchers.not(Matchers.containsString("two"))
+        );
+    }
+
+    @Test
+    void savesFromManyThreadsAtOnce(@Mktmp final Path dir) throws IOException {
+        final Map<String, Path> paths = SummariesTest.written(dir, "left", "right");
+        final Map<String, XML> docs = SummariesTest.parsed(paths);
+        new Together<>(
+            8,
+            idx -> new Summaries(dir.resolve("s")).facts(paths, docs, 1).size()
+        ).asList();
+        MatcherAssert.assertThat(
+            "facts must be restored from the file, saved by many threads",
+            new Summaries(dir.resolve("s"))
+                .facts(paths, Collections.emptyMap(), 1)
+                .get("right").objects().keySet(),
+            Matchers.contains("right")
+        );
+        final List<String> files;
+        try (Stream<Path> list = Files.list(dir.resolve("s"))) {
+            files = list.map(path -> path.getFileName().toString())
+                .collect(Collectors.toList());
+        }
+        MatcherAssert.assertThat(
+            "temporary files must not be left",
+            files,
+            Matchers.contains("summaries.txt")
+        );
+    }
+
+    /**
+     * Write XMIR files.
+     * @param dir The directory
+     * @param names Names of programs
+     * @return Paths of files, by keys
+     * @throws IOException If fails
+     */
+    private static Map<String, Path> written(final Path dir, final String... names)
+        throws IOException {
+        final Map<String, Path> paths = new TreeMap<>();
+        for (final String name : names) {
+            final Path path = dir.resolve(String.format("%s.xmir", name));
+            Files.write(
+                path,
+                SummariesTest.xmir(name, String.format("[] > %s", name))
+                    .getBytes(StandardCharsets.UTF_8)
+            );
+            paths.put(name, path);
+        }
+        return paths;
+    }
+
+    /**
+     * Parse XMIR files.
+     * @param paths Paths of files, by keys
+     * @return Documents, by keys
+     * @throws IOException If fails
+     */
+    private static Map<String, XML> parsed(final Map<String, Path> paths) throws IOException {
+        final Map<String, XML> docs = new TreeMap<>();
+        for (final Map.Entry<String, Path> ent : paths.entrySet()) {
+            docs.put(ent.getKey(), new XMLDocument(ent.getValue()));
+        }
+        return docs;
+    }
+
+    /**
+     * Make XMIR of a program.
+     * @param name Name of the program
+     * @param object The object
+     * @return XMIR
+     * @throws IOException If fails
+     */
+    private static String xmir(final String name, final String object) throws IOException {
+        return new EoSyntax(
+            name,
+            new InputOf(
+                String.join(
+                    "\n",
+                    "+alias org.eolang.txt.sprintf",
+                    "+alias org . eolang\\tbroken",
+                    "+package org.example",
+                    "+tests",
+                    "",
+                    "# Object.",
+                    object,
+                    ""
+                )
+            )
+        ).parsed().toString();
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints;
+
+import com.jcabi.xml.XMLDocument;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Set;
+import org.cactoos.iterable.Mapped;
+import org.cactoos.list.ListOf;
+import org.cactoos.set.SetOf;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.w3c.dom.Element;
+
+/**
+ * Test for {@link Walk}.
+ *
+ * @since 0.1.0
+ */
+final class WalkTest {
+
+    @Test
+    void visitsElementsInDocumentOrder() {
+        final List<String> seen = new LinkedList<>();
+        new Walk(new WalkTest.Names(seen, "o", "meta")).defects(
+            new XMLDocument(
+                String.join(
+                    "",
+                    "<program><metas><meta id='m'/></metas>",
+                    "<objects><o id='a'><o id='b'/></o><o id='c'/></objects></program>"
+                )
+            )
+        );
+        MatcherAssert.assertThat(
+            "elements must be visited once, in document order",
+            seen,
+            Matchers.contains("m", "a", "b", "c")
+        );
+    }
+
+    @Test
+    void returnsDefectsInOrderOfVisitors() {
+        MatcherAssert.assertThat(
+            "defects must be grouped by visitors",
+            new ListOf<>(
+                new Mapped<>(
+                    Defect::rule,
+                    new Walk(
+                        new WalkTest.Names(new LinkedList<>(), "o"),
+                        new WalkTest.Names(new LinkedList<>(), "meta")
+                    ).defects(
+                        new XMLDocument(
+                            "<program name='foo'><o id='x'/><meta id='y'/><o id='z'/></program>"
+                        )
+                    )
+                )
+            ),
+            Matchers.contains("o", "o", "meta")
+        );
+    }
+
+    @Test
+    void takesNameOfProgram() {
+        MatcherAssert.assertThat(
+            "the name of the program must be taken from the root",
+            new ListOf<>(
+                new Mapped<>(
+                    Defect::program,
+                    new Walk(new WalkTest.Names(new LinkedList<>(), "o")).defects(
+                        new XMLDocument("<program name='bar'><o id='x'/></program>")
+                    )
+                )
+            ),
+            Matchers.contains("bar")
+        );
+    }
+
+    /**
+     * Visitor that remembers IDs of elements and reports each of them.
+     *
+     * @since 0.1.0
+     */
+    private static final class Names implements Visitor {
+
+        /**
+         * IDs seen.
+         */
+        private final Collection<String> seen;
+
+        /**
+         * Element names.
+         */
+        private final Set<String> names;
+
+        /**
+         * Ctor.
+         * @param ids IDs seen
+         * @param elements Element names
+         */
+        Names(final Collection<String> ids, final String... elements) {
+            this.seen = ids;
+            this.names = new SetOf<>(elements);
+        }
+
+        @Override
+        public Set<String> elements() {
+            return this.names;
+        }
+
+        @Override
+        public void visit(final Element element, final String program,
+            final Collection<Defect> defects) {
+            this.seen.add(element.getAttribute("id"));
+            defects.add(
+                new Defect.Default(
+                    element.getNodeName(), Severity.WARNING, program, 0, "seen"
+                )
+            );
+        }
+    }
+}
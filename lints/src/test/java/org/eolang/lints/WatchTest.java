@@ -0,0 +1,297 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints;
+
+import com.yegor256.MayBeSlow;
+import com.yegor256.Mktmp;
+import com.yegor256.MktmpResolver;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.cactoos.io.InputOf;
+import org.eolang.parser.EoSyntax;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * Test for {@link Watch}.
+ *
+ * @since 0.1.0
+ */
+@ExtendWith(MktmpResolver.class)
+final class WatchTest {
+
+    @Test
+    @ExtendWith(MayBeSlow.class)
+    void reportsDefectsOfExistingFiles(@Mktmp final Path dir) throws Exception {
+        WatchTest.written(dir.resolve("foo.xmir"), "# First.\n[] > foo\n# Second.\n[] > foo\n");
+        final BlockingQueue<List<Collection<Defect>>> deltas = new LinkedBlockingQueue<>();
+        final Watch.Started watch = WatchTest.started(dir, deltas);
+        try {
+            MatcherAssert.assertThat(
+                "defects of existing files must be added",
+                WatchTest.rules(WatchTest.next(deltas).get(0)),
+                Matchers.hasItem("duplicate-names")
+            );
+        } finally {
+            watch.close();
+        }
+    }
+
+    @Test
+    @ExtendWith(MayBeSlow.class)
+    void reportsDeltaOfChangedFile(@Mktmp final Path dir) throws Exception {
+        final Path file = dir.resolve("org/bar.xmir");
+        WatchTest.written(file, "# First.\n[] > bar\n# Second.\n[] > bar\n");
+        final BlockingQueue<List<Collection<Defect>>> deltas = new LinkedBlockingQueue<>();
+        final Watch.Started watch = WatchTest.started(dir, deltas);
+        try {
+            WatchTest.next(deltas);
+            WatchTest.written(file, "# First.\n[] > bar\n# Second.\n[] > baz\n");
+            final List<Collection<Defect>> delta = WatchTest.next(deltas);
+            MatcherAssert.assertThat(
+                "fixed defect must be removed",
+                WatchTest.rules(delta.get(1)),
+                Matchers.hasItem("duplicate-names")
+            );
+            MatcherAssert.assertThat(
+                "defects of unchanged lines must not be reported again",
+                WatchTest.rules(delta.get(0)),
+                Matchers.not(Matchers.hasItem("mandatory-package"))
+            );
+        } finally {
+            watch.close();
+        }
+    }
+
+    @Test
+    @ExtendWith(MayBeSlow.class)
+    void removesDefectsOfDeletedFile(@Mktmp final Path dir) throws Exception {
+        final Path file = dir.resolve("deleted.xmir");
+        WatchTest.written(file, "# Deleted.\n[] > deleted\n");
+        final BlockingQueue<List<Collection<Defect>>> deltas = new LinkedBlockingQueue<>();
+        final Watch.Started watch = WatchTest.started(dir, deltas);
+        try {
+            final Collection<Defect> added = WatchTest.next(deltas).get(0);
+            Files.delete(file);
+            final List<Collection<Defect>> delta = WatchTest.next(deltas);
+            MatcherAssert.assertThat(
+                "all defects of deleted file must be removed",
+                delta.get(1),
+                Matchers.hasSize(added.size())
+            );
+        } finally {
+            watch.close();
+        }
+    }
+
+    @Test
+    @ExtendWith(MayBeSlow.class)
+    void removesDefectsOfDeletedDirectory(@Mktmp final Path dir, @Mktmp final Path away)
+        throws Exception {
+        WatchTest.written(dir.resolve("sub/deep/gone.xmir"), "# Gone.\n[] > gone\n");
+        final BlockingQueue<List<Collection<Defect>>> deltas = new LinkedBlockingQueue<>();
+        final Watch.Started watch = WatchTest.started(dir, deltas);
+        try {
+            final Collection<Defect> added = WatchTest.next(deltas).get(0);
+            Files.move(dir.resolve("sub"), away.resolve("sub"));
+            MatcherAssert.assertThat(
+                "all defects of files in deleted directory must be removed",
+                WatchTest.next(deltas).get(1),
+                Matchers.hasSize(added.size())
+            );
+        } finally {
+            watch.close();
+        }
+    }
+
+    @Test
+    void refusesFilesWithSameKeyInTwoDirectories(@Mktmp final Path first,
+        @Mktmp final Path second) throws Exception {
+        WatchTest.written(first.resolve("same.xmir"), "# Same.\n[] > same\n");
+        WatchTest.written(second.resolve("same.xmir"), "# Same.\n[] > same\n");
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new Watch(List.of(first, second), (added, removed) -> { }).start(),
+            "files with the same key must not be watched"
+        );
+    }
+
+    @Test
+    @ExtendWith(MayBeSlow.class)
+    void ignoresFileWithKeyOfAnotherDirectory(@Mktmp final Path first,
+        @Mktmp final Path second) throws Exception {
+        WatchTest.written(
+            first.resolve("twin.xmir"), "# First.\n[] > twin\n# Second.\n[] > twin\n"
+        );
+        final BlockingQueue<List<Collection<Defect>>> deltas = new LinkedBlockingQueue<>();
+        final Watch.Started watch = new Watch(
+            List.of(first, second),
+            (added, removed) -> deltas.add(List.of(added, removed)),
+            50L
+        ).start();
+        try {
+            WatchTest.next(deltas);
+            WatchTest.written(second.resolve("twin.xmir"), "# Twin.\n[] > twin\n");
+            WatchTest.written(first.resolve("other.xmir"), "# Other.\n[] > other\n");
+            MatcherAssert.assertThat(
+                "defects of the first file must not be replaced by its twin",
+                WatchTest.rules(WatchTest.next(deltas).get(1)),
+                Matchers.not(Matchers.hasItem("duplicate-names"))
+            );
+        } finally {
+            watch.close();
+        }
+    }
+
+    @Test
+    @ExtendWith(MayBeSlow.class)
+    void survivesFailedBurst(@Mktmp final Path dir) throws Exception {
+        final Path file = dir.resolve("again.xmir");
+        WatchTest.written(file, "# First.\n[] > again\n# Second.\n[] > again\n");
+        final BlockingQueue<List<Collection<Defect>>> deltas = new LinkedBlockingQueue<>();
+        final AtomicBoolean failed = new AtomicBoolean();
+        final Watch.Started watch = new Watch(
+            Collections.singleton(dir),
+            (added, removed) -> {
+                if (!failed.getAndSet(true)) {
+                    throw new IllegalStateException("listener failed");
+                }
+                deltas.add(List.of(added, removed));
+            },
+            50L
+        ).start();
+        try {
+            WatchTest.written(file, "# First.\n[] > again\n# Second.\n[] > other\n");
+            MatcherAssert.assertThat(
+                "changes must be reported after a failed burst",
+                WatchTest.next(deltas),
+                Matchers.hasSize(2)
+            );
+        } finally {
+            watch.close();
+        }
+    }
+
+    @Test
+    @ExtendWith(MayBeSlow.class)
+    void lintsGoodFileNextToBadOne(@Mktmp final Path dir) throws Exception {
+        Files.write(
+            dir.resolve("bad.xmir"),
+            String.join(
+                "",
+                "<program name='bad'><metas><meta><head>package</head><tail/>",
+                "</meta></metas><objects/></program>"
+            ).getBytes(StandardCharsets.UTF_8)
+        );
+        final Path good = dir.resolve("good.xmir");
+        WatchTest.written(good, "# First.\n[] > good\n# Second.\n[] > good\n");
+        final BlockingQueue<List<Collection<Defect>>> deltas = new LinkedBlockingQueue<>();
+        final Watch.Started watch = WatchTest.started(dir, deltas);
+        try {
+            MatcherAssert.assertThat(
+                "defects of the good file must be added, even if the bad one fails",
+                WatchTest.rules(WatchTest.next(deltas).get(0)),
+                Matchers.hasItem("duplicate-names")
+            );
+            WatchTest.written(good, "# First.\n[] > good\n# Second.\n[] > fine\n");
+            MatcherAssert.assertThat(
+                "defects of the good file must be removed, when it's fixed",
+                WatchTest.rules(WatchTest.next(deltas).get(1)),
+                Matchers.hasItem("duplicate-names")
+            );
+        } finally {
+            watch.close();
+        }
+    }
+
+    /**
+     * Start watching.
+     * @param dir The directory
+     * @param deltas Deltas, added and removed
+     * @return The watch
+     * @throws IOException If fails
+     */
+    private static Watch.Started started(final Path dir,
+        final BlockingQueue<List<Collection<Defect>>> deltas) throws IOException {
+        return new Watch(
+            Collections.singleton(dir),
+            (added, removed) -> deltas.add(List.of(added, removed)),
+            50L
+        ).start();
+    }
+
+    /**
+     * Wait for the next delta.
+     * @param deltas Deltas
+     * @return Added and removed defects
+     * @throws InterruptedException If interrupted
+     */
+    private static List<Collection<Defect>> next(
+        final BlockingQueue<List<Collection<Defect>>> deltas) throws InterruptedException {
+        final List<Collection<Defect>> delta = deltas.poll(1L, TimeUnit.MINUTES);
+        MatcherAssert.assertThat("delta must be reported", delta, Matchers.notNullValue());
+        return delta;
+    }
+
+    /**
+     * Rules of defects.
+     * @param defects Defects
+     * @return Rules
+     */
+    private static Collection<String> rules(final Collection<Defect> defects) {
+        final Collection<String> rules = new ArrayList<>(defects.size());
+        for (final Defect defect : defects) {
+            rules.add(defect.rule());
+        }
+        return rules;
+    }
+
+    /**
+     * Write XMIR of EO program.
+     * @param path The file
+     * @param source EO source
+     * @throws IOException If fails
+     */
+    private static void written(final Path path, final String source) throws IOException {
+        Files.createDirectories(path.getParent());
+        Files.write(
+            path,
+            new EoSyntax(new InputOf(source)).parsed().toString()
+                .getBytes(StandardCharsets.UTF_8)
+        );
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints;
+
+import com.yegor256.Mktmp;
+import com.yegor256.MktmpResolver;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import org.cactoos.io.InputOf;
+import org.eolang.parser.EoSyntax;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * Test for {@link XmirFiles}.
+ *
+ * @since 0.1.0
+ */
+@ExtendWith(MktmpResolver.class)
+final class XmirFilesTest {
+
+    @Test
+    void parsesAllXmirFiles(@Mktmp final Path dir) throws IOException {
+        XmirFilesTest.save(dir.resolve("foo.xmir"), "foo");
+        XmirFilesTest.save(dir.resolve("a/b/bar.xmir"), "bar");
+        XmirFilesTest.save(dir.resolve("a/baz.xmir"), "baz");
+        MatcherAssert.assertThat(
+            "all XMIR files must be parsed",
+            new XmirFiles(Collections.singleton(dir), 2).parsed().keySet(),
+            Matchers.contains("a/b/bar", "a/baz", "foo")
+        );
+    }
+
+    @Test
+    void ignoresOtherFiles(@Mktmp final Path dir) throws IOException {
+        XmirFilesTest.save(dir.resolve("foo.xmir"), "foo");
+        Files.write(dir.resolve("README.md"), "# Hello".getBytes(StandardCharsets.UTF_8));
+        Files.write(dir.resolve("foo.eo"), "[] > foo".getBytes(StandardCharsets.UTF_8));
+        MatcherAssert.assertThat(
+            "non-XMIR files must be ignored",
+            new XmirFiles(Collections.singleton(dir)).parsed().keySet(),
+            Matchers.contains("foo")
+        );
+    }
+
+    @Test
+    void rejectsDuplicateKeys(@Mktmp final Path dir) throws IOException {
+        XmirFilesTest.save(dir.resolve("first/foo.xmir"), "foo");
+        XmirFilesTest.save(dir.resolve("second/foo.xmir"), "foo");
+        MatcherAssert.assertThat(
+            "the message must mention the duplicate key",
+            Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> new XmirFiles(
+                    Arrays.asList(dir.resolve("first"), dir.resolve("second"))
+                ).paths()
+            ).getMessage(),
+            Matchers.containsString("'foo'")
+        );
+    }
+
+    @Test
+    void findsNothingInEmptyDirectory(@Mktmp final Path dir) throws IOException {
+        MatcherAssert.assertThat(
+            "nothing must be found",
+            new XmirFiles(Collections.singleton(dir)).parsed(),
+            Matchers.anEmptyMap()
+        );
+    }
+
+    /**
+     * Save XMIR of a simple program to the file.
+     * @param path The file
+     * @param name Name of the object
+     * @throws IOException If fails
+     */
+    private static void save(final Path path, final String name) throws IOException {
+        path.toFile().getParentFile().mkdirs();
+        Files.write(
+            path,
+            new EoSyntax(
+                new InputOf(String.format("# Object.\n[] > %s\n", name))
+            ).parsed().toString().getBytes(StandardCharsets.UTF_8)
+        );
+    }
+}
@@ -30,9 +30,13 @@ import com.yegor256.MktmpResolver;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import org.cactoos.io.InputOf;
 import org.cactoos.io.ResourceOf;
+import org.cactoos.iterable.Mapped;
+import org.cactoos.list.ListOf;
 import org.cactoos.map.MapEntry;
 import org.cactoos.map.MapOf;
+import org.eolang.lints.Defect;
 import org.eolang.lints.Programs;
 import org.eolang.parser.EoSyntax;
 import org.hamcrest.MatcherAssert;
@@ -69,6 +73,41 @@ final class LtIncorrectAliasTest {
         );
     }
 
+    @Test
+    void reportsLineOfEachAlias() throws IOException {
+        MatcherAssert.assertThat(
+            "Each alias must be reported at its own line",
+            new ListOf<>(
+                new Mapped<>(
+                    Defect::line,
+                    new LtIncorrectAlias().defects(
+                        new MapOf<String, XML>(
+                            new MapEntry<>(
+                                "foo",
+                                new EoSyntax(
+                                    new InputOf(
+                                        String.join(
+                                            "\n",
+                                            "+alias first",
+                                            "+alias org.eolang.second",
+                                            "+package ttt",
+                                            "+alias third",
+                                            "",
+                                            "# Foo.",
+                                            "[] > foo"
+                                        )
+                                    )
+                                ).parsed()
+                            ),
+                            new MapEntry<>("ttt/org.eolang.second", new XMLDocument("<program/>"))
+                        )
+                    )
+                )
+            ),
+            Matchers.contains(1, 4)
+        );
+    }
+
     @Test
     void passesIfFileExists() throws IOException {
         MatcherAssert.assertThat(
@@ -90,6 +129,30 @@ final class LtIncorrectAliasTest {
         );
     }
 
+    @Test
+    void ignoresAliasWithoutTail() throws IOException {
+        MatcherAssert.assertThat(
+            "An alias without a tail must not be reported",
+            new LtIncorrectAlias().defects(
+                new MapOf<String, XML>(
+                    new MapEntry<>(
+                        "foo",
+                        new XMLDocument(
+                            String.join(
+                                "",
+                                "<program name='foo'><metas>",
+                                "<meta line='1'><head>package</head><tail>ttt</tail></meta>",
+                                "<meta line='2'><head>alias</head></meta>",
+                                "</metas><objects/></program>"
+                            )
+                        )
+                    )
+                )
+            ),
+            Matchers.emptyIterable()
+        );
+    }
+
     @ParameterizedTest
     @ValueSource(
         strings = {
@@ -24,7 +24,12 @@
 package org.eolang.lints.errors;
 
 import com.jcabi.xml.XML;
+import com.jcabi.xml.XMLDocument;
+import java.util.HashMap;
+import java.util.Map;
 import org.cactoos.io.ResourceOf;
+import org.cactoos.iterable.Mapped;
+import org.cactoos.list.ListOf;
 import org.cactoos.map.MapEntry;
 import org.cactoos.map.MapOf;
 import org.eolang.parser.EoSyntax;
@@ -117,6 +122,73 @@ final class LtObjectIsNotUniqueTest {
         );
     }
 
+    @Test
+    void reportsEachDuplicateOncePerOtherProgram() throws Exception {
+        final Map<String, XML> pkg = new HashMap<>(0);
+        for (final String name : new String[] {"a", "b", "c"}) {
+            pkg.put(name, LtObjectIsNotUniqueTest.program(name, "x", "foo", name));
+        }
+        pkg.put("d", LtObjectIsNotUniqueTest.program("d", "y", "foo"));
+        MatcherAssert.assertThat(
+            "Each program must get a defect from each other program in the package",
+            new ListOf<>(
+                new Mapped<>(
+                    defect -> String.format(
+                        "%s:%d %s", defect.program(), defect.line(), defect.text()
+                    ),
+                    new LtObjectIsNotUnique().defects(pkg)
+                )
+            ),
+            Matchers.containsInAnyOrder(
+                "b:2 The object name 'foo' is not unique, original object was found in 'a'",
+                "c:2 The object name 'foo' is not unique, original object was found in 'a'",
+                "a:2 The object name 'foo' is not unique, original object was found in 'b'",
+                "c:2 The object name 'foo' is not unique, original object was found in 'b'",
+                "a:2 The object name 'foo' is not unique, original object was found in 'c'",
+                "b:2 The object name 'foo' is not unique, original object was found in 'c'"
+            )
+        );
+    }
+
+    @Test
+    void reportsFilesWithSameContent() throws Exception {
+        MatcherAssert.assertThat(
+            "Files with the same content must be reported, as any other two files",
+            new LtObjectIsNotUnique().defects(
+                new MapOf<String, XML>(
+                    new MapEntry<>("a", LtObjectIsNotUniqueTest.program("a", "x", "foo")),
+                    new MapEntry<>("b", LtObjectIsNotUniqueTest.program("a", "x", "foo"))
+                )
+            ),
+            Matchers.hasSize(2)
+        );
+    }
+
+    @Test
+    void lintsLargePackageWithoutDuplicates() throws Exception {
+        final Map<String, XML> pkg = new HashMap<>(0);
+        for (int idx = 0; idx < 1000; ++idx) {
+            final String name = String.format("p%d", idx);
+            pkg.put(name, LtObjectIsNotUniqueTest.program(name, "x", name));
+        }
+        MatcherAssert.assertThat(
+            "Defects aren't empty, but they should",
+            new LtObjectIsNotUnique().defects(pkg),
+            Matchers.emptyIterable()
+        );
+    }
+
+    private static XML program(final String name, final String pkg, final String... objects) {
+        final StringBuilder xml = new StringBuilder(0)
+            .append("<program name='").append(name).append("'><metas>")
+            .append("<meta><head>package</head><tail>").append(pkg).append("</tail></meta>")
+            .append("</metas><objects>");
+        for (final String object : objects) {
+            xml.append("<o line='2' name='").append(object).append("'/>");
+        }
+        return new XMLDocument(xml.append("</objects></program>").toString());
+    }
+
     private static XML xmir(final String name) throws Exception {
         return new EoSyntax(
             name,
@@ -23,8 +23,10 @@
  */
 package org.eolang.lints.misc;
 
+import com.jcabi.xml.XMLDocument;
 import com.yegor256.MayBeSlow;
 import java.io.IOException;
+import org.cactoos.io.InputOf;
 import org.cactoos.io.ResourceOf;
 import org.eolang.parser.EoSyntax;
 import org.hamcrest.MatcherAssert;
@@ -86,4 +88,55 @@ final class LtTestIsNotVerbTest {
             Matchers.hasSize(12)
         );
     }
+
+    @Test
+    void doesNotAskForVerbsWithoutTests() throws IOException {
+        MatcherAssert.assertThat(
+            "Defects are not empty, but they shouldn't be",
+            new LtTestNotVerb(
+                words -> {
+                    throw new IllegalStateException("verbs must not be asked for");
+                }
+            ).defects(
+                new EoSyntax(
+                    new InputOf(
+                        String.join(
+                            "\n",
+                            "# Application.",
+                            "[] > app",
+                            "  QQ.io.stdout > @",
+                            "    \"Hello\""
+                        )
+                    )
+                ).parsed()
+            ),
+            Matchers.emptyIterable()
+        );
+    }
+
+    @Test
+    void reportsNameWithoutFirstWord() throws IOException {
+        MatcherAssert.assertThat(
+            "The name without the first word must be reported",
+            new LtTestNotVerb(new VerbLexicon()).defects(
+                new XMLDocument(
+                    String.join(
+                        "",
+                        "<program name='foo'><metas><meta><head>tests</head></meta></metas>",
+                        "<objects><o name='-foo' line='3'/></objects></program>"
+                    )
+                )
+            ),
+            Matchers.hasSize(1)
+        );
+    }
+
+    @Test
+    void usesLexiconWithoutTagger() {
+        MatcherAssert.assertThat(
+            "the lexicon must be used, when there is no tagger on the classpath",
+            new LtTestNotVerb().engine(),
+            Matchers.equalTo(VerbLexicon.class.getName())
+        );
+    }
 }
@@ -0,0 +1,60 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.lints.misc;
+
+import java.util.Arrays;
+import org.cactoos.io.InputOf;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test for {@link VerbLexicon}.
+ *
+ * @since 0.1.0
+ */
+final class VerbLexiconTest {
+
+    @Test
+    void findsVerbsInSingular() {
+        MatcherAssert.assertThat(
+            "verbs in singular must be found",
+            new VerbLexicon().singular(
+                Arrays.asList("returns", "is", "has", "regex", "nothing", "always", "parses")
+            ),
+            Matchers.containsInAnyOrder("returns", "is", "has", "parses")
+        );
+    }
+
+    @Test
+    void prefersLexiconToRule() {
+        MatcherAssert.assertThat(
+            "exceptions from the lexicon must win over the rule",
+            new VerbLexicon(
+                new InputOf("# comment\n+go\n-goes\n\n")
+            ).singular(Arrays.asList("go", "goes", "does", "do", "goodness")),
+            Matchers.containsInAnyOrder("go", "does")
+        );
+    }
+}